@@ -0,0 +1,186 @@
+package org.hamcrest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Collects assertions so that they are all checked together, and reports every
+ * one that fails rather than just the first.
+ * <p/>
+ * For example:
+ * <pre>
+ * SoftAssertions softly = new SoftAssertions();
+ * softly.checkThat("name", person.getName(), equalTo("Joe"));
+ * softly.checkThat("age", person.getAge(), greaterThan(18));
+ * softly.assertAll();</pre>
+ * Nothing is matched until {@link #assertAll()}, which can match independent
+ * checks on the threads of an {@link ExecutorService}. Only the checks that fail
+ * are described.
+ */
+public class SoftAssertions {
+    private final ExecutorService executor;
+    private final List<Check<?>> checks = new ArrayList<Check<?>>();
+
+    /**
+     * Creates assertions that are checked, in order, on the thread that calls {@link #assertAll()}.
+     */
+    public SoftAssertions() {
+        this(null);
+    }
+
+    /**
+     * Creates assertions that are checked on the threads of the executor, so
+     * the matchers must not depend on each other or on the calling thread.
+     *
+     * @param executor Runs the checks, or null to run them on the calling thread
+     */
+    public SoftAssertions(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    public <T> SoftAssertions checkThat(T actual, Matcher<? super T> matcher) {
+        return checkThat("", actual, matcher);
+    }
+
+    /**
+     * Adds a check that the actual value satisfies the matcher. The value is held
+     * by reference and only matched by {@link #assertAll()}.
+     */
+    public <T> SoftAssertions checkThat(String reason, T actual, Matcher<? super T> matcher) {
+        checks.add(new Check<T>(reason, actual, matcher));
+        return this;
+    }
+
+    /**
+     * Checks every assertion added since the last call.
+     *
+     * @throws AssertionError describing the one check that failed
+     * @throws MultipleFailuresError describing each of several checks that failed
+     */
+    public void assertAll() {
+        final List<Check<?>> pending = new ArrayList<Check<?>>(checks);
+        checks.clear();
+
+        final List<AssertionError> failures = executor == null ? checkInOrder(pending) : checkInParallel(pending);
+        if (failures.size() == 1) {
+            throw failures.get(0);
+        }
+        if (!failures.isEmpty()) {
+            throw new MultipleFailuresError(pending.size(), failures);
+        }
+    }
+
+    private static List<AssertionError> checkInOrder(List<Check<?>> pending) {
+        final List<AssertionError> failures = new ArrayList<AssertionError>();
+        for (Check<?> check : pending) {
+            final AssertionError failure = check.call();
+            if (failure != null) {
+                failures.add(failure);
+            }
+        }
+        return failures;
+    }
+
+    private List<AssertionError> checkInParallel(List<Check<?>> pending) {
+        final List<Future<AssertionError>> results = new ArrayList<Future<AssertionError>>(pending.size());
+        for (Check<?> check : pending) {
+            results.add(executor.submit(check));
+        }
+
+        final List<AssertionError> failures = new ArrayList<AssertionError>();
+        boolean interrupted = false;
+        try {
+            for (Future<AssertionError> result : results) {
+                while (true) {
+                    try {
+                        final AssertionError failure = result.get();
+                        if (failure != null) {
+                            failures.add(failure);
+                        }
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    } catch (ExecutionException e) {
+                        final Throwable cause = e.getCause();
+                        if (cause instanceof RuntimeException) {
+                            throw (RuntimeException) cause;
+                        }
+                        if (cause instanceof Error) {
+                            throw (Error) cause;
+                        }
+                        throw new RuntimeException(cause);
+                    }
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return failures;
+    }
+
+    private static final class Check<T> implements Callable<AssertionError> {
+        private final String reason;
+        private final T actual;
+        private final Matcher<? super T> matcher;
+
+        Check(String reason, T actual, Matcher<? super T> matcher) {
+            this.reason = reason;
+            this.actual = actual;
+            this.matcher = matcher;
+        }
+
+        /**
+         * @return the failure, or null if the actual value satisfies the matcher
+         */
+        @Override
+        public AssertionError call() {
+            if (matcher.matches(actual)) {
+                return null;
+            }
+            final StringDescription description = StringDescription.borrow();
+            try {
+                return MatcherAssert.failure(reason, actual, matcher, description);
+            } finally {
+                description.release();
+            }
+        }
+    }
+
+    /**
+     * Reports several failed assertions at once. Its message describes each
+     * failure, in the order the assertions were added.
+     */
+    public static class MultipleFailuresError extends AssertionError {
+        private static final long serialVersionUID = 1L;
+        private final List<AssertionError> failures;
+
+        public MultipleFailuresError(int checkCount, List<AssertionError> failures) {
+            super(messageFor(checkCount, failures));
+            this.failures = Collections.unmodifiableList(new ArrayList<AssertionError>(failures));
+        }
+
+        /**
+         * Returns the failures, each as {@link MatcherAssert#assertThat(String, Object, Matcher)} would have thrown it.
+         */
+        public List<AssertionError> getFailures() {
+            return failures;
+        }
+
+        private static String messageFor(int checkCount, List<AssertionError> failures) {
+            final StringBuilder message = new StringBuilder();
+            message.append(failures.size()).append(" of ").append(checkCount).append(" assertions failed");
+            int number = 1;
+            for (AssertionError failure : failures) {
+                message.append("\n\n").append(number++).append(") ").append(failure.getMessage());
+            }
+            return message.toString();
+        }
+    }
+}
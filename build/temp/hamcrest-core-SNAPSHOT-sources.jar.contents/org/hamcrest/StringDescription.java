@@ -0,0 +1,151 @@
+package org.hamcrest;
+
+import java.io.IOException;
+
+/**
+ * A {@link Description} that is stored as a string.
+ * <p/>
+ * Code that renders a description only to turn it straight into a String can
+ * {@link #borrow()} a description that is reused by the current thread, rather
+ * than create a new one each time.
+ */
+public class StringDescription extends BaseDescription {
+    /**
+     * Pooled descriptions that have grown beyond this capacity are discarded
+     * when released, so one huge description does not stay pinned to a thread.
+     */
+    public static final int MAX_POOLED_CAPACITY = 16 * 1024;
+
+    private static final ThreadLocal<StringDescription> POOLED = new ThreadLocal<StringDescription>() {
+        @Override
+        protected StringDescription initialValue() {
+            return new StringDescription(new StringBuilder(), true);
+        }
+    };
+
+    private final Appendable out;
+    private final StringBuilder ownBuffer;
+    private final boolean isPooled;
+    private boolean isBorrowed = false;
+
+    public StringDescription() {
+        this(new StringBuilder(), false);
+    }
+
+    public StringDescription(Appendable out) {
+        this.out = out;
+        this.ownBuffer = null;
+        this.isPooled = false;
+    }
+
+    private StringDescription(StringBuilder buffer, boolean isPooled) {
+        this.out = buffer;
+        this.ownBuffer = buffer;
+        this.isPooled = isPooled;
+    }
+
+    /**
+     * Returns an empty description for the current thread to use and then
+     * {@link #release()}. The same description is handed out again after it
+     * is released; if it is still in use, for instance by a matcher that
+     * renders another matcher while describing itself, a new one is returned.
+     */
+    public static StringDescription borrow() {
+        final StringDescription pooled = POOLED.get();
+        if (pooled.isBorrowed) {
+            return new StringDescription();
+        }
+        pooled.isBorrowed = true;
+        return pooled;
+    }
+
+    /**
+     * Returns a description obtained from {@link #borrow()} for reuse. The
+     * description must not be used afterwards. Releasing a description that
+     * was not borrowed has no effect.
+     */
+    public void release() {
+        if (!isPooled || !isBorrowed) {
+            return;
+        }
+        isBorrowed = false;
+        if (ownBuffer.capacity() > MAX_POOLED_CAPACITY) {
+            POOLED.remove();
+        } else {
+            reset();
+        }
+    }
+
+    /**
+     * Empties the description so that it can be used again.
+     *
+     * @throws UnsupportedOperationException if the description was created to write to an
+     *         {@link Appendable}, which it cannot empty
+     */
+    public StringDescription reset() {
+        if (null == ownBuffer) {
+            throw new UnsupportedOperationException("cannot reset a description of an Appendable");
+        }
+        ownBuffer.setLength(0);
+        return this;
+    }
+    
+    /**
+     * Return the description of a {@link SelfDescribing} object as a String.
+     * 
+     * @param selfDescribing
+     *   The object to be described.
+     * @return
+     *   The description of the object.
+     */
+    public static String toString(SelfDescribing selfDescribing) {
+        final StringDescription description = borrow();
+        try {
+            return description.appendDescriptionOf(selfDescribing).toString();
+        } finally {
+            description.release();
+        }
+    }
+
+    /**
+     * Alias for {@link #toString(SelfDescribing)}.
+     */
+    public static String asString(SelfDescribing selfDescribing) {
+        return toString(selfDescribing);
+    }
+
+    @Override
+    protected void append(String str) {
+        try {
+            out.append(str);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write description", e);
+        }
+    }
+
+    @Override
+    protected void append(String str, int start, int end) {
+        try {
+            out.append(str, start, end);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write description", e);
+        }
+    }
+
+    @Override
+    protected void append(char c) {
+        try {
+            out.append(c);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write description", e);
+        }
+    }
+    
+    /**
+     * Returns the description as a string.
+     */
+    @Override
+    public String toString() {
+        return out.toString();
+    }
+}
@@ -0,0 +1,462 @@
+package org.hamcrest;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A {@link Description} that records what is appended to it as a tree of
+ * events, rather than as text, so that tools can tell which part of a
+ * mismatch failed without parsing a rendered message.
+ * <p/>
+ * The events are plain text, values, the description of a nested
+ * {@link SelfDescribing} such as a matcher, lists of values or of nested
+ * descriptions, and the segments of a mismatch path, which matchers that
+ * look at part of an object, such as {@link FeatureMatcher}, open with
+ * {@link #beginPath(String)} around their mismatch. Values are held by
+ * reference and only turned into text when the description is rendered, so a
+ * value that changes in the meantime is rendered as it is then.
+ * <p/>
+ * A description can be rendered as text with {@link #renderTo(Description)}
+ * or {@link #toString()}, or written directly as JSON with
+ * {@link #writeJsonTo(Appendable)} or in a compact binary form with
+ * {@link #writeTo(DataOutput)}.
+ */
+public class StructuredDescription implements Description {
+    private static final byte END = 0;
+    private static final byte TEXT = 1;
+    private static final byte VALUE = 2;
+    private static final byte DESCRIBING = 3;
+    private static final byte LIST = 4;
+    private static final byte PATH = 5;
+
+    private byte[] kinds = new byte[16];
+    private Object[] arguments = new Object[16];
+    private int size = 0;
+    private int openPaths = 0;
+
+    @Override
+    public Description appendText(String text) {
+        add(TEXT, text);
+        return this;
+    }
+
+    @Override
+    public Description appendDescriptionOf(SelfDescribing value) {
+        add(DESCRIBING, value);
+        value.describeTo(this);
+        add(END, null);
+        return this;
+    }
+
+    @Override
+    public Description appendValue(Object value) {
+        add(VALUE, value);
+        return this;
+    }
+
+    @Override
+    public <T> Description appendValueList(String start, String separator, String end, T... values) {
+        return appendValueList(start, separator, end, Arrays.asList(values));
+    }
+
+    @Override
+    public <T> Description appendValueList(String start, String separator, String end, Iterable<T> values) {
+        add(LIST, new String[] {start, separator, end});
+        for (T value : values) {
+            add(VALUE, value);
+        }
+        add(END, null);
+        return this;
+    }
+
+    @Override
+    public Description appendList(String start, String separator, String end, Iterable<? extends SelfDescribing> values) {
+        add(LIST, new String[] {start, separator, end});
+        for (Iterator<? extends SelfDescribing> i = values.iterator(); i.hasNext(); ) {
+            appendDescriptionOf(i.next());
+        }
+        add(END, null);
+        return this;
+    }
+
+    /**
+     * Starts a segment of the mismatch path, such as the name of the feature
+     * or property whose mismatch is described next. Every segment must be
+     * ended with {@link #endPath()}. Paths add nothing to the rendered text.
+     */
+    @Override
+    public StructuredDescription beginPath(String segment) {
+        add(PATH, segment);
+        openPaths++;
+        return this;
+    }
+
+    /**
+     * Ends the segment of the mismatch path most recently begun.
+     *
+     * @throws IllegalStateException if there is no segment to end
+     */
+    @Override
+    public StructuredDescription endPath() {
+        if (openPaths == 0) {
+            throw new IllegalStateException("no path to end");
+        }
+        openPaths--;
+        add(END, null);
+        return this;
+    }
+
+    /**
+     * Returns the complete mismatch paths recorded in the description, with
+     * their segments separated by dots, such as <code>"address.city"</code>.
+     * A path is complete when no further segment was begun inside it.
+     */
+    public List<String> mismatchPaths() {
+        final List<String> paths = new ArrayList<String>();
+        final List<String> segments = new ArrayList<String>();
+        final List<Boolean> isPath = new ArrayList<Boolean>();
+        boolean hasInnerPath = false;
+        for (int i = 0; i < size; i++) {
+            switch (kinds[i]) {
+                case PATH:
+                    segments.add((String) arguments[i]);
+                    isPath.add(Boolean.TRUE);
+                    hasInnerPath = false;
+                    break;
+                case DESCRIBING:
+                case LIST:
+                    isPath.add(Boolean.FALSE);
+                    break;
+                case END:
+                    if (!isPath.isEmpty() && isPath.remove(isPath.size() - 1)) {
+                        if (!hasInnerPath) {
+                            paths.add(join(segments));
+                        }
+                        segments.remove(segments.size() - 1);
+                        hasInnerPath = true;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * Replays the recorded events as plain text onto another description,
+     * for instance a {@link StringDescription} to show to a person, along with
+     * the segments of mismatch paths, which only descriptions that record
+     * them keep.
+     */
+    public void renderTo(Description description) {
+        int index = 0;
+        while (index < size) {
+            index = kinds[index] == END ? index + 1 : renderEvent(index, description);
+        }
+    }
+
+    private int renderEvent(int index, Description description) {
+        final Object argument = arguments[index];
+        switch (kinds[index]) {
+            case TEXT:
+                description.appendText((String) argument);
+                return index + 1;
+            case VALUE:
+                description.appendValue(argument);
+                return index + 1;
+            case LIST:
+                final String[] punctuation = (String[]) argument;
+                description.appendText(punctuation[0]);
+                int item = index + 1;
+                boolean separate = false;
+                while (item < size && kinds[item] != END) {
+                    if (separate) description.appendText(punctuation[1]);
+                    item = renderEvent(item, description);
+                    separate = true;
+                }
+                description.appendText(punctuation[2]);
+                return item + 1;
+            case PATH:
+                description.beginPath((String) argument);
+                final int end = renderChildren(index, description);
+                description.endPath();
+                return end;
+            default:
+                return renderChildren(index, description);
+        }
+    }
+
+    private int renderChildren(int index, Description description) {
+        int child = index + 1;
+        while (child < size && kinds[child] != END) {
+            child = renderEvent(child, description);
+        }
+        return child + 1;
+    }
+
+    /**
+     * Writes the recorded events as a JSON array of objects, one for each
+     * event:
+     * <pre>
+     * {"text":"..."}
+     * {"value":"&lt;rendered value&gt;","type":"java.lang.Integer"}
+     * {"describing":"org.hamcrest.core.IsEqual","events":[...]}
+     * {"start":"[","separator":", ","end":"]","items":[...]}
+     * {"path":"segment","events":[...]}</pre>
+     * The type of a null value is omitted.
+     */
+    public void writeJsonTo(Appendable out) throws IOException {
+        final JsonStringDescription valueText = new JsonStringDescription(out);
+        try {
+            out.append('[');
+            writeJsonEvents(0, out, valueText);
+            out.append(']');
+        } catch (JsonWriteFailure e) {
+            throw e.getCause();
+        }
+    }
+
+    private int writeJsonEvents(int index, Appendable out, JsonStringDescription valueText) throws IOException {
+        boolean separate = false;
+        while (index < size && kinds[index] != END) {
+            if (separate) out.append(',');
+            index = writeJsonEvent(index, out, valueText);
+            separate = true;
+        }
+        return index + 1;
+    }
+
+    private int writeJsonEvent(int index, Appendable out, JsonStringDescription valueText) throws IOException {
+        final Object argument = arguments[index];
+        switch (kinds[index]) {
+            case TEXT:
+                out.append("{\"text\":");
+                writeJsonString(out, (String) argument);
+                out.append('}');
+                return index + 1;
+            case VALUE:
+                out.append("{\"value\":\"");
+                valueText.appendValue(argument);
+                out.append('"');
+                if (argument != null) {
+                    out.append(",\"type\":");
+                    writeJsonString(out, argument.getClass().getName());
+                }
+                out.append('}');
+                return index + 1;
+            case DESCRIBING:
+                out.append("{\"describing\":");
+                writeJsonString(out, argument.getClass().getName());
+                break;
+            case LIST:
+                final String[] punctuation = (String[]) argument;
+                out.append("{\"start\":");
+                writeJsonString(out, punctuation[0]);
+                out.append(",\"separator\":");
+                writeJsonString(out, punctuation[1]);
+                out.append(",\"end\":");
+                writeJsonString(out, punctuation[2]);
+                out.append(",\"items\":[");
+                final int next = writeJsonEvents(index + 1, out, valueText);
+                out.append("]}");
+                return next;
+            default:
+                out.append("{\"path\":");
+                writeJsonString(out, (String) argument);
+                break;
+        }
+        out.append(",\"events\":[");
+        final int next = writeJsonEvents(index + 1, out, valueText);
+        out.append("]}");
+        return next;
+    }
+
+    private static void writeJsonString(Appendable out, String text) throws IOException {
+        out.append('"');
+        writeJsonChars(out, text, 0, text.length());
+        out.append('"');
+    }
+
+    private static void writeJsonChars(Appendable out, String text, int start, int end) throws IOException {
+        int runStart = start;
+        for (int i = start; i < end; i++) {
+            final char ch = text.charAt(i);
+            if (ch < 0x20 || ch == '"' || ch == '\\') {
+                out.append(text, runStart, i);
+                writeJsonEscape(out, ch);
+                runStart = i + 1;
+            }
+        }
+        out.append(text, runStart, end);
+    }
+
+    private static void writeJsonEscape(Appendable out, char ch) throws IOException {
+        switch (ch) {
+            case '"':  out.append("\\\""); break;
+            case '\\': out.append("\\\\"); break;
+            case '\n': out.append("\\n"); break;
+            case '\r': out.append("\\r"); break;
+            case '\t': out.append("\\t"); break;
+            default:
+                out.append("\\u00");
+                out.append(Character.forDigit(ch >> 4, 16));
+                out.append(Character.forDigit(ch & 0xF, 16));
+        }
+    }
+
+    /**
+     * Writes the recorded events in a compact binary form. Each event is its
+     * kind as a byte followed by its content, and the events end with a
+     * zero byte:
+     * <pre>
+     * 1 text       the text
+     * 2 value      the class name of the value, empty for null, then the rendered value
+     * 3 describing the class name of the described object, then its events
+     * 4 list       the start, separator and end, then the items
+     * 5 path       the segment, then its events</pre>
+     * The events of a nested description, list or path also end with a zero
+     * byte. Each string is written as its length in chars followed by each
+     * char, all as unsigned variable length integers of seven bits per byte,
+     * so ASCII text takes one byte per char.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        final StringBuilder valueText = new StringBuilder();
+        final StringDescription valueDescription = new StringDescription(valueText);
+        for (int i = 0; i < size; i++) {
+            final Object argument = arguments[i];
+            out.writeByte(kinds[i]);
+            switch (kinds[i]) {
+                case TEXT:
+                case PATH:
+                    writeString(out, (String) argument);
+                    break;
+                case VALUE:
+                    writeString(out, argument == null ? "" : argument.getClass().getName());
+                    valueText.setLength(0);
+                    valueDescription.appendValue(argument);
+                    writeString(out, valueText);
+                    break;
+                case DESCRIBING:
+                    writeString(out, argument.getClass().getName());
+                    break;
+                case LIST:
+                    final String[] punctuation = (String[]) argument;
+                    writeString(out, punctuation[0]);
+                    writeString(out, punctuation[1]);
+                    writeString(out, punctuation[2]);
+                    break;
+                default:
+                    break;
+            }
+        }
+        out.writeByte(END);
+    }
+
+    private static void writeString(DataOutput out, CharSequence text) throws IOException {
+        final int length = text.length();
+        writeVarInt(out, length);
+        for (int i = 0; i < length; i++) {
+            writeVarInt(out, text.charAt(i));
+        }
+    }
+
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    /**
+     * Renders the recorded events as plain text.
+     */
+    @Override
+    public String toString() {
+        final StringDescription description = StringDescription.borrow();
+        try {
+            renderTo(description);
+            return description.toString();
+        } finally {
+            description.release();
+        }
+    }
+
+    private void add(byte kind, Object argument) {
+        if (size == kinds.length) {
+            final byte[] newKinds = new byte[size * 2];
+            final Object[] newArguments = new Object[size * 2];
+            System.arraycopy(kinds, 0, newKinds, 0, size);
+            System.arraycopy(arguments, 0, newArguments, 0, size);
+            kinds = newKinds;
+            arguments = newArguments;
+        }
+        kinds[size] = kind;
+        arguments[size] = argument;
+        size++;
+    }
+
+    private static String join(List<String> segments) {
+        final StringBuilder path = new StringBuilder();
+        for (String segment : segments) {
+            if (path.length() > 0) path.append('.');
+            path.append(segment);
+        }
+        return path.toString();
+    }
+
+    /**
+     * Renders values with the usual formatting, escaped for a JSON string, straight onto the output.
+     */
+    private static final class JsonStringDescription extends BaseDescription {
+        private final Appendable out;
+
+        JsonStringDescription(Appendable out) {
+            this.out = out;
+        }
+
+        @Override
+        protected void append(String str) {
+            append(str, 0, str.length());
+        }
+
+        @Override
+        protected void append(String str, int start, int end) {
+            try {
+                writeJsonChars(out, str, start, end);
+            } catch (IOException e) {
+                throw new JsonWriteFailure(e);
+            }
+        }
+
+        @Override
+        protected void append(char c) {
+            try {
+                if (c < 0x20 || c == '"' || c == '\\') {
+                    writeJsonEscape(out, c);
+                } else {
+                    out.append(c);
+                }
+            } catch (IOException e) {
+                throw new JsonWriteFailure(e);
+            }
+        }
+    }
+
+    private static final class JsonWriteFailure extends RuntimeException {
+        JsonWriteFailure(IOException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IOException getCause() {
+            return (IOException) super.getCause();
+        }
+    }
+}
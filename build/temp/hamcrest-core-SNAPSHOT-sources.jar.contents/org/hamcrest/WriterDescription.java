@@ -0,0 +1,144 @@
+package org.hamcrest;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+
+/**
+ * A {@link Description} that is written out as it is built, rather than held
+ * in memory, so that it can describe arbitrarily large values in constant
+ * space.
+ * <p/>
+ * Characters are collected in a fixed size buffer, which is written to the
+ * underlying {@link Writer}, or encoded onto a {@link WritableByteChannel},
+ * each time it fills. Text that would fill an empty buffer is written straight
+ * through. Call {@link #flush()} when the description is complete.
+ */
+public class WriterDescription extends BaseDescription implements Flushable {
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final Writer out;
+    private final char[] buffer;
+    private int count = 0;
+
+    public WriterDescription(Writer out) {
+        this(out, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param out Where to write the description
+     * @param bufferSize The number of characters to collect before writing them
+     */
+    public WriterDescription(Writer out, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("buffer size must be positive");
+        }
+        this.out = out;
+        this.buffer = new char[bufferSize];
+    }
+
+    /**
+     * @param channel Where to write the description
+     * @param charset How to encode the description
+     */
+    public WriterDescription(WritableByteChannel channel, Charset charset) {
+        this(Channels.newWriter(channel, charset.newEncoder(), DEFAULT_BUFFER_SIZE), DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Appends a range of characters as plain text, without copying them into a String first.
+     */
+    public Description appendText(char[] text, int offset, int length) {
+        int start = offset;
+        final int end = offset + length;
+        while (start < end) {
+            if (count == 0 && end - start >= buffer.length) {
+                write(text, start, end - start);
+                return this;
+            }
+            final int chunk = Math.min(buffer.length - count, end - start);
+            System.arraycopy(text, start, buffer, count, chunk);
+            count += chunk;
+            start += chunk;
+            if (count == buffer.length) {
+                writeBuffer();
+            }
+        }
+        return this;
+    }
+
+    @Override
+    protected void append(String str) {
+        append(str, 0, str.length());
+    }
+
+    @Override
+    protected void append(String str, int offset, int end) {
+        int start = offset;
+        while (start < end) {
+            if (count == 0 && end - start >= buffer.length) {
+                try {
+                    out.write(str, start, end - start);
+                } catch (IOException e) {
+                    throw new RuntimeException("Could not write description", e);
+                }
+                return;
+            }
+            final int chunk = Math.min(buffer.length - count, end - start);
+            str.getChars(start, start + chunk, buffer, count);
+            count += chunk;
+            start += chunk;
+            if (count == buffer.length) {
+                writeBuffer();
+            }
+        }
+    }
+
+    @Override
+    protected void append(char c) {
+        if (count == buffer.length) {
+            writeBuffer();
+        }
+        buffer[count++] = c;
+    }
+
+    /**
+     * Writes any buffered characters, and flushes the underlying writer or channel.
+     */
+    @Override
+    public void flush() {
+        writeBuffer();
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write description", e);
+        }
+    }
+
+    private void writeBuffer() {
+        if (count > 0) {
+            write(buffer, 0, count);
+            count = 0;
+        }
+    }
+
+    private void write(char[] chars, int offset, int length) {
+        try {
+            out.write(chars, offset, length);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write description", e);
+        }
+    }
+
+    /**
+     * Describes where the description is written, without writing anything: only
+     * {@link #flush()} writes the buffered characters.
+     */
+    @Override
+    public String toString() {
+        return "description written to " + out.getClass().getName();
+    }
+}
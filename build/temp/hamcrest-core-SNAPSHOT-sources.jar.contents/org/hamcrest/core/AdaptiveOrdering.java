@@ -0,0 +1,88 @@
+package org.hamcrest.core;
+
+import org.hamcrest.Matcher;
+
+/**
+ * Evaluates the children of a {@link ShortcutCompositeMatcher} in the order that is expected
+ * to reach the shortcut result soonest. Every {@value #SAMPLE_INTERVAL}th evaluation is a
+ * sample, in which every child is evaluated and its time and outcome recorded. After every
+ * {@value #SAMPLES_PER_REORDER} samples the children are sorted by their cost per shortcut
+ * outcome, which is the optimal order for independent children, and the statistics are halved
+ * so that the order follows changes in the examined data.
+ * <p/>
+ * The statistics are updated without synchronisation, so concurrent use may lose some samples,
+ * but each evaluation uses a complete, immutable ordering of the children.
+ */
+final class AdaptiveOrdering {
+    private static final int SAMPLE_INTERVAL = 64;
+    private static final int SAMPLES_PER_REORDER = 16;
+
+    private final Matcher<?>[] matchers;
+    private final boolean shortcut;
+    private final long[] nanos;
+    private final long[] shortcuts;
+    private int evaluations = 0;
+    private int samples = 0;
+    private volatile int[] order;
+
+    public AdaptiveOrdering(Matcher<?>[] matchers, boolean shortcut) {
+        this.matchers = matchers;
+        this.shortcut = shortcut;
+        this.nanos = new long[matchers.length];
+        this.shortcuts = new long[matchers.length];
+        this.order = new int[matchers.length];
+        for (int i = 0; i < matchers.length; i++) {
+            order[i] = i;
+        }
+    }
+
+    public boolean matches(Object item) {
+        if (++evaluations % SAMPLE_INTERVAL == 0) {
+            return sample(item);
+        }
+        for (int index : order) {
+            if (matchers[index].matches(item) == shortcut) {
+                return shortcut;
+            }
+        }
+        return !shortcut;
+    }
+
+    private boolean sample(Object item) {
+        boolean result = !shortcut;
+        for (int i = 0; i < matchers.length; i++) {
+            final long start = System.nanoTime();
+            final boolean matches = matchers[i].matches(item);
+            nanos[i] += System.nanoTime() - start;
+            if (matches == shortcut) {
+                shortcuts[i]++;
+                result = shortcut;
+            }
+        }
+        if (++samples % SAMPLES_PER_REORDER == 0) {
+            reorder();
+        }
+        return result;
+    }
+
+    private void reorder() {
+        final double[] costPerShortcut = new double[matchers.length];
+        for (int i = 0; i < matchers.length; i++) {
+            costPerShortcut[i] = nanos[i] / (shortcuts[i] + 0.5);
+            nanos[i] /= 2;
+            shortcuts[i] /= 2;
+        }
+
+        // Stable insertion sort: there are few children, and ties keep declaration order
+        final int[] newOrder = new int[matchers.length];
+        for (int i = 0; i < newOrder.length; i++) {
+            int j = i;
+            while (j > 0 && costPerShortcut[newOrder[j - 1]] > costPerShortcut[i]) {
+                newOrder[j] = newOrder[j - 1];
+                j--;
+            }
+            newOrder[j] = i;
+        }
+        order = newOrder;
+    }
+}
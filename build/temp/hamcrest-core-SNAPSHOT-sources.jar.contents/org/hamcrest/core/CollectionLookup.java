@@ -0,0 +1,56 @@
+package org.hamcrest.core;
+
+import org.hamcrest.internal.ImmutableValues;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Asks a collection whether it contains a value, instead of searching it,
+ * when the collection is known to answer with a hash lookup or a search of a
+ * sorted tree, and to give the same answer as {@link IsEqual}.
+ * <p/>
+ * That is only certain for immutable JDK values (see {@link ImmutableValues}),
+ * whose <code>equals</code> is symmetric and consistent with their
+ * <code>hashCode</code> and, except for {@link BigDecimal}, with their natural
+ * ordering.
+ */
+final class CollectionLookup {
+    private static final Set<String> HASHED_KEY_SETS = new HashSet<String>(Arrays.asList(
+        "java.util.HashMap$KeySet",
+        "java.util.LinkedHashMap$LinkedKeySet",
+        "java.util.concurrent.ConcurrentHashMap$KeySet",
+        "java.util.concurrent.ConcurrentHashMap$KeySetView"));
+
+    private CollectionLookup() { }
+
+    /**
+     * @return whether the iterable contains the value, or null if it must be searched to find out
+     */
+    public static Boolean contains(Iterable<?> iterable, Object value) {
+        if (!ImmutableValues.isImmutable(value)) {
+            return null;
+        }
+        final Class<?> type = iterable.getClass();
+        if (type == HashSet.class || type == LinkedHashSet.class || HASHED_KEY_SETS.contains(type.getName())) {
+            return ((Collection<?>) iterable).contains(value);
+        }
+        if (type == TreeSet.class && isNaturallyOrdered((TreeSet<?>) iterable, value)) {
+            try {
+                return ((TreeSet<?>) iterable).contains(value);
+            } catch (ClassCastException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isNaturallyOrdered(TreeSet<?> set, Object value) {
+        return null == set.comparator() && null != value && !(value instanceof BigDecimal);
+    }
+}
@@ -0,0 +1,118 @@
+package org.hamcrest.core;
+
+import org.hamcrest.BoundedDescription;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Matches an {@link Iterable} that yields, for each of a number of item
+ * matchers, at least one item satisfying that matcher. The iterable is
+ * traversed once, trying each item against only those matchers that are not
+ * yet satisfied, and the traversal stops as soon as they all are. As with
+ * <code>allOf(hasItem(...), ...)</code>, a mismatch describes only the first
+ * item matcher that is not satisfied. The items are kept while describing, so
+ * that the iterable is not traversed a second time.
+ * <p/>
+ * Plain {@link IsEqual} item matchers are first looked up in the examined
+ * collection, where it can do that itself (see {@link CollectionLookup}), and
+ * the traversal is skipped if that satisfies them all.
+ *
+ * @see IsCollectionContaining#hasItems(Matcher[])
+ */
+public class IsCollectionContainingAll<T> extends TypeSafeDiagnosingMatcher<Iterable<T>> {
+    private final List<Matcher<? super T>> itemMatchers;
+
+    public IsCollectionContainingAll(List<Matcher<? super T>> itemMatchers) {
+        this.itemMatchers = new ArrayList<Matcher<? super T>>(itemMatchers);
+    }
+
+    @Override
+    protected boolean matchesSafely(Iterable<T> collection, Description mismatchDescription) {
+        final int count = itemMatchers.size();
+        final BitSet unsatisfied = new BitSet(count);
+        unsatisfied.set(0, count);
+        if (unsatisfied.isEmpty()) {
+            return true;
+        }
+
+        final boolean isDescribing = !(mismatchDescription instanceof Description.NullDescription);
+        for (int i = 0; i < count; i++) {
+            final Matcher<? super T> itemMatcher = itemMatchers.get(i);
+            if (IsCollectionContaining.isPlainEquality(itemMatcher)) {
+                final Boolean contains = CollectionLookup.contains(collection, ((IsEqual<?>) itemMatcher).getExpectedValue());
+                if (Boolean.TRUE.equals(contains)) {
+                    unsatisfied.clear(i);
+                } else if (Boolean.FALSE.equals(contains) && !isDescribing) {
+                    return false;
+                }
+            }
+        }
+        if (unsatisfied.isEmpty()) {
+            return true;
+        }
+
+        final List<Object> scanned = isDescribing ? new ArrayList<Object>() : null;
+        for (Object item : collection) {
+            if (isDescribing) {
+                scanned.add(item);
+            }
+            for (int i = unsatisfied.nextSetBit(0); i >= 0; i = unsatisfied.nextSetBit(i + 1)) {
+                if (itemMatchers.get(i).matches(item)) {
+                    unsatisfied.clear(i);
+                }
+            }
+            if (unsatisfied.isEmpty()) {
+                return true;
+            }
+        }
+
+        if (isDescribing) {
+            describeMismatch(itemMatchers.get(unsatisfied.nextSetBit(0)), scanned, mismatchDescription);
+        }
+        return false;
+    }
+
+    /**
+     * Describes the mismatch of the first unsatisfied item matcher, as <code>allOf(hasItem(...), ...)</code>
+     * did, against the items kept from the single traversal, so that an iterable that can only be
+     * traversed once can still be described.
+     */
+    private static void describeMismatch(Matcher<?> itemMatcher, List<Object> items, Description mismatchDescription) {
+        if (items.isEmpty()) {
+            mismatchDescription.appendText("was empty");
+            return;
+        }
+        mismatchDescription.appendText("mismatches were: [");
+        boolean isPastFirst = false;
+        for (Object item : items) {
+            if (BoundedDescription.isExhausted(mismatchDescription)) {
+                break;
+            }
+            if (isPastFirst) {
+                mismatchDescription.appendText(", ");
+            }
+            itemMatcher.describeMismatch(item, mismatchDescription);
+            isPastFirst = true;
+        }
+        mismatchDescription.appendText("]");
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("(");
+        boolean isPastFirst = false;
+        for (Matcher<? super T> itemMatcher : itemMatchers) {
+            if (isPastFirst) {
+                description.appendText(" and ");
+            }
+            description.appendText("a collection containing ").appendDescriptionOf(itemMatcher);
+            isPastFirst = true;
+        }
+        description.appendText(")");
+    }
+}
@@ -0,0 +1,182 @@
+package org.hamcrest.core;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hamcrest.Matcher;
+
+/**
+ * Finds the first item of a large collection for which a matcher gives a wanted
+ * result, by splitting the items into chunks that are matched on several threads.
+ * <p/>
+ * Chunks are claimed in order, and a thread stops as soon as it reaches an index
+ * beyond the earliest item found so far, so the scan stops early, and every item
+ * before the one it returns has been matched, just as in a sequential scan. The
+ * calling thread takes part in the scan, so it completes even when the executor
+ * is busy with other work.
+ */
+final class ParallelScan {
+    /**
+     * Collections smaller than this are scanned on the calling thread.
+     */
+    static final int MIN_PARALLEL_SIZE = 8192;
+    private static final int MIN_CHUNK_SIZE = 1024;
+    private static final int NOT_FOUND = Integer.MAX_VALUE;
+
+    private final List<?> items;
+    private final Matcher<?> matcher;
+    private final boolean wanted;
+    private final int chunkSize;
+    private final int chunkCount;
+    private final AtomicInteger nextChunk = new AtomicInteger();
+    private final AtomicInteger firstFound = new AtomicInteger(NOT_FOUND);
+    private int finishedChunks = 0;
+    private Throwable failure = null;
+
+    private ParallelScan(List<?> items, Matcher<?> matcher, boolean wanted, int threads) {
+        this.items = items;
+        this.matcher = matcher;
+        this.wanted = wanted;
+        this.chunkSize = Math.max(MIN_CHUNK_SIZE, items.size() / (threads * 8));
+        this.chunkCount = (items.size() + chunkSize - 1) / chunkSize;
+    }
+
+    /**
+     * Returns whether the iterable is a collection large enough to be worth scanning in parallel.
+     */
+    static boolean isWorthwhile(Iterable<?> iterable) {
+        return iterable instanceof Collection && ((Collection<?>) iterable).size() >= MIN_PARALLEL_SIZE;
+    }
+
+    /**
+     * @return the index of the first item that the matcher matches, or does not match if
+     *         <var>wanted</var> is false, or -1 if there is none
+     */
+    static int firstIndex(Collection<?> collection, Matcher<?> matcher, boolean wanted, ExecutorService executor) {
+        final ParallelScan scan = new ParallelScan(randomAccessItemsOf(collection), matcher, wanted, Runtime.getRuntime().availableProcessors());
+        return scan.run(executor);
+    }
+
+    static ExecutorService defaultExecutor() {
+        return DefaultExecutor.INSTANCE;
+    }
+
+    private int run(ExecutorService executor) {
+        final int helpers = Math.min(chunkCount, Runtime.getRuntime().availableProcessors()) - 1;
+        final Runnable worker = new Runnable() {
+            @Override
+            public void run() {
+                scanChunks();
+            }
+        };
+        try {
+            for (int i = 0; i < helpers; i++) {
+                executor.execute(worker);
+            }
+        } catch (RejectedExecutionException e) {
+            // the calling thread scans whatever the executor will not
+        }
+        scanChunks();
+        awaitChunks();
+
+        final int found = firstFound.get();
+        return found == NOT_FOUND ? -1 : found;
+    }
+
+    private void scanChunks() {
+        int chunk;
+        while ((chunk = nextChunk.getAndIncrement()) < chunkCount) {
+            try {
+                scanChunk(chunk * chunkSize, Math.min(items.size(), (chunk + 1) * chunkSize));
+            } catch (Throwable e) {
+                recordFailure(e);
+            } finally {
+                finishChunk();
+            }
+        }
+    }
+
+    private void scanChunk(int start, int end) {
+        for (int i = start; i < end && i < firstFound.get(); i++) {
+            if (matcher.matches(items.get(i)) == wanted) {
+                found(i);
+                return;
+            }
+        }
+    }
+
+    private void found(int index) {
+        int current;
+        while (index < (current = firstFound.get())) {
+            if (firstFound.compareAndSet(current, index)) {
+                return;
+            }
+        }
+    }
+
+    private synchronized void recordFailure(Throwable e) {
+        if (failure == null) {
+            failure = e;
+        }
+        firstFound.set(-1);
+    }
+
+    private synchronized void finishChunk() {
+        finishedChunks++;
+        if (finishedChunks == chunkCount) {
+            notifyAll();
+        }
+    }
+
+    private synchronized void awaitChunks() {
+        boolean interrupted = false;
+        while (finishedChunks < chunkCount) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw new RuntimeException(failure);
+        }
+    }
+
+    private static List<?> randomAccessItemsOf(Collection<?> collection) {
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            return (List<?>) collection;
+        }
+        return Arrays.asList(collection.toArray());
+    }
+
+    private static final class DefaultExecutor {
+        static final ExecutorService INSTANCE = Executors.newFixedThreadPool(
+                Runtime.getRuntime().availableProcessors(),
+                new ThreadFactory() {
+                    private final AtomicInteger count = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        final Thread thread = new Thread(runnable, "hamcrest-parallel-" + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+    }
+}
@@ -0,0 +1,152 @@
+package org.hamcrest.core;
+
+import org.hamcrest.Description;
+import org.hamcrest.DiagnosingMatcher;
+import org.hamcrest.Matcher;
+import org.hamcrest.StructuredDescription;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A base class for composite matchers that perform multiple matches
+ * in sequence and can stop matching as soon as one match succeedes or
+ * fails.
+ * <p/>
+ * In adaptive mode the order of evaluation is chosen from sampled statistics,
+ * see {@link AdaptiveOrdering}. This relies on the combined matchers being
+ * free of side effects and safe to apply to any item, so that evaluating them
+ * in a different order cannot change the result. Mismatches are always
+ * described in declaration order.
+ */
+abstract class ShortcutCompositeMatcher<T> extends DiagnosingMatcher<T> {
+
+    private final Matcher<? super T>[] matchers;
+    private final boolean shortcut;
+    private final String operator;
+    private final AdaptiveOrdering adaptiveOrdering;
+    private Class<T> parameterType;
+
+    public ShortcutCompositeMatcher(Iterable<Matcher<? super T>> matchers, boolean shortcut, String operator) {
+        this(matchers, shortcut, operator, false);
+    }
+
+    public ShortcutCompositeMatcher(Iterable<Matcher<? super T>> matchers, boolean shortcut, String operator, boolean adaptive) {
+        this.matchers = toArray(matchers);
+        this.shortcut = shortcut;
+        this.operator = operator;
+        this.parameterType = calculateParameterType(matchers);
+        this.adaptiveOrdering = adaptive ? new AdaptiveOrdering(this.matchers, shortcut) : null;
+    }
+
+    /**
+     * Best guess for our parameter type is the most specific matcher parameter type
+     */
+    @SuppressWarnings("unchecked")
+    private Class<T> calculateParameterType(Iterable<Matcher<? super T>> matchers) {
+        Class<? super T> parameterType = null;
+        for (Matcher<? super T> matcher : matchers) {
+            Class<? super T> matcherType = matcher.getParameterType();
+            if (null != matcherType && (null == parameterType || parameterType.isAssignableFrom(matcherType))) {
+                parameterType = matcherType;
+            }
+        }
+        return (Class<T>)parameterType;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Matcher<? super T>[] toArray(Iterable<Matcher<? super T>> matchers) {
+        List<Matcher<? super T>> list = new ArrayList<Matcher<? super T>>();
+        for (Matcher<? super T> matcher : matchers) {
+            list.add(matcher);
+        }
+        return list.toArray(new Matcher[list.size()]);
+    }
+
+    @Override
+    public boolean matches(Object o, Description mismatchDescription) {
+        if (mismatchDescription instanceof Description.NullDescription) {
+            return matchesWithoutDescription(o);
+        }
+        return matchesDescribingMismatches(o, mismatchDescription);
+    }
+
+    /**
+     * The undiagnosed path, which neither allocates nor asks any
+     * child to describe its mismatch.
+     */
+    private boolean matchesWithoutDescription(Object o) {
+        if (null != adaptiveOrdering) {
+            return adaptiveOrdering.matches(o);
+        }
+        for (Matcher<? super T> matcher : matchers) {
+            if (matcher.matches(o) == shortcut) {
+                return shortcut;
+            }
+        }
+        return !shortcut;
+    }
+
+    /**
+     * Describes each distinct mismatch once. Each is recorded as a {@link StructuredDescription},
+     * so that the mismatch paths of the combined matchers are passed on along with the text.
+     */
+    private boolean matchesDescribingMismatches(Object o, Description mismatchDescription) {
+        Map<String, StructuredDescription> mismatchDescriptions = null;
+        boolean result = !shortcut;
+        for (Matcher<? super T> matcher : matchers) {
+            boolean matches = matcher.matches(o);
+            if (!matches) {
+                if (null == mismatchDescriptions) {
+                    mismatchDescriptions = new LinkedHashMap<String, StructuredDescription>();
+                }
+                final StructuredDescription described = new StructuredDescription();
+                matcher.describeMismatch(o, described);
+                final String text = described.toString();
+                if (!mismatchDescriptions.containsKey(text)) {
+                    mismatchDescriptions.put(text, described);
+                }
+            }
+            if (shortcut == matches) {
+                result = shortcut;
+                break;
+            }
+        }
+        if (null != mismatchDescriptions) {
+            boolean first = true;
+            for (StructuredDescription description : mismatchDescriptions.values()) {
+                if (first) { first = false; } else { mismatchDescription.appendText(" and "); }
+                description.renderTo(mismatchDescription);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the combined matchers, in the order in which they are evaluated
+     */
+    public List<Matcher<? super T>> getMatchers() {
+        return Collections.unmodifiableList(Arrays.asList(matchers));
+    }
+
+    /**
+     * @return true if the order of evaluation adapts to the examined items
+     */
+    public boolean isAdaptive() {
+        return null != adaptiveOrdering;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendList("(", " " + operator + " ", ")", Arrays.asList(matchers));
+    }
+
+    @Override
+    public Class<T> getParameterType() {
+        return parameterType;
+    }
+}
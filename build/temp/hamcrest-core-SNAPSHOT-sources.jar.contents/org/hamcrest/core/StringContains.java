@@ -0,0 +1,58 @@
+/*  Copyright (c) 2000-2006 hamcrest.org
+ */
+package org.hamcrest.core;
+
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+
+/**
+ * Tests if the argument is a string that contains a substring.
+ */
+public class StringContains extends SubstringMatcher {
+    public StringContains(String substring) {
+        super(substring);
+    }
+
+    @Override
+    protected boolean evalSubstringOf(String s) {
+        return s.indexOf(substring) >= 0;
+    }
+
+    @Override
+    protected boolean evalSubstringOf(CharSequence s) {
+        final int last = s.length() - substring.length();
+        for (int i = 0; i <= last; i++) {
+            if (regionMatches(s, i, substring)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected String relationship() {
+        return "containing";
+    }
+
+    /**
+     * Creates a matcher that matches if the examined {@link String} contains the specified
+     * {@link String} anywhere.
+     * <p/>
+     * The matcher also matches other kinds of {@link CharSequence}, without copying them. To
+     * examine them with type checking, use the <code>StringContains</code> constructor, which
+     * creates a <code>Matcher&lt;CharSequence&gt;</code>.
+     * <p/>
+     * For example:
+     * <pre>assertThat("myStringOfNote", containsString("ring"))</pre>
+     * 
+     * @param substring
+     *     the substring that the returned matcher will expect to find within any examined string
+     * 
+     */
+    @SuppressWarnings("unchecked")
+    @Factory
+    public static Matcher<String> containsString(String substring) {
+        return (Matcher) new StringContains(substring);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+/*  Copyright (c) 2000-2006 hamcrest.org
+ */
+package org.hamcrest.core;
+
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+
+/**
+ * Tests if the argument is a string that contains a substring.
+ */
+public class StringStartsWith extends SubstringMatcher {
+    public StringStartsWith(String substring) {
+        super(substring);
+    }
+
+    @Override
+    protected boolean evalSubstringOf(String s) {
+        return s.startsWith(substring);
+    }
+
+    @Override
+    protected boolean evalSubstringOf(CharSequence s) {
+        return regionMatches(s, 0, substring);
+    }
+
+    @Override
+    protected String relationship() {
+        return "starting with";
+    }
+
+    /**
+     * Creates a matcher that matches if the examined {@link String} starts with the specified
+     * {@link String}.
+     * <p/>
+     * The matcher also matches other kinds of {@link CharSequence}, without copying them. To
+     * examine them with type checking, use the <code>StringStartsWith</code> constructor, which
+     * creates a <code>Matcher&lt;CharSequence&gt;</code>.
+     * <p/>
+     * For example:
+     * <pre>assertThat("myStringOfNote", startsWith("my"))</pre>
+     * 
+     * @param prefix
+     *      the substring that the returned matcher will expect at the start of any examined string
+     */
+    @SuppressWarnings("unchecked")
+    @Factory
+    public static Matcher<String> startsWith(String prefix) {
+        return (Matcher) new StringStartsWith(prefix);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,63 @@
+package org.hamcrest.core;
+
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+
+/**
+ * Tests where a substring occurs in a {@link CharSequence}, such as a {@link String},
+ * {@link StringBuilder} or {@link java.nio.CharBuffer}. Strings are searched with their
+ * own methods, and other sequences are searched in place, rather than being copied to
+ * a String first.
+ */
+public abstract class SubstringMatcher extends TypeSafeMatcher<CharSequence> {
+
+    protected final String substring;
+
+    protected SubstringMatcher(final String substring) {
+        this.substring = substring;
+    }
+
+    @Override
+    public boolean matchesSafely(CharSequence item) {
+        return item instanceof String ? evalSubstringOf((String) item) : evalSubstringOf(item);
+    }
+    @Override
+    public void describeMismatchSafely(CharSequence item, Description mismatchDescription) {
+      mismatchDescription.appendText("was \"").appendText(item.toString()).appendText("\"");
+    }
+    
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("a string ")
+                .appendText(relationship())
+                .appendText(" ")
+                .appendValue(substring);
+    }
+
+    protected abstract boolean evalSubstringOf(String string);
+
+    /**
+     * Evaluates a sequence that is not a String. By default the sequence is copied to a
+     * String, so subclasses should override this to search it in place.
+     */
+    protected boolean evalSubstringOf(CharSequence sequence) {
+        return evalSubstringOf(sequence.toString());
+    }
+
+    protected abstract String relationship();
+
+    /**
+     * @return whether the sequence has the substring at the offset
+     */
+    static boolean regionMatches(CharSequence sequence, int offset, String substring) {
+        if (offset < 0 || offset > sequence.length() - substring.length()) {
+            return false;
+        }
+        for (int i = 0; i < substring.length(); i++) {
+            if (sequence.charAt(offset + i) != substring.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
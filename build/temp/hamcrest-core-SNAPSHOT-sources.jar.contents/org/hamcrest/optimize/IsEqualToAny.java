@@ -0,0 +1,30 @@
+package org.hamcrest.optimize;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+
+/**
+ * Equivalent to a disjunction of <code>equalTo</code> matchers on immutable values,
+ * evaluated with a single hash lookup.
+ */
+final class IsEqualToAny extends BaseMatcher<Object> {
+    private final Set<Object> values;
+
+    public IsEqualToAny(Collection<Object> values) {
+        this.values = new HashSet<Object>(values);
+    }
+
+    @Override
+    public boolean matches(Object item) {
+        return values.contains(item);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendValueList("(", " or ", ")", values);
+    }
+}
@@ -0,0 +1,172 @@
+package org.hamcrest.optimize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.core.AllOf;
+import org.hamcrest.core.AnyOf;
+import org.hamcrest.core.CombinableMatcher;
+import org.hamcrest.core.Is;
+import org.hamcrest.core.IsAnything;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.hamcrest.core.IsNull;
+import org.hamcrest.internal.ImmutableValues;
+
+/**
+ * Rewrites a matcher tree into a logically equivalent tree that is cheaper to evaluate.
+ * Only the exact core classes are rewritten, as subclasses may have changed their
+ * behaviour. The rewritten tree does not describe itself like the original, which is why
+ * it is only used behind an {@link OptimizedMatcher}.
+ */
+final class MatcherRewriter {
+    private static final Matcher<Object> NOT_NULL = IsNull.notNullValue();
+
+    private MatcherRewriter() { }
+
+    /**
+     * @return the rewritten matcher, or the given matcher if it cannot be simplified
+     */
+    public static Matcher<Object> rewrite(Matcher<?> matcher) {
+        final Class<?> type = matcher.getClass();
+        if (type == Is.class) {
+            return rewrite(((Is<?>) matcher).getMatcher());
+        }
+        if (type == CombinableMatcher.class) {
+            // CombinableMatcher is type safe, so it never matches null
+            final List<Matcher<?>> conjuncts = new ArrayList<Matcher<?>>(2);
+            conjuncts.add(NOT_NULL);
+            conjuncts.add(((CombinableMatcher<?>) matcher).getMatcher());
+            return conjunction(conjuncts, null, false);
+        }
+        if (type == IsNot.class) {
+            return negation((IsNot<?>) matcher);
+        }
+        if (type == AllOf.class) {
+            final AllOf<?> allOf = (AllOf<?>) matcher;
+            return conjunction(allOf.getMatchers(), allOf, allOf.isAdaptive());
+        }
+        if (type == AnyOf.class) {
+            final AnyOf<?> anyOf = (AnyOf<?>) matcher;
+            return disjunction(anyOf.getMatchers(), anyOf, anyOf.isAdaptive());
+        }
+        return cast(matcher);
+    }
+
+    private static Matcher<Object> negation(IsNot<?> negation) {
+        final Matcher<?> negated = negation.getMatcher();
+        final Matcher<Object> rewritten = rewrite(negated);
+        if (rewritten.getClass() == IsNot.class) {
+            return rewrite(((IsNot<?>) rewritten).getMatcher());
+        }
+        return rewritten == negated ? cast(negation) : new IsNot<Object>(rewritten);
+    }
+
+    private static Matcher<Object> conjunction(List<? extends Matcher<?>> children, Matcher<?> original, boolean adaptive) {
+        final List<Matcher<? super Object>> conjuncts = new ArrayList<Matcher<? super Object>>(children.size());
+        for (Matcher<?> child : children) {
+            final Matcher<Object> rewritten = rewrite(child);
+            if (rewritten.getClass() == AllOf.class) {
+                for (Matcher<?> grandChild : ((AllOf<?>) rewritten).getMatchers()) {
+                    addOnce(conjuncts, grandChild);
+                }
+            } else if (rewritten.getClass() != IsAnything.class) {
+                addOnce(conjuncts, rewritten);
+            }
+        }
+
+        if (isUnchanged(original, children, conjuncts)) {
+            return cast(original);
+        }
+        if (conjuncts.isEmpty()) {
+            return new IsAnything<Object>();
+        }
+        if (conjuncts.size() == 1) {
+            return cast(conjuncts.get(0));
+        }
+        return new AllOf<Object>(conjuncts, adaptive);
+    }
+
+    private static Matcher<Object> disjunction(List<? extends Matcher<?>> children, Matcher<?> original, boolean adaptive) {
+        final List<Matcher<? super Object>> disjuncts = new ArrayList<Matcher<? super Object>>(children.size());
+        for (Matcher<?> child : children) {
+            final Matcher<Object> rewritten = rewrite(child);
+            if (rewritten.getClass() == IsAnything.class) {
+                return rewritten;
+            }
+            if (rewritten.getClass() == AnyOf.class) {
+                for (Matcher<?> grandChild : ((AnyOf<?>) rewritten).getMatchers()) {
+                    addOnce(disjuncts, grandChild);
+                }
+            } else {
+                addOnce(disjuncts, rewritten);
+            }
+        }
+        groupEqualities(disjuncts);
+
+        if (isUnchanged(original, children, disjuncts)) {
+            return cast(original);
+        }
+        if (disjuncts.size() == 1) {
+            return cast(disjuncts.get(0));
+        }
+        return new AnyOf<Object>(disjuncts, adaptive);
+    }
+
+    /**
+     * Replaces two or more <code>equalTo</code> alternatives on immutable values with a single
+     * hashed lookup, at the position of the first of them.
+     */
+    private static void groupEqualities(List<Matcher<? super Object>> disjuncts) {
+        final List<Object> values = new ArrayList<Object>();
+        int first = -1;
+        for (int i = 0; i < disjuncts.size(); i++) {
+            if (isEqualityOnImmutableValue(disjuncts.get(i))) {
+                values.add(((IsEqual<?>) disjuncts.get(i)).getExpectedValue());
+                first = first < 0 ? i : first;
+            }
+        }
+        if (values.size() < 2) {
+            return;
+        }
+        for (int i = disjuncts.size() - 1; i > first; i--) {
+            if (isEqualityOnImmutableValue(disjuncts.get(i))) {
+                disjuncts.remove(i);
+            }
+        }
+        disjuncts.set(first, new IsEqualToAny(values));
+    }
+
+    private static boolean isEqualityOnImmutableValue(Matcher<?> matcher) {
+        return matcher.getClass() == IsEqual.class
+            && ImmutableValues.isImmutable(((IsEqual<?>) matcher).getExpectedValue());
+    }
+
+    private static void addOnce(List<Matcher<? super Object>> matchers, Matcher<?> matcher) {
+        for (Matcher<?> existing : matchers) {
+            if (existing == matcher) {
+                return;
+            }
+        }
+        matchers.add(cast(matcher));
+    }
+
+    private static boolean isUnchanged(Matcher<?> original, List<? extends Matcher<?>> children,
+                                       List<? extends Matcher<?>> rewritten) {
+        if (original == null || children.size() != rewritten.size()) {
+            return false;
+        }
+        for (int i = 0; i < children.size(); i++) {
+            if (children.get(i) != rewritten.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Matcher<Object> cast(Matcher<?> matcher) {
+        return (Matcher<Object>) matcher;
+    }
+}
@@ -0,0 +1,132 @@
+package org.hamcrest;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.IsCollectionContaining.hasItem;
+import static org.hamcrest.core.IsCollectionContaining.hasItems;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+public final class BoundedDescriptionTest {
+
+    @Test public void
+    describesSmallValuesLikeAStringDescription() {
+        final Description description = new BoundedDescription();
+        description.appendText("text ").appendValue("a\n").appendValue(1L).appendValueList("[", ", ", "]", 1, 2);
+
+        assertEquals("text \"a\\n\"<1L>[<1>, <2>]", description.toString());
+    }
+
+    @Test public void
+    elidesElementsOfLongListsWithACount() {
+        final Description description = new BoundedDescription(1000, 3, 10, 100);
+        description.appendValueList("[", ", ", "]", asList(1, 2, 3, 4, 5));
+        description.appendValue(new int[] {1, 2, 3, 4});
+
+        assertEquals("[<1>, <2>, <3>, ...(2 more)][<1>, <2>, <3>, ...(1 more)]", description.toString());
+    }
+
+    @Test public void
+    stopsIteratingOnceTheElementBudgetIsSpent() {
+        final CountingIterable items = new CountingIterable(1000000);
+        final Description description = new BoundedDescription(1000, 2, 10, 100);
+        description.appendValueList("[", ", ", "]", items);
+
+        assertEquals("[<0>, <1>, ...]", description.toString());
+        assertEquals(2, items.consumed);
+    }
+
+    @Test public void
+    truncatesLongValues() {
+        final Description description = new BoundedDescription(1000, 10, 10, 3);
+        description.appendValue("abcdef").appendValue(new StringBuilder("uvwxyz"));
+
+        assertEquals("\"abc\"...(3 more chars)<uvw...(3 more chars)>", description.toString());
+    }
+
+    @Test public void
+    limitsNesting() {
+        final Description description = new BoundedDescription(1000, 10, 2, 100);
+        description.appendValue(new Object[] {1, new Object[] {2, new Object[] {3}}});
+
+        assertEquals("[<1>, [<2>, [...(1 items)]]]", description.toString());
+    }
+
+    @Test public void
+    dropsTextPastTheTotalLengthAndCountsIt() {
+        final BoundedDescription description = new BoundedDescription(5, 10, 10, 100);
+        description.appendText("abc");
+        assertFalse(BoundedDescription.isExhausted(description));
+
+        description.appendText("defgh");
+        assertTrue(BoundedDescription.isExhausted(description));
+        assertEquals("abcde...(3 or more chars)", description.toString());
+    }
+
+    @Test public void
+    isNeverExhaustedForOtherDescriptions() {
+        assertFalse(BoundedDescription.isExhausted(new StringDescription()));
+    }
+
+    @Test public void
+    stopsDescribingCollectionMismatchesOnceFull() {
+        final CountingIterable items = new CountingIterable(100000);
+        final Description description = new BoundedDescription(50, 10, 10, 100);
+        hasItem(-1).describeMismatch(items, description);
+
+        assertTrue(description.toString().startsWith("mismatches were: [was <0>, was <1>"));
+        final int consumedToMatch = 100000;
+        assertTrue("consumed " + items.consumed, items.consumed < consumedToMatch + 100);
+    }
+
+    @Test public void
+    stopsDescribingMismatchesOfSeveralItemsOnceFull() {
+        final CountingIterable items = new CountingIterable(100000);
+        final Description description = new BoundedDescription(50, 10, 10, 100);
+        hasItems(-1, -2).describeMismatch(items, description);
+
+        assertTrue(description.toString().startsWith("mismatches were: [was <0>, was <1>"));
+        final int consumedToMatch = 100000;
+        assertTrue("consumed " + items.consumed, items.consumed < consumedToMatch + 100);
+    }
+
+    @Test public void
+    canBeUsedForAssertionMessages() {
+        final List<Integer> items = new ArrayList<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            items.add(i);
+        }
+        try {
+            MatcherAssert.assertThat("", items, hasItem(-1), new BoundedDescription(100, 10, 10, 100));
+            fail("should have failed");
+        } catch (AssertionError expected) {
+            assertTrue(expected.getMessage(), expected.getMessage().length() < 130);
+        }
+    }
+
+    private static final class CountingIterable implements Iterable<Integer> {
+        private final int size;
+        int consumed = 0;
+
+        CountingIterable(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            return new Iterator<Integer>() {
+                private int next = 0;
+                @Override public boolean hasNext() { return next < size; }
+                @Override public Integer next() { consumed++; return next++; }
+                @Override public void remove() { throw new UnsupportedOperationException(); }
+            };
+        }
+    }
+}
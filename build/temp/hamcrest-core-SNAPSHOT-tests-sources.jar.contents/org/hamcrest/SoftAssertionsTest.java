@@ -0,0 +1,94 @@
+package org.hamcrest;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.hamcrest.SoftAssertions.MultipleFailuresError;
+import org.junit.Test;
+
+public final class SoftAssertionsTest {
+
+    @Test public void
+    passesWhenEveryCheckPasses() {
+        new SoftAssertions().checkThat("a", equalTo("a")).checkThat("b", "b", equalTo("b")).assertAll();
+    }
+
+    @Test public void
+    throwsTheFailureOfASingleFailingCheckAsItIs() {
+        final SoftAssertions softly = new SoftAssertions().checkThat("a", equalTo("a")).checkThat("reason", "b", equalTo("c"));
+        try {
+            softly.assertAll();
+            fail("should have failed");
+        } catch (MultipleFailuresError e) {
+            fail("should have thrown the single failure");
+        } catch (AssertionError e) {
+            assertEquals("reason\nExpected: \"c\"\n     but: was \"b\"", e.getMessage());
+        }
+    }
+
+    @Test public void
+    reportsEveryFailingCheckInOrder() {
+        assertReportsEveryFailure(new SoftAssertions());
+    }
+
+    @Test public void
+    reportsEveryFailingCheckInOrderWhenCheckingInParallel() {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertReportsEveryFailure(new SoftAssertions(executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test public void
+    onlyDescribesFailingChecks() {
+        final SoftAssertions softly = new SoftAssertions().checkThat("a", new UndescribableMatcher());
+        softly.assertAll();
+    }
+
+    @Test public void
+    startsAgainAfterAssertingAll() {
+        final SoftAssertions softly = new SoftAssertions().checkThat("a", equalTo("b"));
+        try {
+            softly.assertAll();
+            fail("should have failed");
+        } catch (AssertionError expected) { }
+        softly.assertAll();
+    }
+
+    private static void assertReportsEveryFailure(SoftAssertions softly) {
+        for (int i = 0; i < 40; i++) {
+            softly.checkThat("check " + i, i, equalTo(i % 10 == 3 ? -1 : i));
+        }
+        try {
+            softly.assertAll();
+            fail("should have failed");
+        } catch (MultipleFailuresError e) {
+            assertEquals(4, e.getFailures().size());
+            assertEquals("check 13\nExpected: <-1>\n     but: was <13>", e.getFailures().get(1).getMessage());
+            assertEquals("4 of 40 assertions failed\n\n"
+                       + "1) check 3\nExpected: <-1>\n     but: was <3>\n\n"
+                       + "2) check 13\nExpected: <-1>\n     but: was <13>\n\n"
+                       + "3) check 23\nExpected: <-1>\n     but: was <23>\n\n"
+                       + "4) check 33\nExpected: <-1>\n     but: was <33>",
+                         e.getMessage());
+        }
+    }
+
+    private static final class UndescribableMatcher extends BaseMatcher<Object> {
+        @Override
+        public boolean matches(Object item) {
+            return true;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            fail("should not be described");
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.hamcrest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+
+public final class StringDescriptionTest {
+
+    @Test public void
+    canBeResetAndReused() {
+        final StringDescription description = new StringDescription();
+        description.appendText("first");
+
+        assertEquals("", description.reset().toString());
+        assertEquals("second", description.appendText("second").toString());
+    }
+
+    @Test public void
+    cannotResetADescriptionOfAnAppendable() {
+        final StringDescription description = new StringDescription(new StringBuilder());
+        try {
+            description.reset();
+            fail("should not reset");
+        } catch (UnsupportedOperationException expected) { }
+    }
+
+    @Test public void
+    lendsTheSameEmptyDescriptionOnceItIsReleased() {
+        final StringDescription first = StringDescription.borrow();
+        first.appendText("text");
+        first.release();
+
+        final StringDescription second = StringDescription.borrow();
+        try {
+            assertSame(first, second);
+            assertEquals("", second.toString());
+        } finally {
+            second.release();
+        }
+    }
+
+    @Test public void
+    lendsANewDescriptionWhileTheThreadsDescriptionIsInUse() {
+        final StringDescription outer = StringDescription.borrow();
+        try {
+            final StringDescription inner = StringDescription.borrow();
+            assertNotSame(outer, inner);
+            inner.release();
+        } finally {
+            outer.release();
+        }
+    }
+
+    @Test public void
+    describesMatchersThatDescribeOtherMatchers() {
+        final Matcher<Object> matcher = IsEqual.<Object>equalTo(IsEqual.equalTo("inner"));
+        assertEquals("<\"inner\">", StringDescription.toString(matcher));
+    }
+
+    @Test public void
+    discardsPooledDescriptionsThatGrowTooLarge() {
+        final StringDescription large = StringDescription.borrow();
+        for (int i = 0; i <= StringDescription.MAX_POOLED_CAPACITY; i++) {
+            large.appendText("x");
+        }
+        large.release();
+
+        final StringDescription next = StringDescription.borrow();
+        try {
+            assertNotSame(large, next);
+        } finally {
+            next.release();
+        }
+    }
+}
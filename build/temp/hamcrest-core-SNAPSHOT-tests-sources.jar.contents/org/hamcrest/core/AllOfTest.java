@@ -0,0 +1,161 @@
+/*  Copyright (c) 2000-2010 hamcrest.org
+ */
+package org.hamcrest.core;
+
+import static org.hamcrest.AbstractMatcherTest.assertDescription;
+import static org.hamcrest.AbstractMatcherTest.assertDoesNotMatch;
+import static org.hamcrest.AbstractMatcherTest.assertMatches;
+import static org.hamcrest.AbstractMatcherTest.assertMismatchDescription;
+import static org.hamcrest.AbstractMatcherTest.assertNullSafe;
+import static org.hamcrest.AbstractMatcherTest.assertUnknownTypeSafe;
+import static org.hamcrest.core.AllOf.adaptiveAllOf;
+import static org.hamcrest.core.AllOf.allOf;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.StringEndsWith.endsWith;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.junit.Test;
+
+public final class AllOfTest {
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<String> matcher = allOf(equalTo("irrelevant"), startsWith("irr"));
+        
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+    
+    @Test public void
+    evaluatesToTheTheLogicalConjunctionOfTwoOtherMatchers() {
+        Matcher<String> matcher = allOf(startsWith("goo"), endsWith("ood"));
+        
+        assertMatches("didn't pass both sub-matchers", matcher, "good");
+        assertDoesNotMatch("didn't fail first sub-matcher", matcher, "mood");
+        assertDoesNotMatch("didn't fail second sub-matcher", matcher, "goon");
+        assertDoesNotMatch("didn't fail both sub-matchers", matcher, "fred");
+    }
+
+    @Test public void
+    evaluatesToTheTheLogicalConjunctionOfManyOtherMatchers() {
+        Matcher<String> matcher = allOf(startsWith("g"), startsWith("go"), endsWith("d"), startsWith("go"), startsWith("goo"));
+        
+        assertMatches("didn't pass all sub-matchers", matcher, "good");
+        assertDoesNotMatch("didn't fail middle sub-matcher", matcher, "goon");
+    }
+    
+    @Test public void
+    supportsMixedTypes() {
+        final Matcher<SampleSubClass> matcher = allOf(
+                equalTo(new SampleBaseClass("bad")),
+                is(notNullValue()),
+                equalTo(new SampleBaseClass("good")),
+                equalTo(new SampleSubClass("ugly")));
+        
+        assertDoesNotMatch("didn't fail last sub-matcher", matcher, new SampleSubClass("good"));
+    }
+    
+    @Test public void
+    hasAReadableDescription() {
+        assertDescription("(\"good\" and \"bad\" and \"ugly\")",
+                allOf(equalTo("good"), equalTo("bad"), equalTo("ugly")));
+    }
+
+    @Test public void
+    hasAMismatchDescriptionDescribingTheFirstFailingMatch() {
+        assertMismatchDescription("was \"bad\"", allOf(equalTo("bad"), equalTo("good")), "bad");
+    }
+
+    @Test public void
+    hasCorrectParameterType() {
+        final Matcher<SampleSubClass> matcher = allOf(
+            equalTo(new SampleBaseClass("bad")),
+            is(notNullValue()),
+            equalTo(new SampleBaseClass("good")),
+            equalTo(new SampleSubClass("ugly")));
+        assertEquals(SampleSubClass.class, matcher.getParameterType());
+    }
+
+    @Test public void
+    doesNotDescribeMismatchesOfChildrenWhenOnlyMatching() {
+        final CountingMatcher neverMatches = new CountingMatcher();
+        Matcher<String> matcher = allOf(equalTo("good"), neverMatches);
+
+        assertDoesNotMatch("didn't fail last sub-matcher", matcher, "good");
+        assertEquals(0, neverMatches.describedMismatches);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test public void
+    adaptivelyEvaluatesTheMostDecisiveMatcherFirst() {
+        final EvaluationCounter rarelyFails = new EvaluationCounter(startsWith("b"));
+        Matcher<String> matcher = adaptiveAllOf(rarelyFails, equalTo("good"));
+
+        for (int i = 0; i < 4096; i++) {
+            assertDoesNotMatch("didn't fail second sub-matcher", matcher, "bad");
+        }
+        assertMatches("didn't pass both sub-matchers", adaptiveAllOf(rarelyFails, startsWith("b")), "bad");
+        assertTrue("first sub-matcher was evaluated " + rarelyFails.evaluations + " times",
+                   rarelyFails.evaluations < 2048);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test public void
+    adaptiveMatcherEvaluatesToTheLogicalConjunction() {
+        Matcher<String> matcher = adaptiveAllOf(startsWith("g"), endsWith("d"), not(equalTo("gold")));
+
+        for (int i = 0; i < 4096; i++) {
+            assertMatches("didn't pass all sub-matchers", matcher, "good");
+            assertDoesNotMatch("didn't fail last sub-matcher", matcher, "gold");
+            assertDoesNotMatch("didn't fail first sub-matcher", matcher, "bad");
+        }
+        assertDescription("(a string starting with \"g\" and a string ending with \"d\" and not \"gold\")", matcher);
+    }
+
+    private static final class EvaluationCounter extends BaseMatcher<String> {
+        private final Matcher<String> matcher;
+        int evaluations = 0;
+
+        EvaluationCounter(Matcher<String> matcher) {
+            this.matcher = matcher;
+        }
+
+        @Override
+        public boolean matches(Object item) {
+            evaluations++;
+            return matcher.matches(item);
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendDescriptionOf(matcher);
+        }
+    }
+
+    private static final class CountingMatcher extends BaseMatcher<String> {
+        int describedMismatches = 0;
+
+        @Override
+        public boolean matches(Object item) {
+            return false;
+        }
+
+        @Override
+        public void describeMismatch(Object item, Description description) {
+            describedMismatches++;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("never");
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*  Copyright (c) 2000-2010 hamcrest.org
+ */
+package org.hamcrest.core;
+
+import static org.hamcrest.AbstractMatcherTest.assertDescription;
+import static org.hamcrest.AbstractMatcherTest.assertDoesNotMatch;
+import static org.hamcrest.AbstractMatcherTest.assertMatches;
+import static org.hamcrest.AbstractMatcherTest.assertMismatchDescription;
+import static org.hamcrest.AbstractMatcherTest.assertNullSafe;
+import static org.hamcrest.AbstractMatcherTest.assertUnknownTypeSafe;
+import static org.hamcrest.core.AnyOf.adaptiveAnyOf;
+import static org.hamcrest.core.AnyOf.anyOf;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.StringEndsWith.endsWith;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.junit.Assert.assertEquals;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StructuredDescription;
+import org.junit.Test;
+
+public final class AnyOfTest {
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<String> matcher = anyOf(equalTo("irrelevant"), startsWith("irr"));
+        
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @Test public void
+    evaluatesToTheTheLogicalDisjunctionOfTwoOtherMatchers() {
+        Matcher<String> matcher = anyOf(startsWith("goo"), endsWith("ood"));
+        
+        assertMatches("didn't pass both sub-matchers", matcher, "good");
+        assertMatches("didn't pass second sub-matcher", matcher, "mood");
+        assertMatches("didn't pass first sub-matcher", matcher, "goon");
+        assertDoesNotMatch("didn't fail both sub-matchers", matcher, "flan");
+    }
+
+    @Test public void
+    evaluatesToTheTheLogicalDisjunctionOfManyOtherMatchers() {
+        Matcher<String> matcher = anyOf(startsWith("g"), startsWith("go"), endsWith("d"), startsWith("go"), startsWith("goo"));
+        
+        assertMatches("didn't pass middle sub-matcher", matcher, "vlad");
+        assertDoesNotMatch("didn't fail all sub-matchers", matcher, "flan");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test public void
+    supportsMixedTypes() {
+        final Matcher<SampleSubClass> matcher = anyOf(
+                equalTo(new SampleBaseClass("bad")),
+                equalTo(new SampleBaseClass("good")),
+                equalTo(new SampleSubClass("ugly")));
+        
+        assertMatches("didn't pass middle sub-matcher", matcher, new SampleSubClass("good"));
+    }
+
+    @Test public void
+    hasAReadableDescription() {
+        assertDescription("(\"good\" or \"bad\" or \"ugly\")",
+                anyOf(equalTo("good"), equalTo("bad"), equalTo("ugly")));
+    }
+
+    @Test public void
+    hasAMismatchDescriptionDescribingTheFailingMatches() {
+        assertMismatchDescription("was \"other\"", anyOf(equalTo("good"), equalTo("bad"), equalTo("ugly")), "other");
+        assertMismatchDescription("was \"other\" and \"other\" is a java.lang.String", anyOf(equalTo("good"), instanceOf(Number.class)), "other");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test public void
+    hasCorrectParameterType() {
+        final Matcher<SampleSubClass> matcher = anyOf(
+            equalTo(new SampleBaseClass("bad")),
+            is(nullValue()),
+            equalTo(new SampleBaseClass("good")),
+            equalTo(new SampleSubClass("ugly")));
+        assertEquals(SampleSubClass.class, matcher.getParameterType());
+    }
+
+    @Test public void
+    doesNotDescribeMismatchesOfChildrenWhenOnlyMatching() {
+        final CountingMatcher neverMatches = new CountingMatcher();
+        Matcher<String> matcher = anyOf(neverMatches, neverMatches, equalTo("good"));
+
+        assertMatches("didn't pass last sub-matcher", matcher, "good");
+        assertDoesNotMatch("didn't fail all sub-matchers", matcher, "bad");
+        assertEquals(0, neverMatches.describedMismatches);
+    }
+
+    @Test public void
+    describesTheMismatchOfEachChildOnceIntoAStructuredDescription() {
+        final CountingMatcher neverMatches = new CountingMatcher();
+        final CountingMatcher alsoNeverMatches = new CountingMatcher();
+        anyOf(neverMatches, alsoNeverMatches).describeMismatch("bad", new StructuredDescription());
+
+        assertEquals(1, neverMatches.describedMismatches);
+        assertEquals(1, alsoNeverMatches.describedMismatches);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test public void
+    adaptiveMatcherEvaluatesToTheLogicalDisjunction() {
+        Matcher<Object> matcher = adaptiveAnyOf(equalTo((Object) "good"), instanceOf(Number.class));
+
+        for (int i = 0; i < 4096; i++) {
+            assertMatches("didn't pass second sub-matcher", matcher, i);
+            assertDoesNotMatch("didn't fail both sub-matchers", matcher, "other");
+        }
+        assertMatches("didn't pass first sub-matcher", matcher, "good");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test public void
+    adaptiveMatcherDescribesMismatchesInDeclarationOrder() {
+        Matcher<Object> matcher = adaptiveAnyOf(equalTo((Object) "good"), instanceOf(Number.class));
+
+        for (int i = 0; i < 4096; i++) {
+            matcher.matches(i);
+        }
+        assertMismatchDescription("was \"other\" and \"other\" is a java.lang.String", matcher, "other");
+        assertDescription("(\"good\" or an instance of java.lang.Number)", matcher);
+    }
+
+    private static final class CountingMatcher extends BaseMatcher<String> {
+        int describedMismatches = 0;
+
+        @Override
+        public boolean matches(Object item) {
+            return false;
+        }
+
+        @Override
+        public void describeMismatch(Object item, Description description) {
+            describedMismatches++;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("never");
+        }
+    }
+}
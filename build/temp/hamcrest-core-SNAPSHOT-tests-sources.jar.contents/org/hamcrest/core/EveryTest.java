@@ -0,0 +1,99 @@
+package org.hamcrest.core;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.AbstractMatcherTest.assertDescription;
+import static org.hamcrest.AbstractMatcherTest.assertDoesNotMatch;
+import static org.hamcrest.AbstractMatcherTest.assertMatches;
+import static org.hamcrest.AbstractMatcherTest.assertMismatchDescription;
+import static org.hamcrest.AbstractMatcherTest.assertNullSafe;
+import static org.hamcrest.AbstractMatcherTest.assertUnknownTypeSafe;
+import static org.hamcrest.core.StringContains.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+import org.junit.Test;
+
+public final class EveryTest {
+
+    private final Matcher<Iterable<String>> matcher = Every.everyItem(containsString("a"));
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @Test public void
+    matchesOnlyWhenEveryItemMatches() {
+        assertMatches("didn't match", matcher, asList("AaA", "BaB", "CaC"));
+        assertDoesNotMatch("matched unexpectedly", matcher, asList("AaA", "BXB", "CaC"));
+    }
+
+    @Test public void
+    matchesEmptyLists() {
+        assertMatches("didn't match empty list", matcher, new ArrayList<String>());
+    }
+
+    @Test public void
+    describesItself() {
+        assertDescription("every item is a string containing \"a\"", matcher);
+    }
+
+    @Test public void
+    describesAMismatch() {
+        assertMismatchDescription("an item was \"BXB\"", matcher, asList("BXB"));
+    }
+
+    @Test public void
+    describesTheFirstMismatchWhenMatchingInParallel() {
+        final Matcher<Iterable<String>> parallel = Every.everyItemInParallel(containsString("a"));
+        final List<String> items = new ArrayList<String>(Collections.nCopies(100000, "a"));
+        items.set(70000, "second");
+        items.set(50000, "first");
+        
+        for (int i = 0; i < 10; i++) {
+            assertMismatchDescription("an item was \"first\"", parallel, items);
+        }
+        items.set(50000, "a");
+        items.set(70000, "a");
+        assertMatches("didn't match", parallel, items);
+        assertMatches("didn't match small list", parallel, asList("AaA", "BaB"));
+    }
+
+    @Test public void
+    passesOnFailuresOfTheItemMatcherWhenMatchingInParallel() {
+        final IllegalStateException failure = new IllegalStateException("broken");
+        final Matcher<Iterable<String>> parallel = Every.everyItemInParallel(new FailingMatcher(failure));
+        try {
+            parallel.matches(new ArrayList<String>(Collections.nCopies(100000, "a")));
+            fail("should have failed");
+        } catch (IllegalStateException e) {
+            assertEquals(failure, e);
+        }
+    }
+
+    private static final class FailingMatcher extends TypeSafeMatcher<String> {
+        private final RuntimeException failure;
+
+        FailingMatcher(RuntimeException failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        protected boolean matchesSafely(String item) {
+            throw failure;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("fails");
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package org.hamcrest.core;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.AbstractMatcherTest.assertDescription;
+import static org.hamcrest.AbstractMatcherTest.assertDoesNotMatch;
+import static org.hamcrest.AbstractMatcherTest.assertMatches;
+import static org.hamcrest.AbstractMatcherTest.assertMismatchDescription;
+import static org.hamcrest.AbstractMatcherTest.assertNullSafe;
+import static org.hamcrest.AbstractMatcherTest.assertUnknownTypeSafe;
+import static org.hamcrest.core.IsCollectionContaining.hasItem;
+import static org.hamcrest.core.IsCollectionContaining.hasItems;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.junit.Test;
+
+public final class IsCollectionContainingTest {
+    
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<?> matcher = hasItem(equalTo("irrelevant"));
+        
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @Test public void
+    matchesACollectionThatContainsAnElementForTheGivenMatcher() {
+        final Matcher<Iterable<? super String>> itemMatcher = hasItem(equalTo("a"));
+
+        assertMatches("list containing 'a'", itemMatcher, asList("a", "b", "c"));
+    }
+
+    @Test public void
+    doesNotMatchCollectionWithoutAnElementForGivenMatcher() {
+        final Matcher<Iterable<? super String>> matcher = hasItem(mismatchable("a"));
+        
+        assertMismatchDescription("mismatches were: [mismatched: b, mismatched: c]", matcher, asList("b", "c"));
+        assertMismatchDescription("was empty", matcher, new ArrayList<String>());
+    }
+
+    @Test public void
+    doesNotMatchNull() {
+        assertDoesNotMatch("doesn't match null", hasItem(equalTo("a")), null);
+    }
+
+    @Test public void
+    hasAReadableDescription() {
+        assertDescription("a collection containing mismatchable: a", hasItem(mismatchable("a")));
+    }
+    
+    @Test public void
+    canMatchItemWhenCollectionHoldsSuperclass() { // Issue 24
+        final Set<Number> s = new HashSet<Number>();
+        s.add(2);
+
+        assertMatches("didn't match", new IsCollectionContaining<Number>(new IsEqual<Number>(2)), s);
+        assertMatches("didn't match", IsCollectionContaining.hasItem(2), s);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test public void
+    matchesMultipleItemsInCollection() {
+        final Matcher<Iterable<String>> matcher1 = hasItems(equalTo("a"), equalTo("b"), equalTo("c"));
+        assertMatches("list containing all items", matcher1, asList("a", "b", "c"));
+        
+        final Matcher<Iterable<String>> matcher2 = hasItems("a", "b", "c");
+        assertMatches("list containing all items (without matchers)", matcher2, asList("a", "b", "c"));
+        
+        final Matcher<Iterable<String>> matcher3 = hasItems(equalTo("a"), equalTo("b"), equalTo("c"));
+        assertMatches("list containing all items in any order", matcher3, asList("c", "b", "a"));
+        
+        final Matcher<Iterable<String>> matcher4 = hasItems(equalTo("a"), equalTo("b"), equalTo("c"));
+        assertMatches("list containing all items plus others", matcher4, asList("e", "c", "b", "a", "d"));
+        
+        final Matcher<Iterable<String>> matcher5 = hasItems(equalTo("a"), equalTo("b"), equalTo("c"));
+        assertDoesNotMatch("not match list unless it contains all items", matcher5, asList("e", "c", "b", "d")); // 'a' missing
+    }
+    
+    @Test public void
+    reportsMismatchWithAReadableDescriptionForMultipleItems() {
+        final Matcher<Iterable<Integer>> matcher = hasItems(3, 4);
+        
+        assertMismatchDescription("mismatches were: [was <1>, was <2>, was <3>]",
+                                  matcher, asList(1, 2, 3));
+    }
+
+    @Test public void
+    reportsEachUnsatisfiedItemMatcherForMultipleItems() {
+        final Matcher<Iterable<Integer>> matcher = hasItems(4, 1, 5);
+
+        assertMismatchDescription("mismatches were: [was <1>, was <2>]",
+                                  matcher, asList(1, 2));
+        assertMismatchDescription("was empty", matcher, new ArrayList<Integer>());
+        assertDescription("(a collection containing <4> and a collection containing <1> and a collection containing <5>)", matcher);
+    }
+
+    @Test public void
+    matchesMultipleItemsInASinglePass() {
+        final SingleUseIterable<String> iterable = new SingleUseIterable<String>(asList("a", "b", "c", "d"));
+
+        assertMatches("single use iterable", hasItems("c", "a"), iterable);
+        assertEquals("items consumed", 3, iterable.consumed);
+    }
+
+    @Test public void
+    describesTheMismatchOfASingleUseIterable() {
+        final SingleUseIterable<String> iterable = new SingleUseIterable<String>(asList("a", "b"));
+        final Description description = new StringDescription();
+        hasItems("a", "z").describeMismatch(iterable, description);
+
+        assertEquals("mismatches were: [was \"a\", was \"b\"]", description.toString());
+        assertEquals("items consumed", 2, iterable.consumed);
+    }
+
+    @Test public void
+    describesOnlyTheFirstUnsatisfiedItemMatcher() {
+        final Matcher<Iterable<String>> matcher = IsCollectionContaining.<String>hasItems(equalTo("a"), mismatchable("y"), equalTo("z"));
+
+        assertMismatchDescription("mismatches were: [mismatched: a, mismatched: b]", matcher, asList("a", "b"));
+    }
+
+    @Test public void
+    matchesAnythingWithNoItemMatchers() {
+        assertMatches("no items", hasItems(), new ArrayList<Object>());
+    }
+
+    @Test public void
+    looksUpItemsInHashedCollections() {
+        final Set<String> set = new HashSet<String>(asList("a", "b"));
+        final Map<String, Integer> map = new HashMap<String, Integer>();
+        map.put("a", 1);
+
+        assertMatches("hash set", hasItem("a"), set);
+        assertDoesNotMatch("hash set", hasItem("c"), set);
+        assertMismatchDescription("mismatches were: [was \"a\", was \"b\"]", hasItem("c"), new TreeSet<String>(set));
+        assertMatches("key set", hasItems("a"), map.keySet());
+        assertDoesNotMatch("key set", hasItems("a", "b"), map.keySet());
+    }
+
+    @Test public void
+    searchesSortedCollectionsWhoseOrderingDisagreesWithEquals() {
+        final Set<String> caseInsensitive = new TreeSet<String>(String.CASE_INSENSITIVE_ORDER);
+        caseInsensitive.add("a");
+        final Set<BigDecimal> decimals = new TreeSet<BigDecimal>(asList(new BigDecimal("1.0")));
+        final Set<Object> mixed = new TreeSet<Object>(asList((Object)"a"));
+
+        assertMatches("case insensitive", hasItem("a"), caseInsensitive);
+        assertDoesNotMatch("case insensitive", hasItem("A"), caseInsensitive);
+        assertDoesNotMatch("different scale", hasItem(new BigDecimal("1.00")), decimals);
+        assertDoesNotMatch("incomparable", hasItems((Object)1), mixed);
+    }
+
+    @Test public void
+    findsAnItemWhenMatchingInParallel() {
+        final List<String> items = new ArrayList<String>(Collections.nCopies(100000, "a"));
+        items.set(99999, "b");
+        
+        assertMatches("didn't find item", IsCollectionContaining.<String>hasItemInParallel(equalTo("b")), items);
+        assertDoesNotMatch("found missing item", IsCollectionContaining.<String>hasItemInParallel(equalTo("c")), items);
+        assertMismatchDescription("mismatches were: [mismatched: a, mismatched: b]",
+                IsCollectionContaining.<String>hasItemInParallel(mismatchable("c")), asList("a", "b"));
+    }
+
+    private static final class SingleUseIterable<T> implements Iterable<T> {
+        private final Iterable<T> items;
+        private boolean used = false;
+        int consumed = 0;
+
+        SingleUseIterable(Iterable<T> items) {
+            this.items = items;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            if (used) {
+                throw new IllegalStateException("already iterated");
+            }
+            used = true;
+            final Iterator<T> iterator = items.iterator();
+            return new Iterator<T>() {
+                @Override public boolean hasNext() { return iterator.hasNext(); }
+                @Override public T next() { consumed++; return iterator.next(); }
+                @Override public void remove() { throw new UnsupportedOperationException(); }
+            };
+        }
+    }
+
+    private static Matcher<? super String> mismatchable(final String string) {
+        return new TypeSafeDiagnosingMatcher<String>() {
+            @Override
+            protected boolean matchesSafely(String item, Description mismatchDescription) {
+                if (string.equals(item)) 
+                    return true;
+
+                mismatchDescription.appendText("mismatched: " + item);
+                return false;
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("mismatchable: " + string);
+            }
+        };
+    }
+}
+
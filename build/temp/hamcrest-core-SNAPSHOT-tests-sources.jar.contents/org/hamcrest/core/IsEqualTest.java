@@ -0,0 +1,188 @@
+/*  Copyright (c) 2000-2006 hamcrest.org
+ */
+package org.hamcrest.core;
+
+import static org.hamcrest.AbstractMatcherTest.assertDescription;
+import static org.hamcrest.AbstractMatcherTest.assertDoesNotMatch;
+import static org.hamcrest.AbstractMatcherTest.assertMatches;
+import static org.hamcrest.AbstractMatcherTest.assertMismatchDescription;
+import static org.hamcrest.AbstractMatcherTest.assertNullSafe;
+import static org.hamcrest.AbstractMatcherTest.assertUnknownTypeSafe;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.hamcrest.Matcher;
+import org.junit.Test;
+
+public final class IsEqualTest {
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<?> matcher = equalTo("irrelevant");
+
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @Test public void
+    comparesObjectsUsingEqualsMethod() {
+        final Matcher<String> matcher1 = equalTo("hi");
+        assertMatches("didn't match", matcher1, "hi");
+        assertDoesNotMatch("matched unexpectedly", matcher1, "bye");
+        assertDoesNotMatch("matched unexpectedly", matcher1, null);
+
+        final Matcher<Integer> matcher2 = equalTo(1);
+        assertMatches("didn't match", matcher2, 1);
+        assertDoesNotMatch("matched unexpectedly", matcher2, 2);
+        assertDoesNotMatch("matched unexpectedly", matcher2, null);
+    }
+
+    @Test public void
+    canCompareNullValues() {
+        final Matcher<Object> matcher = equalTo(null);
+        
+        assertMatches("didn't match", matcher, null);
+        assertDoesNotMatch("matched unexpectedly", matcher, 2);
+        assertDoesNotMatch("matched unexpectedly", matcher, "hi");
+        assertDoesNotMatch("matched unexpectedly", matcher, new String[] {"a", "b"});
+    }
+
+    @Test public void
+    honoursIsEqualImplementationEvenWithNullValues() {
+        Object alwaysEqual = new Object() {
+            @Override
+            public boolean equals(Object obj) {
+                return true;
+            }
+        };
+        Object neverEqual = new Object() {
+            @Override
+            public boolean equals(Object obj) {
+                return false;
+            }
+        };
+
+        final Matcher<Object> matcher = equalTo(null);
+        assertMatches("didn't match", matcher, alwaysEqual);
+        assertDoesNotMatch("matched unexpectedly", matcher, neverEqual);
+    }
+
+    @Test public void
+    comparesTheElementsOfAnObjectArray() {
+        String[] s1 = {"a", "b"};
+        String[] s2 = {"a", "b"};
+        String[] s3 = {"c", "d"};
+        String[] s4 = {"a", "b", "c", "d"};
+
+        final Matcher<String[]> matcher = equalTo(s1);
+        assertMatches("didn't match", matcher, s1);
+        assertMatches("didn't match", matcher, s2);
+        assertDoesNotMatch("matched unexpectedly", matcher, s3);
+        assertDoesNotMatch("matched unexpectedly", matcher, s4);
+        assertDoesNotMatch("matched unexpectedly", matcher, null);
+    }
+
+    @Test public void
+    comparesTheElementsOfAnArrayOfPrimitiveTypes() {
+        int[] i1 = new int[]{1, 2};
+        int[] i2 = new int[]{1, 2};
+        int[] i3 = new int[]{3, 4};
+        int[] i4 = new int[]{1, 2, 3, 4};
+
+        final Matcher<int[]> matcher = equalTo(i1);
+        assertMatches("didn't match", matcher, i1);
+        assertMatches("didn't match", matcher, i2);
+        assertDoesNotMatch("matched unexpectedly", matcher, i3);
+        assertDoesNotMatch("matched unexpectedly", matcher, i4);
+        assertDoesNotMatch("matched unexpectedly", matcher, null);
+    }
+
+    @Test public void
+    recursivelyTestsElementsOfArrays() {
+        int[][] i1 = new int[][]{{1, 2}, {3, 4}};
+        int[][] i2 = new int[][]{{1, 2}, {3, 4}};
+        int[][] i3 = new int[][]{{5, 6}, {7, 8}};
+        int[][] i4 = new int[][]{{1, 2, 3, 4}, {3, 4}};
+
+        final Matcher<int[][]> matcher = equalTo(i1);
+        assertMatches("didn't match", matcher, i1);
+        assertMatches("didn't match", matcher, i2);
+        assertDoesNotMatch("matched unexpectedly", matcher, i3);
+        assertDoesNotMatch("matched unexpectedly", matcher, i4);
+        assertDoesNotMatch("matched unexpectedly", matcher, null);
+    }
+
+    @Test public void
+    comparesArraysOfEachPrimitiveType() {
+        assertMatches("bytes", equalTo(new byte[] {1, 2}), new byte[] {1, 2});
+        assertDoesNotMatch("bytes", equalTo(new byte[] {1, 2}), new byte[] {1, 3});
+        assertMatches("longs", equalTo(new long[] {1, 2}), new long[] {1, 2});
+        assertMatches("chars", equalTo(new char[] {'a'}), new char[] {'a'});
+        assertMatches("shorts", equalTo(new short[] {1}), new short[] {1});
+        assertMatches("booleans", equalTo(new boolean[] {true}), new boolean[] {true});
+        assertMatches("floats", equalTo(new float[] {Float.NaN}), new float[] {Float.NaN});
+        assertMatches("doubles", equalTo(new double[] {Double.NaN}), new double[] {Double.NaN});
+        assertDoesNotMatch("signed zeros", equalTo(new double[] {0.0}), new double[] {-0.0});
+    }
+
+    @Test public void
+    comparesArraysOfDifferentComponentTypesElementByElement() {
+        assertDoesNotMatch("int and long", equalTo(new long[] {1, 2}), new int[] {1, 2});
+        assertMatches("int and Integer", equalTo(new Integer[] {1, 2}), new int[] {1, 2});
+        assertMatches("nested", equalTo(new Object[] {"a", new int[] {1}}), new Object[] {"a", new int[] {1}});
+        assertDoesNotMatch("nested", equalTo(new Object[] {"a", new int[] {1}}), new Object[] {"a", new int[] {2}});
+    }
+
+    @Test public void
+    reportsTheFirstDifferenceBetweenArrays() {
+        assertMismatchDescription("was [<1>, <2>, <4>], first difference at index 2",
+                                  equalTo(new int[] {1, 2, 3}), new int[] {1, 2, 4});
+        assertMismatchDescription("was [\"a\"], length was 1 but expected 2",
+                                  equalTo(new String[] {"a", "b"}), new String[] {"a"});
+        assertMismatchDescription("was <1>", equalTo(2), 1);
+    }
+
+    @Test public void
+    reportsTheFirstDifferenceForEachComponentType() {
+        assertMismatchDescription("was [<1>, <3>], first difference at index 1",
+                                  equalTo(new byte[] {1, 2}), new byte[] {1, 3});
+        assertMismatchDescription("was [<NaN>, <0.0>], first difference at index 1",
+                                  equalTo(new double[] {Double.NaN, -0.0}), new double[] {Double.NaN, 0.0});
+        assertMismatchDescription("was [\"a\", \"c\"], first difference at index 1",
+                                  equalTo(new char[] {'a', 'b'}), new char[] {'a', 'c'});
+        assertMismatchDescription("was [<1>, <3>], first difference at index 1",
+                                  equalTo(new Integer[] {1, 2}), new int[] {1, 3});
+    }
+
+    @Test public void
+    includesTheResultOfCallingToStringOnItsArgumentInTheDescription() {
+        final String argumentDescription = "ARGUMENT DESCRIPTION";
+        Object argument = new Object() {
+            @Override
+            public String toString() {
+                return argumentDescription;
+            }
+        };
+        assertDescription("<" + argumentDescription + ">", equalTo(argument));
+    }
+
+    @Test public void
+    returnsAnObviousDescriptionIfCreatedWithANestedMatcherByMistake() {
+        Matcher<? super String> innerMatcher = equalTo("NestedMatcher");
+        assertDescription("<" + innerMatcher.toString() + ">", equalTo(innerMatcher));
+    }
+
+    @Test public void
+    returnsGoodDescriptionIfCreatedWithNullReference() {
+        assertDescription("null", equalTo(null));
+    }
+
+    @Test public void
+    hasCorrectParameterType() {
+        assertEquals(String.class, equalTo("hi").getParameterType());
+        assertEquals(Integer.class, equalTo(1).getParameterType());
+        assertNull(equalTo(null).getParameterType());
+    }
+}
+
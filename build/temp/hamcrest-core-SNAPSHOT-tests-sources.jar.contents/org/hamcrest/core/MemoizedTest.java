@@ -0,0 +1,113 @@
+package org.hamcrest.core;
+
+import static org.hamcrest.AbstractMatcherTest.assertDescription;
+import static org.hamcrest.AbstractMatcherTest.assertMismatchDescription;
+import static org.hamcrest.AbstractMatcherTest.assertNullSafe;
+import static org.hamcrest.AbstractMatcherTest.assertUnknownTypeSafe;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.Memoized.memoized;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.junit.Test;
+
+public final class MemoizedTest {
+    private final CountingMatcher counting = new CountingMatcher("expected");
+    private final Memoized<String> matcher = memoized(counting);
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @Test public void
+    describesLikeTheMemoizedMatcher() {
+        assertDescription("\"expected\"", matcher);
+        assertMismatchDescription("was \"actual\"", matcher, new String("actual"));
+    }
+
+    @Test public void
+    matchesEachObjectOnlyOnce() {
+        final String actual = new String("actual");
+        assertFalse(matcher.matches(actual));
+        assertFalse(matcher.matches(actual));
+        assertTrue(matcher.matches("expected"));
+
+        assertEquals(2, counting.matchCount);
+        assertEquals(1, matcher.hitCount());
+        assertEquals(2, matcher.missCount());
+    }
+
+    @Test public void
+    describesEachMismatchOnlyOnce() {
+        final String actual = new String("actual");
+        matcher.matches(actual);
+        final StringDescription first = new StringDescription();
+        matcher.describeMismatch(actual, first);
+        final StringDescription second = new StringDescription();
+        matcher.describeMismatch(actual, second);
+
+        assertEquals("was \"actual\"", second.toString());
+        assertEquals(first.toString(), second.toString());
+        assertEquals(1, counting.matchCount);
+        assertEquals(1, counting.mismatchCount);
+    }
+
+    @Test public void
+    remembersObjectsByIdentity() {
+        matcher.matches(new String("expected"));
+        matcher.matches(new String("expected"));
+
+        assertEquals(2, counting.matchCount);
+    }
+
+    @Test public void
+    forgetsTheLeastRecentlyUsedObjectsWhenFull() {
+        final Memoized<String> small = memoized(counting, 2);
+        final String a = new String("a"), b = new String("b"), c = new String("c");
+        small.matches(a);
+        small.matches(b);
+        small.matches(a);
+        small.matches(c);
+        small.matches(a);
+        small.matches(b);
+
+        assertEquals(2, small.size());
+        assertEquals(4, counting.matchCount);
+    }
+
+    private static final class CountingMatcher extends TypeSafeDiagnosingMatcher<String> {
+        private final Matcher<Object> expected;
+        int matchCount = 0;
+        int mismatchCount = 0;
+
+        CountingMatcher(String expected) {
+            this.expected = equalTo((Object) expected);
+        }
+
+        @Override
+        protected boolean matchesSafely(String item, Description mismatchDescription) {
+            if (mismatchDescription instanceof Description.NullDescription) {
+                matchCount++;
+            } else {
+                mismatchCount++;
+            }
+            if (!expected.matches(item)) {
+                expected.describeMismatch(item, mismatchDescription);
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendDescriptionOf(expected);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package org.hamcrest.optimize;
+
+import static org.hamcrest.AbstractMatcherTest.assertDescription;
+import static org.hamcrest.AbstractMatcherTest.assertDoesNotMatch;
+import static org.hamcrest.AbstractMatcherTest.assertMatches;
+import static org.hamcrest.AbstractMatcherTest.assertMismatchDescription;
+import static org.hamcrest.AbstractMatcherTest.assertNullSafe;
+import static org.hamcrest.AbstractMatcherTest.assertUnknownTypeSafe;
+import static org.hamcrest.core.AllOf.allOf;
+import static org.hamcrest.core.AnyOf.anyOf;
+import static org.hamcrest.core.CombinableMatcher.both;
+import static org.hamcrest.core.CombinableMatcher.either;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsAnything.anything;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.StringContains.containsString;
+import static org.hamcrest.core.StringEndsWith.endsWith;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.hamcrest.optimize.OptimizedMatcher.optimized;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+public final class OptimizedMatcherTest {
+
+    @SuppressWarnings("unchecked")
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<String> matcher = optimized(anyOf(equalTo("a"), equalTo("b"), startsWith("c")));
+
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @Test public void
+    describesItselfExactlyAsTheOriginalTree() {
+        Matcher<String> original = both(startsWith("a")).and(containsString("b")).and(endsWith("c"));
+
+        assertEquals(StringDescription.toString(original), StringDescription.toString(optimized(original)));
+        assertDescription("((a string starting with \"a\" and a string containing \"b\") and a string ending with \"c\")",
+                          optimized(original));
+    }
+
+    @Test public void
+    describesMismatchesExactlyAsTheOriginalTree() {
+        Matcher<String> original = allOf(is(startsWith("a")), allOf(anything(), endsWith("c")));
+
+        assertMismatchDescription("was \"abd\"", optimized(original), "abd");
+    }
+
+    @Test public void
+    evaluatesFlattenedConjunctions() {
+        Matcher<String> matcher = optimized(both(startsWith("a")).and(containsString("b")).and(endsWith("c")));
+
+        assertMatches("didn't pass all sub-matchers", matcher, "abc");
+        assertDoesNotMatch("didn't fail last sub-matcher", matcher, "abd");
+        assertDoesNotMatch("didn't fail on null", matcher, null);
+    }
+
+    @Test public void
+    evaluatesFlattenedDisjunctions() {
+        Matcher<String> matcher = optimized(either(startsWith("a")).or(is(endsWith("c"))).or(equalTo("x")));
+
+        assertMatches("didn't pass first sub-matcher", matcher, "axx");
+        assertMatches("didn't pass second sub-matcher", matcher, "xxc");
+        assertMatches("didn't pass third sub-matcher", matcher, "x");
+        assertDoesNotMatch("didn't fail all sub-matchers", matcher, "yyy");
+    }
+
+    @Test public void
+    keepsCombinableMatchersFromMatchingNull() {
+        Matcher<Object> matcher = either(nullValue()).or(equalTo((Object) "x"));
+
+        assertDoesNotMatch("unexpectedly matched null", matcher, null);
+        assertDoesNotMatch("unexpectedly matched null", optimized(matcher), null);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test public void
+    dropsAnythingFromConjunctions() {
+        Matcher<String> matcher = optimized(allOf(anything(), startsWith("a"), anything()));
+
+        assertMatches("didn't pass remaining sub-matcher", matcher, "abc");
+        assertDoesNotMatch("didn't fail remaining sub-matcher", matcher, "bcd");
+        assertDescription("(ANYTHING and a string starting with \"a\" and ANYTHING)", matcher);
+    }
+
+    @Test public void
+    removesDoubleNegation() {
+        Matcher<String> matcher = optimized(not(not(startsWith("a"))));
+
+        assertMatches("didn't pass inner matcher", matcher, "abc");
+        assertDoesNotMatch("didn't fail inner matcher", matcher, "bcd");
+        assertDescription("not not a string starting with \"a\"", matcher);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test public void
+    testsAlternativeEqualitiesWithOneLookup() {
+        Matcher<String> matcher = optimized(anyOf(equalTo("GB"), startsWith("Z"), equalTo("DE"), equalTo("FR")));
+
+        assertMatches("didn't match first value", matcher, "GB");
+        assertMatches("didn't match last value", matcher, "FR");
+        assertMatches("didn't match other alternative", matcher, "ZA");
+        assertDoesNotMatch("matched missing value", matcher, "IT");
+        assertDescription("(\"GB\" or a string starting with \"Z\" or \"DE\" or \"FR\")", matcher);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test public void
+    comparesAlternativeEqualitiesOfDifferentTypesWithEquals() {
+        Matcher<Object> matcher = optimized(anyOf(equalTo((Object) 44), equalTo((Object) "44"), equalTo(null)));
+
+        assertMatches("didn't match number", matcher, 44);
+        assertMatches("didn't match null", matcher, null);
+        assertDoesNotMatch("matched value of different type", matcher, 44L);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test public void
+    leavesArrayEqualitiesAsTheyAre() {
+        Matcher<Object> matcher = optimized(anyOf(equalTo((Object) new int[] {1, 2}), equalTo((Object) new int[] {3})));
+
+        assertMatches("didn't compare arrays by content", matcher, new int[] {3});
+    }
+
+    @Test public void
+    returnsMatchersThatCannotBeSimplified() {
+        Matcher<String> leaf = startsWith("a");
+        Matcher<String> optimized = optimized(both(leaf).and(endsWith("b")));
+
+        assertSame(leaf, optimized(leaf));
+        assertSame(optimized, optimized(optimized));
+    }
+}
@@ -0,0 +1,89 @@
+package org.hamcrest.beans;
+
+import java.beans.PropertyDescriptor;
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * The properties that {@link SamePropertyValuesAs} compares for a particular
+ * bean class: their names and their accessors, excluding anything declared
+ * by {@link Object}.
+ * <p/>
+ * A plan is immutable and is built by introspection once per class, then
+ * cached weakly by class (and softly by value), so comparing many beans of
+ * the same class does not introspect again. A plan refers to its class, and
+ * to its read methods, so a class that is in the cache, and its class loader,
+ * can only be unloaded once the garbage collector has cleared the soft
+ * reference to its plan, which it does before running out of memory.
+ */
+final class PropertyComparisonPlan {
+    private static final Map<Class<?>, SoftReference<PropertyComparisonPlan>> PLANS_BY_CLASS
+        = new WeakHashMap<Class<?>, SoftReference<PropertyComparisonPlan>>();
+
+    private final Class<?> beanClass;
+    private final List<PropertyAccessor> accessors;
+    private final Set<String> propertyNames;
+
+    private PropertyComparisonPlan(Class<?> beanClass, PropertyDescriptor[] descriptors) {
+        final List<PropertyAccessor> accessors = new ArrayList<PropertyAccessor>(descriptors.length);
+        final Set<String> propertyNames = new HashSet<String>();
+        for (PropertyDescriptor descriptor : descriptors) {
+            final PropertyAccessor accessor = new PropertyAccessor(beanClass, descriptor);
+            accessors.add(accessor);
+            propertyNames.add(accessor.displayName());
+        }
+        this.beanClass = beanClass;
+        this.accessors = Collections.unmodifiableList(accessors);
+        this.propertyNames = Collections.unmodifiableSet(propertyNames);
+    }
+
+    public Class<?> beanClass() {
+        return beanClass;
+    }
+
+    public List<PropertyAccessor> accessors() {
+        return accessors;
+    }
+
+    public Set<String> propertyNames() {
+        return propertyNames;
+    }
+
+    /**
+     * @return the names of the properties in this plan that are not in the other, in no particular order
+     */
+    public Set<String> propertyNamesNotIn(PropertyComparisonPlan other) {
+        if (other == this) {
+            return Collections.emptySet();
+        }
+        final Set<String> extra = new HashSet<String>(propertyNames);
+        extra.removeAll(other.propertyNames);
+        return extra;
+    }
+
+    /**
+     * @throws IllegalArgumentException if there's a introspection failure
+     */
+    public static PropertyComparisonPlan forClass(Class<?> beanClass) throws IllegalArgumentException {
+        synchronized (PLANS_BY_CLASS) {
+            final SoftReference<PropertyComparisonPlan> cached = PLANS_BY_CLASS.get(beanClass);
+            final PropertyComparisonPlan plan = cached == null ? null : cached.get();
+            if (plan != null) {
+                return plan;
+            }
+        }
+
+        final PropertyComparisonPlan plan
+            = new PropertyComparisonPlan(beanClass, PropertyUtil.propertyDescriptorsFor(beanClass, Object.class));
+        synchronized (PLANS_BY_CLASS) {
+            PLANS_BY_CLASS.put(beanClass, new SoftReference<PropertyComparisonPlan>(plan));
+        }
+        return plan;
+    }
+}
@@ -0,0 +1,147 @@
+package org.hamcrest.beans;
+
+import org.hamcrest.*;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.beans.PropertyUtil.NO_ARGUMENTS;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * Matches beans whose JavaBean properties have the same values as those of an
+ * expected bean, and which have no properties that the expected bean lacks.
+ * <p/>
+ * The properties of each bean class are introspected only once, into a
+ * {@link PropertyComparisonPlan} that is shared between matchers, so
+ * comparing many beans of the same class costs only the property reads.
+ */
+public class SamePropertyValuesAs<T> extends TypeSafeDiagnosingMatcher<T> {
+    private final T expectedBean;
+    private final PropertyComparisonPlan plan;
+    private final List<PropertyMatcher> propertyMatchers;
+    private volatile Class<?> lastClassWithNoExtraProperties;
+
+
+    public SamePropertyValuesAs(T expectedBean) {
+        this.expectedBean = expectedBean;
+        this.plan = PropertyComparisonPlan.forClass(expectedBean.getClass());
+        this.propertyMatchers = propertyMatchersFor(expectedBean, plan);
+    }
+
+    @Override
+    public boolean matchesSafely(T bean, Description mismatch) {
+        return isCompatibleType(bean, mismatch)
+                && hasNoExtraProperties(bean, mismatch)
+                && hasMatchingValues(bean, mismatch);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("same property values as " + expectedBean.getClass().getSimpleName())
+                   .appendList(" [", ", ", "]", propertyMatchers);
+    }
+
+
+    private boolean isCompatibleType(T item, Description mismatchDescription) {
+        if (!expectedBean.getClass().isAssignableFrom(item.getClass())) {
+            mismatchDescription.appendText("is incompatible type: " + item.getClass().getSimpleName());
+            return false;
+        }
+        return true;
+    }
+
+    private boolean hasNoExtraProperties(T item, Description mismatchDescription) {
+        final Class<?> itemClass = item.getClass();
+        if (itemClass == plan.beanClass() || itemClass == lastClassWithNoExtraProperties) {
+            return true;
+        }
+        Set<String> extraPropertyNames = PropertyComparisonPlan.forClass(itemClass).propertyNamesNotIn(plan);
+        if (!extraPropertyNames.isEmpty()) {
+            mismatchDescription.appendText("has extra properties called " + extraPropertyNames);
+            return false;
+        }
+        lastClassWithNoExtraProperties = itemClass;
+        return true;
+    }
+
+    private boolean hasMatchingValues(T item, Description mismatchDescription) {
+        for (PropertyMatcher propertyMatcher : propertyMatchers) {
+            if (!propertyMatcher.matches(item)) {
+                propertyMatcher.describeMismatch(item, mismatchDescription);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <T> List<PropertyMatcher> propertyMatchersFor(T bean, PropertyComparisonPlan plan) {
+        List<PropertyMatcher> result = new ArrayList<PropertyMatcher>(plan.accessors().size());
+        for (PropertyAccessor accessor : plan.accessors()) {
+            result.add(new PropertyMatcher(accessor.displayName(), accessor.readMethod(), bean));
+        }
+        return result;
+    }
+
+    public static class PropertyMatcher extends DiagnosingMatcher<Object> {
+        private final Method readMethod;
+        private final Matcher<Object> matcher;
+        private final String propertyName;
+
+        public PropertyMatcher(PropertyDescriptor descriptor, Object expectedObject) {
+            this(descriptor.getDisplayName(), descriptor.getReadMethod(), expectedObject);
+        }
+
+        private PropertyMatcher(String propertyName, Method readMethod, Object expectedObject) {
+            this.propertyName = propertyName;
+            this.readMethod = readMethod;
+            this.matcher = equalTo(readProperty(readMethod, expectedObject));
+        }
+
+        @Override
+        public boolean matches(Object actual, Description mismatch) {
+            final Object actualValue = readProperty(readMethod, actual);
+            if (!matcher.matches(actualValue)) {
+                mismatch.beginPath(propertyName);
+                mismatch.appendText(propertyName + " ");
+                matcher.describeMismatch(actualValue, mismatch);
+                mismatch.endPath();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText(propertyName + ": ").appendDescriptionOf(matcher);
+        }
+    }
+
+    private static Object readProperty(Method method, Object target) {
+        try {
+            return method.invoke(target, NO_ARGUMENTS);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Could not invoke " + method + " on " + target, e);
+        }
+    }
+
+    /**
+     * Creates a matcher that matches when the examined object has values for all of
+     * its JavaBean properties that are equal to the corresponding values of the
+     * specified bean.
+     * <p/>
+     * For example:
+     * <pre>assertThat(myBean, samePropertyValuesAs(myExpectedBean))</pre>
+     * 
+     * @param expectedBean
+     *     the bean against which examined beans are compared
+     */
+    @Factory
+    public static <T> Matcher<T> samePropertyValuesAs(T expectedBean) {
+        return new SamePropertyValuesAs<T>(expectedBean);
+    }
+
+}
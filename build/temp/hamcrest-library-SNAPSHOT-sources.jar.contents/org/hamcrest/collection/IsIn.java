@@ -0,0 +1,221 @@
+package org.hamcrest.collection;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.internal.ImmutableValues;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Matches an object that is equal to one of a collection, or array, of elements.
+ * <p/>
+ * A collection is searched as it is when each item is matched. The elements of
+ * an array are copied at construction and, if they are all values that cannot
+ * change (see {@link ImmutableValues}), indexed in a hash set, or an
+ * {@link EnumSet} if they are all constants of one enum. Items that could not
+ * be in the index are still compared with every element, as are the elements
+ * of an array that holds mutable objects.
+ */
+public class IsIn<T> extends BaseMatcher<T> {
+    private final Collection<T> collection;
+    private final Set<?> index;
+
+    public IsIn(Collection<T> collection) {
+        this.collection = collection;
+        this.index = null;
+    }
+    
+    public IsIn(T[] elements) {
+        collection = Arrays.asList(elements.clone());
+        index = indexOf(collection);
+    }
+    
+    @SuppressWarnings("SuspiciousMethodCalls")
+    @Override
+    public boolean matches(Object o) {
+        if (index != null && ImmutableValues.isImmutable(o)) {
+            return index.contains(o);
+        }
+        return collection.contains(o);
+    }
+
+    @Override
+    public void describeTo(Description buffer) {
+        buffer.appendText("one of ");
+        buffer.appendValueList("{", ", ", "}", collection);
+    }
+
+    private static Set<?> indexOf(Collection<?> elements) {
+        for (Object element : elements) {
+            if (!ImmutableValues.isImmutable(element)) {
+                return null;
+            }
+        }
+        final Set<?> enumIndex = enumIndexOf(elements);
+        return enumIndex != null ? enumIndex : new HashSet<Object>(elements);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Set<?> enumIndexOf(Collection<?> elements) {
+        Class<? extends Enum> enumType = null;
+        for (Object element : elements) {
+            if (!(element instanceof Enum)) {
+                return null;
+            }
+            final Class<? extends Enum> elementType = ((Enum<?>) element).getDeclaringClass();
+            if (enumType != null && enumType != elementType) {
+                return null;
+            }
+            enumType = elementType;
+        }
+        if (enumType == null) {
+            return null;
+        }
+        final EnumSet index = EnumSet.noneOf(enumType);
+        index.addAll(elements);
+        return index;
+    }
+    
+    /**
+     * Creates a matcher that matches when the examined object is found within the
+     * specified collection.
+     * <p/>
+     * For example:
+     * <pre>assertThat("foo", isIn(Arrays.asList("bar", "foo")))</pre>
+     * 
+     * @deprecated use is(in(...)) instead
+     * 
+     * @param collection
+     *     the collection in which matching items must be found
+     * 
+     */
+    @Deprecated
+    @Factory
+    public static <T> Matcher<T> isIn(Collection<T> collection) {
+        return in(collection);
+    }
+    
+    /**
+     * Creates a matcher that matches when the examined object is found within the
+     * specified collection.
+     * <p/>
+     * For example:
+     * <pre>assertThat("foo", is(in(Arrays.asList("bar", "foo"))))</pre>
+     * 
+     * @param collection
+     *     the collection in which matching items must be found
+     * 
+     */
+    @Factory
+    public static <T> Matcher<T> in(Collection<T> collection) {
+        return new IsIn<T>(collection);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined object is found within the
+     * specified array.
+     * <p/>
+     * For example:
+     * <pre>assertThat("foo", isIn(new String[]{"bar", "foo"}))</pre>
+     * 
+     * @deprecated use is(in(...)) instead
+     * 
+     * @param elements
+     *     the array in which matching items must be found
+     * 
+     */
+    @Deprecated
+    @Factory
+    public static <T> Matcher<T> isIn(T[] elements) {
+        return in(elements);
+    }
+    
+    /**
+     * Creates a matcher that matches when the examined object is found within the
+     * specified array.
+     * <p/>
+     * For example:
+     * <pre>assertThat("foo", is(in(new String[]{"bar", "foo"})))</pre>
+     * 
+     * @param elements
+     *     the array in which matching items must be found
+     * 
+     */
+    @Factory
+    public static <T> Matcher<T> in(T[] elements) {
+        return new IsIn<T>(elements);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined {@link Integer} is found
+     * within the specified array of primitive ints.
+     * <p/>
+     * For example:
+     * <pre>assertThat(3, is(in(new int[]{1, 2, 3})))</pre>
+     * 
+     * @param elements
+     *     the array in which matching items must be found
+     * 
+     */
+    @Factory
+    public static Matcher<Integer> in(int[] elements) {
+        return IsInPrimitiveArray.ofInts(elements);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined {@link Long} is found
+     * within the specified array of primitive longs.
+     * <p/>
+     * For example:
+     * <pre>assertThat(3L, is(in(new long[]{1, 2, 3})))</pre>
+     * 
+     * @param elements
+     *     the array in which matching items must be found
+     * 
+     */
+    @Factory
+    public static Matcher<Long> in(long[] elements) {
+        return IsInPrimitiveArray.ofLongs(elements);
+    }
+    
+    /**
+     * Creates a matcher that matches when the examined object is equal to one of the
+     * specified elements.
+     * <p/>
+     * For example:
+     * <pre>assertThat("foo", isOneOf("bar", "foo"))</pre>
+     * 
+     * @deprecated use is(oneOf(...)) instead
+     * 
+     * @param elements
+     *     the elements amongst which matching items will be found 
+     * 
+     */
+    @Deprecated
+    @Factory
+    public static <T> Matcher<T> isOneOf(T... elements) {
+        return oneOf(elements);
+    }
+    
+    /**
+     * Creates a matcher that matches when the examined object is equal to one of the
+     * specified elements.
+     * <p/>
+     * For example:
+     * <pre>assertThat("foo", is(oneOf("bar", "foo")))</pre>
+     *  
+     * @param elements
+     *     the elements amongst which matching items will be found 
+     * 
+     */
+    @Factory
+    public static <T> Matcher<T> oneOf(T... elements) {
+        return in(elements);
+    }
+}
@@ -0,0 +1,122 @@
+package org.hamcrest.collection;
+
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * Matches an {@link Iterable} whose items can be paired off, one to one, with
+ * a collection of matchers. See {@link MatchingInAnyOrder} for how the pairing
+ * is found.
+ */
+public class IsIterableContainingInAnyOrder<T> extends TypeSafeDiagnosingMatcher<Iterable<? extends T>> {
+    private final Collection<Matcher<? super T>> matchers;
+    private final MatchingInAnyOrder<T> matching;
+
+    public IsIterableContainingInAnyOrder(Collection<Matcher<? super T>> matchers) {
+        this.matchers = matchers;
+        this.matching = new MatchingInAnyOrder<T>(new ArrayList<Matcher<? super T>>(matchers));
+    }
+    
+    @Override
+    protected boolean matchesSafely(Iterable<? extends T> items, Description mismatchDescription) {
+      return matching.matches(listOf(items), mismatchDescription);
+    }
+    
+    @Override
+    public void describeTo(Description description) {
+      description.appendText("iterable with items ")
+          .appendList("[", ", ", "]", matchers)
+          .appendText(" in any order");
+    }
+
+    boolean matchesList(List<? extends T> items, Description mismatchDescription) {
+      return matching.matches(items, mismatchDescription);
+    }
+
+    private static <S> List<S> listOf(Iterable<S> items) {
+      if (items instanceof Collection) {
+        return new ArrayList<S>((Collection<S>) items);
+      }
+      final List<S> result = new ArrayList<S>();
+      for (S item : items) {
+        result.add(item);
+      }
+      return result;
+    }
+
+    /**
+     * Creates an order agnostic matcher for {@link Iterable}s that matches when a single pass over
+     * the examined {@link Iterable} yields a series of items, each satisfying one matcher anywhere
+     * in the specified matchers.  For a positive match, the examined iterable must be of the same
+     * length as the number of specified matchers.
+     * <p/>
+     * N.B. each of the specified matchers will only be used once during a given examination. When
+     * matchers may be satisfied by more than one entry in an examined iterable, the iterable matches
+     * if there is any way of pairing each entry with a different matcher.
+     * <p/>
+     * For example:
+     * <pre>assertThat(Arrays.asList("foo", "bar"), containsInAnyOrder(equalTo("bar"), equalTo("foo")))</pre>
+     * 
+     * @param itemMatchers
+     *     a list of matchers, each of which must be satisfied by an item provided by an examined {@link Iterable}
+     */
+    @Factory
+    public static <T> Matcher<Iterable<? extends T>> containsInAnyOrder(Matcher<? super T>... itemMatchers) {
+        return containsInAnyOrder(Arrays.asList(itemMatchers));
+    }
+
+    /**
+     * Creates an order agnostic matcher for {@link Iterable}s that matches when a single pass over
+     * the examined {@link Iterable} yields a series of items, each logically equal to one item
+     * anywhere in the specified items. For a positive match, the examined iterable
+     * must be of the same length as the number of specified items.
+     * <p/>
+     * N.B. each of the specified items will only be used once during a given examination.
+     * <p/>
+     * For example:
+     * <pre>assertThat(Arrays.asList("foo", "bar"), containsInAnyOrder("bar", "foo"))</pre>
+     * 
+     * @param items
+     *     the items that must equal the items provided by an examined {@link Iterable} in any order
+     */
+    @Factory
+    public static <T> Matcher<Iterable<? extends T>> containsInAnyOrder(T... items) {
+        List<Matcher<? super T>> matchers = new ArrayList<Matcher<? super T>>();
+        for (T item : items) {
+            matchers.add(equalTo(item));
+        }
+        
+        return new IsIterableContainingInAnyOrder<T>(matchers);
+    }
+
+    /**
+     * Creates an order agnostic matcher for {@link Iterable}s that matches when a single pass over
+     * the examined {@link Iterable} yields a series of items, each satisfying one matcher anywhere
+     * in the specified collection of matchers.  For a positive match, the examined iterable
+     * must be of the same length as the specified collection of matchers.
+     * <p/>
+     * N.B. each matcher in the specified collection will only be used once during a given
+     * examination. When matchers may be satisfied by more than one entry in an examined iterable,
+     * the iterable matches if there is any way of pairing each entry with a different matcher.
+     * <p/>
+     * For example:
+     * <pre>assertThat(Arrays.asList("foo", "bar"), containsInAnyOrder(Arrays.asList(equalTo("bar"), equalTo("foo"))))</pre>
+     * 
+     * @param itemMatchers
+     *     a list of matchers, each of which must be satisfied by an item provided by an examined {@link Iterable}
+     */
+    @Factory
+    public static <T> Matcher<Iterable<? extends T>> containsInAnyOrder(Collection<Matcher<? super T>> itemMatchers) {
+        return new IsIterableContainingInAnyOrder<T>(itemMatchers);
+    }
+}
+
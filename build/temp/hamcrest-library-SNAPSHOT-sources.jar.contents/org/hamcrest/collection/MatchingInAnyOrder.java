@@ -0,0 +1,360 @@
+package org.hamcrest.collection;
+
+import org.hamcrest.BoundedDescription;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.internal.ImmutableValues;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decides whether a list of items can be paired off, one to one, with a list
+ * of matchers so that every item satisfies its matcher. This is the engine
+ * behind {@link IsIterableContainingInAnyOrder} and
+ * {@link IsArrayContainingInAnyOrder}.
+ * <p/>
+ * The items are first paired greedily, in order, each with the first unused
+ * matcher it satisfies. Matchers that test equality with an immutable value
+ * (see {@link ImmutableValues}) are grouped by that value in a hash table, so
+ * items that are immutable values are paired with them by a lookup rather
+ * than a search. Equal immutable items are treated as interchangeable.
+ * <p/>
+ * Only if that leaves both items and matchers unpaired is the pairing
+ * completed with the Hopcroft-Karp algorithm, testing items against matchers
+ * as it goes rather than building the whole graph, so the outcome does not
+ * depend on the order of the items or the matchers, even when matchers
+ * overlap.
+ */
+final class MatchingInAnyOrder<T> {
+    private static final int UNMATCHED = -1;
+    private static final int UNREACHED = Integer.MAX_VALUE;
+    private static final int END = -1;
+
+    private final List<Matcher<? super T>> matchers;
+    private final Map<Object, Integer> groupForValue = new HashMap<Object, Integer>();
+    private final int[][] equalityGroups;
+    private final boolean[] isEquality;
+
+    public MatchingInAnyOrder(List<Matcher<? super T>> matchers) {
+        this.matchers = matchers;
+        this.isEquality = new boolean[matchers.size()];
+
+        final List<List<Integer>> groups = new ArrayList<List<Integer>>();
+        for (int i = 0; i < matchers.size(); i++) {
+            final Matcher<? super T> matcher = matchers.get(i);
+            if (isEqualityWithImmutableValue(matcher)) {
+                final Object value = ((IsEqual<?>) matcher).getExpectedValue();
+                Integer group = groupForValue.get(value);
+                if (group == null) {
+                    group = groups.size();
+                    groupForValue.put(value, group);
+                    groups.add(new ArrayList<Integer>());
+                }
+                groups.get(group).add(i);
+                isEquality[i] = true;
+            }
+        }
+        this.equalityGroups = new int[groups.size()][];
+        for (int i = 0; i < equalityGroups.length; i++) {
+            equalityGroups[i] = toArray(groups.get(i));
+        }
+    }
+
+    public boolean matches(List<? extends T> items, Description mismatchDescription) {
+        final Pairing pairing = new Pairing(items);
+        final int firstUnpaired = pairing.pairGreedily();
+        if (firstUnpaired != END && pairing.hasUnusedMatchers()) {
+            new BipartiteMatching(items, pairing.matcherFor, pairing.itemFor).maximumMatching();
+        }
+
+        for (int i = firstUnpaired; i != END && i < items.size(); i++) {
+            if (pairing.matcherFor[i] == UNMATCHED) {
+                mismatchDescription.appendText(pairing.wasSurplus[i] ? "no match for: " : "not matched: ")
+                                   .appendValue(items.get(i));
+                return false;
+            }
+        }
+
+        boolean hasUnusedMatcher = false;
+        for (int i = 0; i < pairing.itemFor.length; i++) {
+            if (pairing.itemFor[i] != UNMATCHED) {
+                continue;
+            }
+            if (BoundedDescription.isExhausted(mismatchDescription)) {
+                return false;
+            }
+            mismatchDescription.appendText(hasUnusedMatcher ? ", " : "no item matches: ")
+                               .appendDescriptionOf(matchers.get(i));
+            hasUnusedMatcher = true;
+        }
+        if (hasUnusedMatcher) {
+            if (!BoundedDescription.isExhausted(mismatchDescription)) {
+                mismatchDescription.appendText(" in ").appendValueList("[", ", ", "]", items);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean isEqualityWithImmutableValue(Matcher<?> matcher) {
+        return matcher.getClass() == IsEqual.class
+            && ImmutableValues.isImmutable(((IsEqual<?>) matcher).getExpectedValue());
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        final int[] result = new int[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = values.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * The greedy first pass. Unused matchers are kept in two doubly linked
+     * lists, one of equality matchers and one of the rest, so that each item
+     * only scans the matchers that are still free, and an immutable item
+     * only scans the matchers that are not equality matchers for another
+     * value.
+     */
+    private final class Pairing {
+        final List<? extends T> items;
+        final int[] matcherFor;
+        final int[] itemFor;
+        /** Whether an unpaired item was reached after every matcher had been used. */
+        final boolean[] wasSurplus;
+        private final int[] next;
+        private final int[] previous;
+        private final int[] usedInGroup = new int[equalityGroups.length];
+        private int firstOther = END;
+        private int firstEquality = END;
+        private int unusedCount;
+
+        Pairing(List<? extends T> items) {
+            this.items = items;
+            this.matcherFor = new int[items.size()];
+            this.itemFor = new int[matchers.size()];
+            this.wasSurplus = new boolean[items.size()];
+            this.next = new int[matchers.size()];
+            this.previous = new int[matchers.size()];
+            this.unusedCount = matchers.size();
+            Arrays.fill(matcherFor, UNMATCHED);
+            Arrays.fill(itemFor, UNMATCHED);
+
+            int lastOther = END;
+            int lastEquality = END;
+            for (int i = 0; i < next.length; i++) {
+                next[i] = END;
+                if (isEquality[i]) {
+                    link(lastEquality, i);
+                    lastEquality = i;
+                } else {
+                    link(lastOther, i);
+                    lastOther = i;
+                }
+            }
+        }
+
+        private void link(int last, int matcher) {
+            previous[matcher] = last;
+            if (last != END) {
+                next[last] = matcher;
+            } else if (isEquality[matcher]) {
+                firstEquality = matcher;
+            } else {
+                firstOther = matcher;
+            }
+        }
+
+        boolean hasUnusedMatchers() {
+            return unusedCount > 0;
+        }
+
+        /**
+         * @return the index of the first item left unpaired, or {@link #END} if there is none
+         */
+        int pairGreedily() {
+            int firstUnpaired = END;
+            for (int i = 0; i < items.size(); i++) {
+                if (unusedCount == 0) {
+                    wasSurplus[i] = true;
+                } else {
+                    final Object item = items.get(i);
+                    final boolean isImmutable = ImmutableValues.isImmutable(item);
+                    int matcher = isImmutable ? unusedEqualityMatcherFor(item) : UNMATCHED;
+                    if (matcher == UNMATCHED) {
+                        matcher = firstSatisfied(firstOther, item);
+                    }
+                    if (matcher == UNMATCHED && !isImmutable) {
+                        matcher = firstSatisfied(firstEquality, item);
+                    }
+                    if (matcher != UNMATCHED) {
+                        pair(i, matcher);
+                        continue;
+                    }
+                }
+                if (firstUnpaired == END) {
+                    firstUnpaired = i;
+                }
+            }
+            return firstUnpaired;
+        }
+
+        private int unusedEqualityMatcherFor(Object item) {
+            final Integer group = groupForValue.get(item);
+            if (group == null) {
+                return UNMATCHED;
+            }
+            final int[] members = equalityGroups[group];
+            while (usedInGroup[group] < members.length && itemFor[members[usedInGroup[group]]] != UNMATCHED) {
+                usedInGroup[group]++;
+            }
+            return usedInGroup[group] < members.length ? members[usedInGroup[group]] : UNMATCHED;
+        }
+
+        private int firstSatisfied(int first, Object item) {
+            for (int matcher = first; matcher != END; matcher = next[matcher]) {
+                if (matchers.get(matcher).matches(item)) {
+                    return matcher;
+                }
+            }
+            return UNMATCHED;
+        }
+
+        private void pair(int item, int matcher) {
+            matcherFor[item] = matcher;
+            itemFor[matcher] = item;
+            unusedCount--;
+            if (previous[matcher] != END) {
+                next[previous[matcher]] = next[matcher];
+            } else if (isEquality[matcher]) {
+                firstEquality = next[matcher];
+            } else {
+                firstOther = next[matcher];
+            }
+            if (next[matcher] != END) {
+                previous[next[matcher]] = previous[matcher];
+            }
+        }
+    }
+
+    /**
+     * Hopcroft-Karp maximum matching between left nodes (items) and right
+     * nodes (matchers), extending a partial matching. Edges are found by
+     * testing an item against each matcher when the search reaches it, so
+     * the graph is never stored. The depth first search is iterative so that
+     * long augmenting paths cannot overflow the stack.
+     */
+    private final class BipartiteMatching {
+        private final List<? extends T> items;
+        private final int[] rightFor;
+        private final int[] leftFor;
+        private final int[] distance;
+        private final int[] nextEdge;
+        private final int[] queue;
+        private final int[] stack;
+
+        BipartiteMatching(List<? extends T> items, int[] rightFor, int[] leftFor) {
+            this.items = items;
+            this.rightFor = rightFor;
+            this.leftFor = leftFor;
+            this.distance = new int[rightFor.length];
+            this.nextEdge = new int[rightFor.length];
+            this.queue = new int[rightFor.length];
+            this.stack = new int[rightFor.length];
+        }
+
+        void maximumMatching() {
+            while (layerFromFreeNodes()) {
+                Arrays.fill(nextEdge, 0);
+                for (int left = 0; left < rightFor.length; left++) {
+                    if (rightFor[left] == UNMATCHED) {
+                        augmentFrom(left);
+                    }
+                }
+            }
+        }
+
+        private boolean isEdge(int left, int right) {
+            return matchers.get(right).matches(items.get(left));
+        }
+
+        private boolean layerFromFreeNodes() {
+            int head = 0;
+            int tail = 0;
+            for (int left = 0; left < rightFor.length; left++) {
+                if (rightFor[left] == UNMATCHED) {
+                    distance[left] = 0;
+                    queue[tail++] = left;
+                } else {
+                    distance[left] = UNREACHED;
+                }
+            }
+            boolean foundFreeRight = false;
+            while (head < tail) {
+                final int left = queue[head++];
+                for (int right = 0; right < leftFor.length; right++) {
+                    final int next = leftFor[right];
+                    if (next != UNMATCHED && distance[next] != UNREACHED) {
+                        continue;
+                    }
+                    if (isEdge(left, right)) {
+                        if (next == UNMATCHED) {
+                            foundFreeRight = true;
+                        } else {
+                            distance[next] = distance[left] + 1;
+                            queue[tail++] = next;
+                        }
+                    }
+                }
+            }
+            return foundFreeRight;
+        }
+
+        /**
+         * Advances the left node's edge cursor to its next edge.
+         * @return false if it has no more edges
+         */
+        private boolean seekEdge(int left) {
+            while (nextEdge[left] < leftFor.length && !isEdge(left, nextEdge[left])) {
+                nextEdge[left]++;
+            }
+            return nextEdge[left] < leftFor.length;
+        }
+
+        private boolean augmentFrom(int start) {
+            int top = 0;
+            stack[0] = start;
+            while (top >= 0) {
+                final int left = stack[top];
+                if (!seekEdge(left)) {
+                    distance[left] = UNREACHED;
+                    if (--top >= 0) {
+                        nextEdge[stack[top]]++;
+                    }
+                    continue;
+                }
+                final int next = leftFor[nextEdge[left]];
+                if (next == UNMATCHED) {
+                    for (int i = top; i >= 0; i--) {
+                        final int node = stack[i];
+                        final int right = nextEdge[node];
+                        rightFor[node] = right;
+                        leftFor[right] = node;
+                    }
+                    return true;
+                }
+                if (distance[next] != UNREACHED && distance[next] == distance[left] + 1) {
+                    stack[++top] = next;
+                } else {
+                    nextEdge[left]++;
+                }
+            }
+            return false;
+        }
+    }
+}
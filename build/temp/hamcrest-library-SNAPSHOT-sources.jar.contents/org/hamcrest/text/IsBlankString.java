@@ -0,0 +1,70 @@
+
+package org.hamcrest.text;
+
+import static org.hamcrest.core.AnyOf.anyOf;
+import static org.hamcrest.core.IsNull.nullValue;
+
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+
+/**
+ * Matches blank Strings (and null), or other blank {@link CharSequence}s.
+ */
+public final class IsBlankString extends TypeSafeMatcher<CharSequence> {
+    private static final IsBlankString BLANK_INSTANCE = new IsBlankString();
+    @SuppressWarnings("unchecked")
+    private static final Matcher<CharSequence> NULL_OR_BLANK_INSTANCE = anyOf(nullValue(), BLANK_INSTANCE);
+
+    private IsBlankString() { }
+
+    @Override
+    public boolean matchesSafely(CharSequence item) {
+        for (int i = 0; i < item.length(); i++) {
+            if (!isWhitespace(item.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return whether the character is whitespace, as <code>\s</code> means in a regular expression
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("a blank string");
+    }
+
+    /**
+     * Creates a matcher of {@link String} that matches when the examined string contains
+     * zero or more whitespace characters and nothing else.
+     * <p/>
+     * For example:
+     * <pre>assertThat("  ", is(blankString()))</pre>
+     */
+    @SuppressWarnings("unchecked")
+    @Factory
+    public static Matcher<String> blankString() {
+        return (Matcher) BLANK_INSTANCE;
+    }
+
+    /**
+     * Creates a matcher of {@link String} that matches when the examined string is <code>null</code>, or
+     * contains zero or more whitespace characters and nothing else.
+     * <p/>
+     * For example:
+     * <pre>assertThat(((String)null), is(blankOrNullString()))</pre>
+     * 
+     */
+    @SuppressWarnings("unchecked")
+    @Factory
+    public static Matcher<String> blankOrNullString() {
+        return (Matcher) NULL_OR_BLANK_INSTANCE;
+    }
+}
@@ -0,0 +1,88 @@
+
+package org.hamcrest.text;
+
+import static org.hamcrest.core.AnyOf.anyOf;
+import static org.hamcrest.core.IsNull.nullValue;
+
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+
+/**
+ * Matches empty Strings (and null), or other empty {@link CharSequence}s.
+ */
+public final class IsEmptyString extends TypeSafeMatcher<CharSequence> {
+    private static final IsEmptyString INSTANCE = new IsEmptyString();
+    @SuppressWarnings("unchecked")
+    private static final Matcher<CharSequence> NULL_OR_EMPTY_INSTANCE = anyOf(nullValue(), INSTANCE);
+
+    private IsEmptyString() { }
+
+    @Override
+    public boolean matchesSafely(CharSequence item) {
+        return item.length() == 0;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("an empty string");
+    }
+
+    /**
+     * Creates a matcher of {@link String} that matches when the examined string has zero length.
+     * <p/>
+     * For example:
+     * <pre>assertThat("", isEmptyString())</pre>
+     * 
+     * @deprecated use is(emptyString()) instead
+     */
+    @Deprecated
+    @Factory
+    public static Matcher<String> isEmptyString() {
+        return emptyString();
+    }
+
+    /**
+     * Creates a matcher of {@link String} that matches when the examined string has zero length.
+     * <p/>
+     * For example:
+     * <pre>assertThat("", is(emptyString()))</pre>
+     * 
+     */
+    @SuppressWarnings("unchecked")
+    @Factory
+    public static Matcher<String> emptyString() {
+        return (Matcher) INSTANCE;
+    }
+
+    /**
+     * Creates a matcher of {@link String} that matches when the examined string is <code>null</code>, or
+     * has zero length.
+     * <p/>
+     * For example:
+     * <pre>assertThat(((String)null), isEmptyOrNullString())</pre>
+     * 
+     * @deprecated use is(emptyOrNullString()) instead
+     * 
+     */
+    @Deprecated
+    @Factory
+    public static Matcher<String> isEmptyOrNullString() {
+        return emptyOrNullString();
+    }
+
+    /**
+     * Creates a matcher of {@link String} that matches when the examined string is <code>null</code>, or
+     * has zero length.
+     * <p/>
+     * For example:
+     * <pre>assertThat(((String)null), is(emptyOrNullString()))</pre>
+     * 
+     */
+    @SuppressWarnings("unchecked")
+    @Factory
+    public static Matcher<String> emptyOrNullString() {
+        return (Matcher) NULL_OR_EMPTY_INSTANCE;
+    }
+}
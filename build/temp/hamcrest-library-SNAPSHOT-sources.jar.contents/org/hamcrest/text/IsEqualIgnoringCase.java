@@ -0,0 +1,84 @@
+/*  Copyright (c) 2000-2006 hamcrest.org
+ */
+package org.hamcrest.text;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.Factory;
+import org.hamcrest.TypeSafeMatcher;
+
+/**
+ * Tests if a string is equal to another string, regardless of the case.
+ */
+public class IsEqualIgnoringCase extends TypeSafeMatcher<CharSequence> {
+
+    private final String string;
+
+    public IsEqualIgnoringCase(String string) {
+        if (string == null) {
+            throw new IllegalArgumentException("Non-null value required by IsEqualIgnoringCase()");
+        }
+        this.string = string;
+    }
+
+    @Override
+    public boolean matchesSafely(CharSequence item) {
+        if (item instanceof String) {
+            return string.equalsIgnoreCase((String) item);
+        }
+        if (item.length() != string.length()) {
+            return false;
+        }
+        for (int i = 0; i < string.length(); i++) {
+            if (!equalIgnoringCase(string.charAt(i), item.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void describeMismatchSafely(CharSequence item, Description mismatchDescription) {
+      mismatchDescription.appendText("was ").appendText(item.toString());
+    }
+    
+    /**
+     * Compares characters as {@link String#equalsIgnoreCase(String)} does.
+     */
+    static boolean equalIgnoringCase(char a, char b) {
+        if (a == b) {
+            return true;
+        }
+        final char upperA = Character.toUpperCase(a);
+        final char upperB = Character.toUpperCase(b);
+        return upperA == upperB || Character.toLowerCase(upperA) == Character.toLowerCase(upperB);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("equalToIgnoringCase(")
+                .appendValue(string)
+                .appendText(")");
+    }
+
+    /**
+     * Creates a matcher of {@link String} that matches when the examined string is equal to
+     * the specified expectedString, ignoring case.
+     * <p/>
+     * The matcher also matches other kinds of {@link CharSequence}, without copying them. To
+     * examine them with type checking, use the <code>IsEqualIgnoringCase</code> constructor, which
+     * creates a <code>Matcher&lt;CharSequence&gt;</code>.
+     * <p/>
+     * For example:
+     * <pre>assertThat("Foo", equalToIgnoringCase("FOO"))</pre>
+     * 
+     * @param expectedString
+     *     the expected value of matched strings
+     */
+    @SuppressWarnings("unchecked")
+    @Factory
+    public static Matcher<String> equalToIgnoringCase(String expectedString) {
+        return (Matcher) new IsEqualIgnoringCase(expectedString);
+    }
+
+}
@@ -0,0 +1,129 @@
+/*  Copyright (c) 2000-2006 hamcrest.org
+ */
+package org.hamcrest.text;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.Factory;
+import org.hamcrest.TypeSafeMatcher;
+
+import static java.lang.Character.isWhitespace;
+import static org.hamcrest.text.IsEqualIgnoringCase.equalIgnoringCase;
+
+/**
+ * Tests if a string is equal to another string, ignoring any changes in whitespace.
+ */
+public class IsEqualIgnoringWhiteSpace extends TypeSafeMatcher<CharSequence> {
+
+    private final String string;
+    private final String strippedString;
+
+    public IsEqualIgnoringWhiteSpace(String string) {
+        if (string == null) {
+            throw new IllegalArgumentException("Non-null value required by IsEqualIgnoringCase()");
+        }
+        this.string = string;
+        this.strippedString = stripped(string);
+    }
+
+    @Override
+    public boolean matchesSafely(CharSequence item) {
+        int start = 0;
+        int end = item.length();
+        while (start < end && isTrimmed(item.charAt(start))) {
+            start++;
+        }
+        while (end > start && isTrimmed(item.charAt(end - 1))) {
+            end--;
+        }
+        int matched = 0;
+        boolean isAfterSpace = false;
+        for (int i = start; i < end; i++) {
+            final char c = item.charAt(i);
+            if (isWhitespace(c)) {
+                isAfterSpace = matched > 0;
+                continue;
+            }
+            if (isAfterSpace) {
+                if (matched == strippedString.length() || strippedString.charAt(matched) != ' ') {
+                    return false;
+                }
+                matched++;
+                isAfterSpace = false;
+            }
+            if (matched == strippedString.length() || !equalIgnoringCase(strippedString.charAt(matched), c)) {
+                return false;
+            }
+            matched++;
+        }
+        return matched == strippedString.length();
+    }
+    
+    /**
+     * Whether <code>c</code> is removed from the ends of a string by {@link #stripSpace(String)},
+     * which trims control characters as well as whitespace.
+     */
+    private static boolean isTrimmed(char c) {
+        return c <= ' ' || isWhitespace(c);
+    }
+
+    @Override
+    public void describeMismatchSafely(CharSequence item, Description mismatchDescription) {
+      mismatchDescription.appendText("was  ").appendText(stripped(item));
+    }
+    
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("equalToIgnoringWhiteSpace(")
+                .appendValue(string)
+                .appendText(")");
+    }
+
+    public String stripSpace(String toBeStripped) {
+        return stripped(toBeStripped);
+    }
+
+    private static String stripped(CharSequence toBeStripped) {
+        final StringBuilder result = new StringBuilder();
+        boolean lastWasSpace = true;
+        for (int i = 0; i < toBeStripped.length(); i++) {
+            char c = toBeStripped.charAt(i);
+            if (isWhitespace(c)) {
+                if (!lastWasSpace) {
+                    result.append(' ');
+                }
+                lastWasSpace = true;
+            } else {
+                result.append(c);
+                lastWasSpace = false;
+            }
+        }
+        return result.toString().trim();
+    }
+
+    /**
+     * Creates a matcher of {@link String} that matches when the examined string is equal to
+     * the specified expectedString, when whitespace differences are (mostly) ignored.  To be
+     * exact, the following whitespace rules are applied:
+     * <ul>
+     *   <li>all leading and trailing whitespace of both the expectedString and the examined string are ignored</li>
+     *   <li>any remaining whitespace, appearing within either string, is collapsed to a single space before comparison</li>
+     * </ul>
+     * <p/>
+     * The matcher also matches other kinds of {@link CharSequence}, without copying them. To
+     * examine them with type checking, use the <code>IsEqualIgnoringWhiteSpace</code> constructor, which
+     * creates a <code>Matcher&lt;CharSequence&gt;</code>.
+     * <p/>
+     * For example:
+     * <pre>assertThat("   my\tfoo  bar ", equalToIgnoringWhiteSpace(" my  foo bar"))</pre>
+     * 
+     * @param expectedString
+     *     the expected value of matched strings
+     */
+    @SuppressWarnings("unchecked")
+    @Factory
+    public static Matcher<String> equalToIgnoringWhiteSpace(String expectedString) {
+        return (Matcher) new IsEqualIgnoringWhiteSpace(expectedString);
+    }
+
+}
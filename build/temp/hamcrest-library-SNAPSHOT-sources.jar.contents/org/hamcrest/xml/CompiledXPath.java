@@ -0,0 +1,148 @@
+package org.hamcrest.xml;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+
+/**
+ * An XPath expression, compiled for a namespace context, that is evaluated in
+ * one mode, and can be evaluated on several threads at once.
+ * <p/>
+ * Neither {@link XPathFactory} nor {@link XPathExpression} is thread-safe, so
+ * each thread compiles its own copy of the expression the first time it
+ * evaluates it, with a factory that it keeps for all expressions. A thread
+ * keeps its copies in one map, with weak keys, so that they are collected with
+ * the expression once it is evicted from the cache and no matcher uses it.
+ * <p/>
+ * Compiled expressions are shared, through a bounded cache, by every matcher
+ * with the same expression, namespace context and mode, so creating the same
+ * matcher many times neither looks up a factory nor compiles an expression again.
+ */
+final class CompiledXPath {
+    private static final int MAX_CACHED = 512;
+
+    private static final ThreadLocal<XPathFactory> FACTORY = new ThreadLocal<XPathFactory>() {
+        @Override
+        protected XPathFactory initialValue() {
+            return XPathFactory.newInstance();
+        }
+    };
+
+    private static final ThreadLocal<Map<CompiledXPath, XPathExpression>> COMPILED = new ThreadLocal<Map<CompiledXPath, XPathExpression>>() {
+        @Override
+        protected Map<CompiledXPath, XPathExpression> initialValue() {
+            return new WeakHashMap<CompiledXPath, XPathExpression>();
+        }
+    };
+
+    private static final Map<Key, CompiledXPath> CACHE = new LinkedHashMap<Key, CompiledXPath>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, CompiledXPath> eldest) {
+            return size() > MAX_CACHED;
+        }
+    };
+
+    private final String expression;
+    private final NamespaceContext namespaceContext;
+    private final QName mode;
+
+    private CompiledXPath(String expression, NamespaceContext namespaceContext, QName mode) throws XPathExpressionException {
+        this.expression = expression;
+        this.namespaceContext = namespaceContext;
+        this.mode = mode;
+        COMPILED.get().put(this, compile());
+    }
+
+    /**
+     * @throws IllegalArgumentException if the expression is not valid XPath
+     */
+    static CompiledXPath forExpression(String expression, NamespaceContext namespaceContext, QName mode) {
+        final Key key = new Key(expression, namespaceContext, mode);
+        synchronized (CACHE) {
+            final CompiledXPath cached = CACHE.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final CompiledXPath compiledXPath;
+        try {
+            compiledXPath = new CompiledXPath(expression, namespaceContext, mode);
+        } catch (XPathExpressionException e) {
+            throw new IllegalArgumentException("Invalid XPath : " + expression, e);
+        }
+        synchronized (CACHE) {
+            CACHE.put(key, compiledXPath);
+        }
+        return compiledXPath;
+    }
+
+    String expression() {
+        return expression;
+    }
+
+    NamespaceContext namespaceContext() {
+        return namespaceContext;
+    }
+
+    QName mode() {
+        return mode;
+    }
+
+    /**
+     * Evaluates the expression, in this expression's mode, against the item.
+     */
+    Object evaluate(Object item) throws XPathExpressionException {
+        final Map<CompiledXPath, XPathExpression> compiled = COMPILED.get();
+        XPathExpression xPathExpression = compiled.get(this);
+        if (xPathExpression == null) {
+            xPathExpression = compile();
+            compiled.put(this, xPathExpression);
+        }
+        return xPathExpression.evaluate(item, mode);
+    }
+
+    private XPathExpression compile() throws XPathExpressionException {
+        final XPath xPath = FACTORY.get().newXPath();
+        if (namespaceContext != null) {
+            xPath.setNamespaceContext(namespaceContext);
+        }
+        return xPath.compile(expression);
+    }
+
+    private static final class Key {
+        private final String expression;
+        private final NamespaceContext namespaceContext;
+        private final QName mode;
+
+        Key(String expression, NamespaceContext namespaceContext, QName mode) {
+            this.expression = expression;
+            this.namespaceContext = namespaceContext;
+            this.mode = mode;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            final Key that = (Key) other;
+            return expression.equals(that.expression)
+                && (namespaceContext == null ? that.namespaceContext == null : namespaceContext.equals(that.namespaceContext))
+                && mode.equals(that.mode);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * expression.hashCode() + (namespaceContext == null ? 0 : namespaceContext.hashCode())) + mode.hashCode();
+        }
+    }
+}
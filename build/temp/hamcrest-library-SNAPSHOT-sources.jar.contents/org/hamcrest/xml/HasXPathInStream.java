@@ -0,0 +1,207 @@
+package org.hamcrest.xml;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.transform.Source;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.sax.SAXSource;
+import javax.xml.transform.stream.StreamSource;
+
+import org.hamcrest.Description;
+import org.hamcrest.DiagnosingMatcher;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+
+/**
+ * Applies a Matcher to the value at an XPath in an XML document that is read as a
+ * stream, rather than parsed into a tree first, so that large documents can be
+ * matched in constant memory. Reading stops as soon as the outcome is known.
+ * <p/>
+ * The document can be given as an {@link InputStream}, a {@link File}, or a
+ * {@link StreamSource}; as a {@link SAXSource} without an XMLReader of its own,
+ * whose input is read directly; or as a {@link DOMSource}, whose node is walked
+ * instead. Any other kind of {@link Source} does not match. Only the forward-only subset of XPath described in
+ * {@link StreamingXPath} is supported: absolute paths of child and descendant
+ * steps, with attribute and position predicates, optionally ending in an attribute
+ * or <code>text()</code>. As with {@link HasXPath}, the value is the string value
+ * of the first node selected, or an empty string if there is none.
+ * <p/>
+ * A stream, or a {@link Source} of one, can only be read once, so the mismatch
+ * found when matching one is remembered, to describe it afterwards. A
+ * {@link File} or a {@link DOMSource} is read again each time.
+ */
+public class HasXPathInStream extends DiagnosingMatcher<Object> {
+    private final StreamingXPath path;
+    private final XPathTrie trie;
+    private final Matcher<String> valueMatcher;
+    private final LastMismatch lastMismatch = new LastMismatch();
+
+    /**
+     * @param xPathExpression XPath expression, in the supported subset.
+     * @param namespaceContext Resolves XML namespace prefixes in the XPath expression
+     * @param valueMatcher Matcher to use at given XPath.
+     *                     May be null to specify that the XPath must exist but the value is irrelevant.
+     */
+    public HasXPathInStream(String xPathExpression, NamespaceContext namespaceContext, Matcher<String> valueMatcher) {
+        this.path = StreamingXPath.parse(xPathExpression, namespaceContext);
+        this.trie = new XPathTrie(Collections.singletonList(path));
+        this.valueMatcher = valueMatcher;
+    }
+
+    @Override
+    protected boolean matches(Object item, Description mismatch) {
+        if (!(item instanceof Source || item instanceof InputStream || item instanceof File)) {
+            mismatch.appendText("was ").appendValue(item).appendText(", not a Source, InputStream or File");
+            return false;
+        }
+        if (!XPathTrie.canRead(item)) {
+            mismatch.appendText("was ").appendValue(item).appendText(", a Source that cannot be read as a stream");
+            return false;
+        }
+        if (item instanceof File || item instanceof DOMSource) {
+            return matchesDocument(item, mismatch);
+        }
+        if (lastMismatch.describe(item, mismatch)) {
+            return false;
+        }
+        final StringDescription described = new StringDescription();
+        if (matchesDocument(item, described)) {
+            return true;
+        }
+        lastMismatch.remember(item, described.toString(), mismatch);
+        return false;
+    }
+
+    private boolean matchesDocument(Object document, Description mismatch) {
+        final String value;
+        try {
+            value = valueOf(document);
+        } catch (XMLStreamException e) {
+            mismatch.appendText(e.getMessage());
+            return false;
+        } catch (IOException e) {
+            mismatch.appendText(e.getMessage());
+            return false;
+        }
+        if (valueMatcher == null) {
+            if (value == null) {
+                mismatch.appendText("xpath returned no results.");
+                return false;
+            }
+            return true;
+        }
+        final String actual = value == null ? "" : value;
+        if (!valueMatcher.matches(actual)) {
+            valueMatcher.describeMismatch(actual, mismatch);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return the value of the first node selected, or null if there is none
+     */
+    private String valueOf(Object document) throws XMLStreamException, IOException {
+        final XPathTrie.Evaluation evaluation = trie.new Evaluation(new boolean[] {valueMatcher != null});
+        evaluation.evaluate(document);
+        return evaluation.result(0);
+    }
+
+    StreamingXPath streamingXPath() {
+        return path;
+    }
+
+    /**
+     * @return the matcher for the value at the XPath, or null if any node will do
+     */
+    Matcher<String> valueMatcher() {
+        return valueMatcher;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("an XML document with XPath ").appendText(path.toString());
+        if (valueMatcher != null) {
+            description.appendText(" ").appendDescriptionOf(valueMatcher);
+        }
+    }
+
+    /**
+     * Creates a matcher of XML documents, given as an {@link InputStream}, a {@link File} or one of the supported
+     * kinds of {@link Source}, that matches when the examined document has a value at the specified <code>xPath</code> that satisfies
+     * the specified <code>valueMatcher</code>. The document is read as a stream, only as far as needed,
+     * and only a forward-only subset of XPath is supported.
+     * <p/>
+     * For example:
+     * <pre>assertThat(new File("export.xml"), hasXPathInStream("/orders/order[@id='42']/total", equalTo("9.99")))</pre>
+     *
+     * @param xPath
+     *     the target xpath
+     * @param valueMatcher
+     *     matcher for the value at the specified xpath
+     */
+    @Factory
+    public static Matcher<Object> hasXPathInStream(String xPath, Matcher<String> valueMatcher) {
+        return hasXPathInStream(xPath, HasXPath.NO_NAMESPACE_CONTEXT, valueMatcher);
+    }
+
+    /**
+     * Creates a matcher of XML documents, given as an {@link InputStream}, a {@link File} or one of the supported
+     * kinds of {@link Source}, that matches when the examined document has a value at the specified <code>xPath</code>, within the
+     * specified <code>namespaceContext</code>, that satisfies the specified <code>valueMatcher</code>.
+     * <p/>
+     * For example:
+     * <pre>assertThat(new File("export.xml"), hasXPathInStream("//ns:total", myNs, equalTo("9.99")))</pre>
+     *
+     * @param xPath
+     *     the target xpath
+     * @param namespaceContext
+     *     the namespace for matching nodes
+     * @param valueMatcher
+     *     matcher for the value at the specified xpath
+     */
+    @Factory
+    public static Matcher<Object> hasXPathInStream(String xPath, NamespaceContext namespaceContext, Matcher<String> valueMatcher) {
+        return new HasXPathInStream(xPath, namespaceContext, valueMatcher);
+    }
+
+    /**
+     * Creates a matcher of XML documents, given as an {@link InputStream}, a {@link File} or one of the supported
+     * kinds of {@link Source}, that matches when the examined document contains a node at the specified <code>xPath</code>, with
+     * any content. Reading stops at the first such node.
+     * <p/>
+     * For example:
+     * <pre>assertThat(new File("export.xml"), hasXPathInStream("//order[@status='failed']"))</pre>
+     *
+     * @param xPath
+     *     the target xpath
+     */
+    @Factory
+    public static Matcher<Object> hasXPathInStream(String xPath) {
+        return hasXPathInStream(xPath, HasXPath.NO_NAMESPACE_CONTEXT);
+    }
+
+    /**
+     * Creates a matcher of XML documents, given as an {@link InputStream}, a {@link File} or one of the supported
+     * kinds of {@link Source}, that matches when the examined document contains a node at the specified <code>xPath</code>, within
+     * the specified namespace context, with any content.
+     * <p/>
+     * For example:
+     * <pre>assertThat(new File("export.xml"), hasXPathInStream("//ns:order", myNs))</pre>
+     *
+     * @param xPath
+     *     the target xpath
+     * @param namespaceContext
+     *     the namespace for matching nodes
+     */
+    @Factory
+    public static Matcher<Object> hasXPathInStream(String xPath, NamespaceContext namespaceContext) {
+        return new HasXPathInStream(xPath, namespaceContext, null);
+    }
+}
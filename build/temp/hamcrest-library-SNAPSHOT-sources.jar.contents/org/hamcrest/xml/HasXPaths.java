@@ -0,0 +1,178 @@
+package org.hamcrest.xml;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.transform.Source;
+import javax.xml.transform.dom.DOMSource;
+
+import org.hamcrest.Description;
+import org.hamcrest.DiagnosingMatcher;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.w3c.dom.Node;
+
+/**
+ * Matches an XML document against several XPath matchers, such as those created by
+ * {@link HasXPath#hasXPath(String, Matcher)} or
+ * {@link HasXPathInStream#hasXPathInStream(String, Matcher)}, in a single pass over
+ * the document, instead of one pass for each.
+ * <p/>
+ * The expressions are merged into an {@link XPathTrie}, so that the steps they share
+ * are only tested once, and the pass stops as soon as every expression has its
+ * value. Each expression must be in the forward-only subset of XPath described in
+ * {@link StreamingXPath}. The document can be a DOM {@link Node}, or any of the
+ * kinds of {@link Source}, {@link InputStream} or {@link File} that
+ * {@link HasXPathInStream} accepts.
+ * <p/>
+ * Every expression whose value does not match is described in the mismatch, in the
+ * order the matchers were given. As with {@link HasXPathInStream}, the mismatch
+ * found when matching a stream is remembered, to describe it afterwards.
+ */
+public class HasXPaths extends DiagnosingMatcher<Object> {
+    private final StreamingXPath[] paths;
+    private final List<Matcher<String>> valueMatchers = new ArrayList<Matcher<String>>();
+    private final boolean[] needsValue;
+    private final XPathTrie trie;
+    private final LastMismatch lastMismatch = new LastMismatch();
+
+    /**
+     * @param xPathMatchers Matchers created by {@link HasXPath} or {@link HasXPathInStream}
+     * @throws IllegalArgumentException if a matcher is of another kind, or its XPath is not
+     *         in the subset that can be streamed
+     */
+    public HasXPaths(Iterable<? extends Matcher<?>> xPathMatchers) {
+        final List<StreamingXPath> pathList = new ArrayList<StreamingXPath>();
+        for (Matcher<?> matcher : xPathMatchers) {
+            if (matcher instanceof HasXPath) {
+                pathList.add(((HasXPath) matcher).streamingXPath());
+                valueMatchers.add(((HasXPath) matcher).valueMatcher());
+            } else if (matcher instanceof HasXPathInStream) {
+                pathList.add(((HasXPathInStream) matcher).streamingXPath());
+                valueMatchers.add(((HasXPathInStream) matcher).valueMatcher());
+            } else {
+                throw new IllegalArgumentException("Not an XPath matcher : " + matcher);
+            }
+        }
+        this.paths = pathList.toArray(new StreamingXPath[pathList.size()]);
+        this.needsValue = new boolean[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            needsValue[i] = valueMatchers.get(i) != null;
+        }
+        this.trie = new XPathTrie(pathList);
+    }
+
+    @Override
+    protected boolean matches(Object item, Description mismatch) {
+        if (!XPathTrie.canEvaluate(item)) {
+            mismatch.appendText("was ").appendValue(item).appendText(item instanceof Source
+                    ? ", a Source that cannot be read as a stream"
+                    : ", not a Node, Source, InputStream or File");
+            return false;
+        }
+        if (item instanceof Node || item instanceof File || item instanceof DOMSource) {
+            return matchesDocument(item, mismatch);
+        }
+        if (lastMismatch.describe(item, mismatch)) {
+            return false;
+        }
+        final StringDescription described = new StringDescription();
+        if (matchesDocument(item, described)) {
+            return true;
+        }
+        lastMismatch.remember(item, described.toString(), mismatch);
+        return false;
+    }
+
+    private boolean matchesDocument(Object document, Description mismatch) {
+        final XPathTrie.Evaluation evaluation = trie.new Evaluation(needsValue);
+        try {
+            evaluation.evaluate(document);
+        } catch (XMLStreamException e) {
+            mismatch.appendText(e.getMessage());
+            return false;
+        } catch (IOException e) {
+            mismatch.appendText(e.getMessage());
+            return false;
+        }
+
+        final boolean isDescribing = !(mismatch instanceof Description.NullDescription);
+        boolean matches = true;
+        for (int i = 0; i < paths.length; i++) {
+            final String value = evaluation.result(i);
+            final Matcher<String> valueMatcher = valueMatchers.get(i);
+            final String actual = value == null ? "" : value;
+            if (valueMatcher == null ? value != null : valueMatcher.matches(actual)) {
+                continue;
+            }
+            if (!isDescribing) {
+                return false;
+            }
+            if (!matches) {
+                mismatch.appendText(" and ");
+            }
+            mismatch.appendText("XPath ").appendText(paths[i].toString()).appendText(" ");
+            if (valueMatcher == null) {
+                mismatch.appendText("returned no results");
+            } else {
+                valueMatcher.describeMismatch(actual, mismatch);
+            }
+            matches = false;
+        }
+        return matches;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("an XML document with ");
+        for (int i = 0; i < paths.length; i++) {
+            if (i > 0) {
+                description.appendText(" and ");
+            }
+            description.appendText("XPath ").appendText(paths[i].toString());
+            if (valueMatchers.get(i) != null) {
+                description.appendText(" ").appendDescriptionOf(valueMatchers.get(i));
+            }
+        }
+    }
+
+    /**
+     * Creates a matcher of XML documents that matches when the examined document matches all of
+     * the specified XPath matchers, which must have been created by <code>hasXPath</code> or
+     * <code>hasXPathInStream</code>. The document is examined once, for all of the expressions,
+     * so they must be in the forward-only subset of XPath that can be streamed.
+     * <p/>
+     * For example:
+     * <pre>assertThat(xml, hasXPaths(hasXPath("/order/@id", equalTo("42")), hasXPath("/order/total")))</pre>
+     *
+     * @param xPathMatchers
+     *     the XPath matchers to apply to the examined document
+     */
+    @Factory
+    public static Matcher<Object> hasXPaths(Matcher<?>... xPathMatchers) {
+        return hasXPaths(Arrays.asList(xPathMatchers));
+    }
+
+    /**
+     * Creates a matcher of XML documents that matches when the examined document matches all of
+     * the specified XPath matchers, which must have been created by <code>hasXPath</code> or
+     * <code>hasXPathInStream</code>. The document is examined once, for all of the expressions,
+     * so they must be in the forward-only subset of XPath that can be streamed.
+     * <p/>
+     * For example:
+     * <pre>assertThat(xml, hasXPaths(asList(hasXPath("/order/@id", equalTo("42")), hasXPath("/order/total"))))</pre>
+     *
+     * @param xPathMatchers
+     *     the XPath matchers to apply to the examined document
+     */
+    @Factory
+    public static Matcher<Object> hasXPaths(Iterable<? extends Matcher<?>> xPathMatchers) {
+        return new HasXPaths(xPathMatchers);
+    }
+}
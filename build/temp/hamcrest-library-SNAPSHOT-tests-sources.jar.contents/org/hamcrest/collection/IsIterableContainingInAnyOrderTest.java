@@ -0,0 +1,153 @@
+package org.hamcrest.collection;
+
+import org.hamcrest.AbstractMatcherTest;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.BoundedDescription;
+import org.hamcrest.CustomMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.collection.IsIterableContainingInOrderTest.WithValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
+import static org.hamcrest.collection.IsIterableContainingInOrderTest.make;
+import static org.hamcrest.collection.IsIterableContainingInOrderTest.value;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.number.OrderingComparison.greaterThan;
+import static org.hamcrest.number.OrderingComparison.lessThan;
+
+public class IsIterableContainingInAnyOrderTest extends AbstractMatcherTest {
+
+    @Override
+    protected Matcher<?> createMatcher() {
+        return containsInAnyOrder(1, 2);
+    }   
+
+    public void testMatchesSingleItemIterable() {
+      assertMatches("single item", containsInAnyOrder(1), asList(1));
+    }
+
+    public void testDoesNotMatchEmpty() {
+        assertMismatchDescription("no item matches: <1>, <2> in []", containsInAnyOrder(1, 2), Collections.<Integer>emptyList());
+    }
+    
+    public void testMatchesIterableOutOfOrder() {
+        assertMatches("Out of order", containsInAnyOrder(1, 2), asList(2, 1));
+    }
+    
+    public void testMatchesIterableInOrder() {
+        assertMatches("In order", containsInAnyOrder(1, 2), asList(1, 2));
+    }
+    
+    public void testDoesNotMatchIfOneOfMultipleElementsMismatches() {
+        assertMismatchDescription("not matched: <4>", containsInAnyOrder(1, 2, 3), asList(1, 2, 4));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testDoesNotMatchIfThereAreMoreElementsThanMatchers() {
+        final Matcher<Iterable<? extends WithValue>> helpTheCompilerOut = containsInAnyOrder(value(1), value(3));
+        assertMismatchDescription("not matched: <WithValue 2>", helpTheCompilerOut, asList(make(1), make(2), make(3)));
+    }
+    
+    public void testDoesNotMatchIfThereAreMoreMatchersThanElements() {
+        assertMismatchDescription("no item matches: <4> in [<1>, <2>, <3>]", containsInAnyOrder(1, 2, 3, 4), asList(1, 2, 3));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testMatchesWhenMatchersOverlapWhicheverOrderTheItemsAreIn() {
+        final Matcher<Iterable<? extends Integer>> matcher = containsInAnyOrder(lessThan(10), equalTo(3));
+        assertMatches("wider matcher first", matcher, asList(3, 5));
+        assertMatches("narrower item first", matcher, asList(5, 3));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testMatchesAMixtureOfEqualityAndOtherMatchers() {
+        final Matcher<Iterable<? extends Integer>> matcher
+            = containsInAnyOrder(equalTo(1), greaterThan(0), equalTo(1), lessThan(3));
+        assertMatches("mixture", matcher, asList(2, 1, 1, 1));
+        assertMismatchDescription("not matched: <2>", matcher, asList(2, 1, 2, 2));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testDescribesItemsBeyondTheNumberOfMatchersAsBefore() {
+        assertMismatchDescription("no match for: <5>", containsInAnyOrder(1), asList(1, 5));
+        assertMismatchDescription("not matched: <5>", containsInAnyOrder(1), asList(5, 1));
+        assertMismatchDescription("no match for: <3>", containsInAnyOrder(greaterThan(0), greaterThan(0)), asList(1, 2, 3));
+    }
+
+    public void testMatchesManyInterchangeableMatchersWithoutTestingEveryPair() {
+        final List<Matcher<? super Integer>> matchers = new ArrayList<Matcher<? super Integer>>();
+        final List<Integer> items = new ArrayList<Integer>();
+        final int[] evaluations = {0};
+        for (int i = 0; i < 20000; i++) {
+            matchers.add(new CustomMatcher<Integer>("counted") {
+                @Override public boolean matches(Object item) {
+                    evaluations[0]++;
+                    return true;
+                }
+            });
+            items.add(i);
+        }
+        final Matcher<Iterable<? extends Integer>> matcher = containsInAnyOrder(matchers);
+
+        assertMatches("interchangeable", matcher, items);
+        assertEquals("evaluations", 20000, evaluations[0]);
+    }
+
+    public void testStopsDescribingUnusedMatchersOnceTheDescriptionIsFull() {
+        final List<Matcher<? super Integer>> matchers = new ArrayList<Matcher<? super Integer>>();
+        final int[] descriptions = {0};
+        for (int i = 0; i < 1000; i++) {
+            matchers.add(new BaseMatcher<Integer>() {
+                @Override public boolean matches(Object item) {
+                    return false;
+                }
+                @Override public void describeTo(Description description) {
+                    descriptions[0]++;
+                    description.appendText("unmatched");
+                }
+            });
+        }
+        final Description description = new BoundedDescription(50, 10, 10, 100);
+        containsInAnyOrder(matchers).describeMismatch(asList(1, 2), description);
+
+        assertTrue(description.toString(), description.toString().startsWith("not matched: <1>"));
+
+        final Description unused = new BoundedDescription(50, 10, 10, 100);
+        containsInAnyOrder(matchers).describeMismatch(Collections.<Integer>emptyList(), unused);
+
+        assertTrue(unused.toString(), unused.toString().startsWith("no item matches: unmatched, unmatched"));
+        assertTrue("described " + descriptions[0], descriptions[0] < 10);
+    }
+
+    public void testMatchesDuplicatedItems() {
+        assertMatches("duplicates", containsInAnyOrder(1, 2, 1, 2), asList(2, 2, 1, 1));
+        assertMismatchDescription("not matched: <1>", containsInAnyOrder(1, 2), asList(1, 1));
+    }
+
+    public void testMatchesLargeIterables() {
+        final List<Integer> expected = new ArrayList<Integer>();
+        final List<Integer> actual = new ArrayList<Integer>();
+        for (int i = 0; i < 100000; i++) {
+            expected.add(i);
+            actual.add(99999 - i);
+        }
+        assertMatches("large", containsInAnyOrder(expected.toArray()), actual);
+    }
+
+    public void testMatchesIterableThatIsNotACollection() {
+        final Iterable<Integer> items = new Iterable<Integer>() {
+            @Override public Iterator<Integer> iterator() { return asList(2, 1).iterator(); }
+        };
+        assertMatches("iterable", containsInAnyOrder(1, 2), items);
+    }
+
+    public void testHasAReadableDescription() {
+        assertDescription("iterable with items [<1>, <2>] in any order", containsInAnyOrder(1, 2));
+    }
+}
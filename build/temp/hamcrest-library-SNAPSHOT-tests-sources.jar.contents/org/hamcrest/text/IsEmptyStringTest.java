@@ -0,0 +1,71 @@
+package org.hamcrest.text;
+
+import static org.hamcrest.AbstractMatcherTest.assertDescription;
+import static org.hamcrest.AbstractMatcherTest.assertDoesNotMatch;
+import static org.hamcrest.AbstractMatcherTest.assertMatches;
+import static org.hamcrest.AbstractMatcherTest.assertMismatchDescription;
+import static org.hamcrest.AbstractMatcherTest.assertNullSafe;
+import static org.hamcrest.AbstractMatcherTest.assertUnknownTypeSafe;
+import static org.hamcrest.text.IsEmptyString.emptyOrNullString;
+import static org.hamcrest.text.IsEmptyString.emptyString;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.CharBuffer;
+
+import org.hamcrest.Matcher;
+import org.junit.Test;
+
+public final class IsEmptyStringTest {
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<String> matcher = emptyString();
+        
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @Test public void
+    matchesEmptyString() {
+        assertMatches("didn't match", emptyOrNullString(), "");
+        assertMatches("didn't match", emptyString(), "");
+    }
+
+    @Test public void
+    matchesNullAppropriately() {
+        assertMatches("didn't match", emptyOrNullString(), null);
+        assertDoesNotMatch("matched unexpectedly", emptyString(), null);
+    }
+
+    @Test public void
+    matchesBlankStringAppropriately() {
+        assertDoesNotMatch("matched unexpectedly", emptyString(), "  ");
+        assertDoesNotMatch("matched unexpectedly", emptyOrNullString(), "  ");
+    }
+
+    @Test public void
+    doesNotMatchFilledString() {
+        assertDoesNotMatch("matched unexpectedly", emptyString(), "a");
+        assertDoesNotMatch("matched unexpectedly", emptyOrNullString(), "a");
+    }
+
+    @Test public void
+    describesItself() {
+        assertDescription("an empty string", emptyString());
+        assertDescription("(null or an empty string)", emptyOrNullString());
+    }
+
+    @Test public void
+    describesAMismatch() {
+        assertMismatchDescription("was \"a\"", emptyString(), "a");
+        assertMismatchDescription("was \"a\"", emptyOrNullString(), "a");
+    }
+
+    @Test public void
+    matchesOtherCharSequences() {
+        assertTrue("didn't match", emptyString().matches(new StringBuilder()));
+        assertTrue("didn't match", emptyOrNullString().matches(CharBuffer.wrap("")));
+        assertFalse("matched unexpectedly", emptyString().matches(new StringBuilder("a")));
+    }
+}
@@ -0,0 +1,73 @@
+/*  Copyright (c) 2000-2006 hamcrest.org
+ */
+package org.hamcrest.text;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.text.IsEqualIgnoringWhiteSpace.equalToIgnoringWhiteSpace;
+
+import java.nio.CharBuffer;
+
+import org.hamcrest.AbstractMatcherTest;
+import org.hamcrest.Matcher;
+
+public class IsEqualIgnoringWhiteSpaceTest extends AbstractMatcherTest {
+
+    private final Matcher<String> matcher = equalToIgnoringWhiteSpace("Hello World   how\n are we? ");
+
+    @Override
+    protected Matcher<?> createMatcher() {
+        return matcher;
+    }
+
+    public void testPassesIfWordsAreSameButWhitespaceDiffers() {
+        assertThat("Hello World how are we?", matcher);
+        assertThat("   Hello World   how are \n\n\twe?", matcher);
+    }
+
+    public void testFailsIfTextOtherThanWhitespaceDiffers() {
+        assertThat("Hello PLANET how are we?", not(matcher));
+        assertThat("Hello World how are we", not(matcher));
+    }
+
+    public void testFailsIfWhitespaceIsAddedOrRemovedInMidWord() {
+        assertThat("HelloWorld how are we?", not(matcher));
+        assertThat("Hello Wo rld how are we?", not(matcher));
+    }
+
+    public void testIgnoresControlCharactersAtEitherEndLikeTrim() {
+        assertThat("hello\u0001", equalToIgnoringWhiteSpace("hello"));
+        assertThat("\u0000 hello \u0001 \u0002", equalToIgnoringWhiteSpace("hello"));
+        assertThat("hello", equalToIgnoringWhiteSpace("\u0001hello"));
+        assertThat("hel\u0001lo", not(equalToIgnoringWhiteSpace("hello")));
+    }
+
+    public void testFailsIfMatchingAgainstNull() {
+        assertThat(null, not(matcher));
+    }
+
+    public void testRequiresNonNullStringToBeConstructed() {
+        try {
+            new IsEqualIgnoringWhiteSpace(null);
+            fail("Expected exception");
+        } catch (IllegalArgumentException goodException) {
+            // expected!
+        }
+    }
+
+    public void testHasAReadableDescription() {
+        assertDescription("equalToIgnoringWhiteSpace(\"Hello World   how\\n are we? \")",
+                        matcher);
+    }
+
+    public void testMatchesOtherCharSequences() {
+        final Matcher<CharSequence> sequenceMatcher = new IsEqualIgnoringWhiteSpace("Hello World   how\n are we? ");
+
+        assertThat(new StringBuilder("   Hello World   how are \n\n\twe?"), sequenceMatcher);
+        assertThat(CharBuffer.wrap("hello world how are WE?\t"), sequenceMatcher);
+        assertThat(new StringBuilder("Hello World how are we? really"), not(sequenceMatcher));
+        assertThat(new StringBuilder("Hello Wo rld how are we?"), not(sequenceMatcher));
+        assertThat(new StringBuilder("Hello World how"), not(sequenceMatcher));
+        assertMismatchDescription("was  Hello PLANET", sequenceMatcher, new StringBuilder(" Hello\tPLANET "));
+    }
+}
@@ -46,6 +46,18 @@ public interface Description {
     Description appendList(String start, String separator, String end,
                            Iterable<? extends SelfDescribing> values);
 
+    /**
+     * Starts a segment of the path to the part of the examined object whose mismatch
+     * is described next, such as the name of a feature or property. Every segment must
+     * be ended with {@link #endPath()}. Descriptions that are only text ignore paths.
+     */
+    Description beginPath(String segment);
+
+    /**
+     * Ends the segment of the mismatch path most recently begun.
+     */
+    Description endPath();
+
 
     public static final class NullDescription implements Description {
       @Override
@@ -81,6 +93,16 @@ public interface Description {
         return this;
       }
 
+      @Override
+      public Description beginPath(String segment) {
+        return this;
+      }
+
+      @Override
+      public Description endPath() {
+        return this;
+      }
+
       @Override
         public String toString() {
           return "";
@@ -0,0 +1,143 @@
+package org.hamcrest.benchmarks;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the Hamcrest benchmarks with the GC profiler attached, so that every result
+ * reports its allocation rate alongside its time, and optionally compares the
+ * results with a previously saved baseline.
+ * <p/>
+ * Usage:
+ * <pre>
+ * java -jar hamcrest-benchmarks.jar [-save results.properties] [-baseline baseline.properties]
+ *                                   [-threshold percent] [jmh options...]
+ * </pre>
+ * <code>-save</code> writes the time (ns/op) and normalised allocation (B/op) of every
+ * benchmark and parameter combination to a properties file. <code>-baseline</code> reads
+ * such a file and reports the change for each result; the runner exits with status 1 if
+ * any result is slower, or allocates more, than the baseline by more than
+ * <code>-threshold</code> percent (10 by default). Any remaining arguments are passed to
+ * JMH, e.g. a benchmark regular expression or <code>-p size=1000000</code>.
+ */
+public final class BenchmarkRunner {
+    private static final String TIME = ".time";
+    private static final String ALLOCATION = ".alloc";
+    private static final String ALLOCATION_RESULT = "gc.alloc.rate.norm";
+
+    private BenchmarkRunner() { }
+
+    public static void main(String[] args) throws Exception {
+        String savePath = null;
+        String baselinePath = null;
+        double threshold = 10.0;
+        List<String> jmhArgs = new ArrayList<String>();
+        for (int i = 0; i < args.length; i++) {
+            if ("-save".equals(args[i]) && i + 1 < args.length) {
+                savePath = args[++i];
+            } else if ("-baseline".equals(args[i]) && i + 1 < args.length) {
+                baselinePath = args[++i];
+            } else if ("-threshold".equals(args[i]) && i + 1 < args.length) {
+                threshold = Double.parseDouble(args[++i]);
+            } else {
+                jmhArgs.add(args[i]);
+            }
+        }
+
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(jmhArgs.toArray(new String[jmhArgs.size()])))
+                .addProfiler(GCProfiler.class)
+                .build();
+        Properties results = summarise(new Runner(options).run());
+
+        if (savePath != null) {
+            store(results, savePath);
+        }
+        if (baselinePath != null && !compare(load(baselinePath), results, threshold)) {
+            System.exit(1);
+        }
+    }
+
+    private static Properties summarise(Collection<RunResult> runResults) {
+        Properties summary = new Properties();
+        for (RunResult runResult : runResults) {
+            String key = keyOf(runResult.getParams());
+            summary.setProperty(key + TIME, String.valueOf(runResult.getPrimaryResult().getScore()));
+            for (Map.Entry<String, Result> secondary : runResult.getSecondaryResults().entrySet()) {
+                if (secondary.getKey().endsWith(ALLOCATION_RESULT)) {
+                    summary.setProperty(key + ALLOCATION, String.valueOf(secondary.getValue().getScore()));
+                }
+            }
+        }
+        return summary;
+    }
+
+    private static String keyOf(BenchmarkParams params) {
+        StringBuilder key = new StringBuilder(params.getBenchmark());
+        for (String name : params.getParamsKeys()) {
+            key.append('[').append(name).append('=').append(params.getParam(name)).append(']');
+        }
+        return key.toString();
+    }
+
+    /**
+     * @return false if any result has regressed by more than the threshold
+     */
+    private static boolean compare(Properties baseline, Properties current, double threshold) {
+        boolean withinThreshold = true;
+        System.out.println();
+        System.out.println(String.format("%-100s %14s %14s %9s", "Result", "Baseline", "Current", "Change"));
+        for (String key : new TreeSet<String>(current.stringPropertyNames())) {
+            String before = baseline.getProperty(key);
+            if (before == null) {
+                continue;
+            }
+            double was = Double.parseDouble(before);
+            double now = Double.parseDouble(current.getProperty(key));
+            double change = was == 0 ? (now == 0 ? 0 : Double.POSITIVE_INFINITY) : (now - was) * 100 / was;
+            boolean regressed = change > threshold;
+            withinThreshold &= !regressed;
+            System.out.println(String.format("%-100s %14.2f %14.2f %+8.1f%%%s",
+                    key, was, now, change, regressed ? "  REGRESSION" : ""));
+        }
+        return withinThreshold;
+    }
+
+    private static Properties load(String path) throws IOException {
+        Properties properties = new Properties();
+        InputStream in = new FileInputStream(path);
+        try {
+            properties.load(in);
+        } finally {
+            in.close();
+        }
+        return properties;
+    }
+
+    private static void store(Properties properties, String path) throws IOException {
+        OutputStream out = new FileOutputStream(path);
+        try {
+            properties.store(out, "Hamcrest benchmark results: time in ns/op, allocation in B/op");
+        } finally {
+            out.close();
+        }
+    }
+}
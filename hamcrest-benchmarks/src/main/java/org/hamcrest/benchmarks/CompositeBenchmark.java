@@ -0,0 +1,76 @@
+package org.hamcrest.benchmarks;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.hamcrest.core.AllOf;
+import org.hamcrest.core.AnyOf;
+import org.hamcrest.core.IsAnything;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link AllOf} and {@link AnyOf} with a varying number of children.
+ * The <code>anyOf</code> cases are arranged so that only the last child matches,
+ * which is the worst case for shortcut evaluation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CompositeBenchmark {
+    @Param({"2", "10", "100"})
+    public int children;
+
+    private final String actual = "item-target";
+    private Matcher<String> allOf;
+    private Matcher<String> anyOfLastMatches;
+    private Matcher<String> anyOfNoneMatch;
+
+    @Setup
+    public void setUp() {
+        List<Matcher<? super String>> passing = new ArrayList<Matcher<? super String>>(children);
+        List<Matcher<? super String>> lastMatches = new ArrayList<Matcher<? super String>>(children);
+        List<Matcher<? super String>> noneMatch = new ArrayList<Matcher<? super String>>(children);
+        for (int i = 0; i < children; i++) {
+            passing.add(new IsAnything<String>());
+            lastMatches.add(equalTo(i == children - 1 ? actual : "item-" + i));
+            noneMatch.add(equalTo("item-" + i));
+        }
+        allOf = new AllOf<String>(passing);
+        anyOfLastMatches = new AnyOf<String>(lastMatches);
+        anyOfNoneMatch = new AnyOf<String>(noneMatch);
+    }
+
+    @Benchmark
+    public boolean allOfMatches() {
+        return allOf.matches(actual);
+    }
+
+    @Benchmark
+    public boolean anyOfLastMatches() {
+        return anyOfLastMatches.matches(actual);
+    }
+
+    @Benchmark
+    public boolean anyOfNoneMatch() {
+        return anyOfNoneMatch.matches(actual);
+    }
+
+    @Benchmark
+    public String anyOfDescribeMismatch() {
+        StringDescription description = new StringDescription();
+        anyOfNoneMatch.describeMismatch(actual, description);
+        return description.toString();
+    }
+}
@@ -0,0 +1,55 @@
+package org.hamcrest.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic input data shared by the benchmarks, so that runs are
+ * comparable with a saved baseline.
+ */
+final class Fixtures {
+    private Fixtures() { }
+
+    public static int[] ints(int size) {
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = i * 31;
+        }
+        return result;
+    }
+
+    public static String[] strings(int size) {
+        String[] result = new String[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = "item-" + i;
+        }
+        return result;
+    }
+
+    public static List<String> stringList(int size) {
+        List<String> result = new ArrayList<String>(size);
+        for (int i = 0; i < size; i++) {
+            result.add("item-" + i);
+        }
+        return result;
+    }
+
+    public static List<Integer> integerList(int size) {
+        List<Integer> result = new ArrayList<Integer>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+
+    /**
+     * Text of the given length with an occasional character that needs escaping.
+     */
+    public static String text(int length) {
+        StringBuilder result = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            result.append(i % 64 == 63 ? '"' : (char) ('a' + i % 26));
+        }
+        return result.toString();
+    }
+}
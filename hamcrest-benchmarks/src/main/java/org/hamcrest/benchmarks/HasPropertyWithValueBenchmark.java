@@ -0,0 +1,76 @@
+package org.hamcrest.benchmarks;
+
+import static org.hamcrest.beans.HasPropertyWithValue.hasProperty;
+import static org.hamcrest.core.Every.everyItem;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link org.hamcrest.beans.HasPropertyWithValue} on a single bean and
+ * across a list of beans.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class HasPropertyWithValueBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private final Matcher<Object> nameMatcher = hasProperty("name", startsWith("name-"));
+    private final Matcher<Iterable<Object>> everyName = everyItem(nameMatcher);
+    private final Person matching = new Person("name-0", 0);
+    private final Person mismatching = new Person("other", 0);
+    private List<Person> people;
+
+    @Setup
+    public void setUp() {
+        people = new ArrayList<Person>(size);
+        for (int i = 0; i < size; i++) {
+            people.add(new Person("name-" + i, i));
+        }
+    }
+
+    @Benchmark
+    public boolean matchesOne() {
+        return nameMatcher.matches(matching);
+    }
+
+    @Benchmark
+    public String describeMismatchOne() {
+        StringDescription description = new StringDescription();
+        nameMatcher.describeMismatch(mismatching, description);
+        return description.toString();
+    }
+
+    @Benchmark
+    public boolean matchesEvery() {
+        return everyName.matches(people);
+    }
+
+    public static class Person {
+        private final String name;
+        private final int age;
+
+        public Person(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        public String getName() { return name; }
+        public int getAge() { return age; }
+    }
+}
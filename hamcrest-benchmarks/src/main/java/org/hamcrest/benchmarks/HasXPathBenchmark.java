@@ -0,0 +1,70 @@
+package org.hamcrest.benchmarks;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.xml.HasXPath.hasXPath;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * Measures {@link org.hamcrest.xml.HasXPath} construction and evaluation against
+ * documents with an increasing number of elements.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class HasXPathBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private Document document;
+    private Matcher<Node> lastItem;
+    private Matcher<Node> missingItem;
+
+    @Setup
+    public void setUp() throws Exception {
+        document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+        Element root = document.createElement("root");
+        document.appendChild(root);
+        for (int i = 0; i < size; i++) {
+            Element item = document.createElement("item");
+            item.setAttribute("id", String.valueOf(i));
+            item.setTextContent("item-" + i);
+            root.appendChild(item);
+        }
+        lastItem = hasXPath("/root/item[@id='" + (size - 1) + "']", equalTo("item-" + (size - 1)));
+        missingItem = hasXPath("/root/item[@id='" + (size - 1) + "']", equalTo("item-other"));
+    }
+
+    @Benchmark
+    public Matcher<Node> construct() {
+        return hasXPath("/root/item[@id='0']", equalTo("item-0"));
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return lastItem.matches(document);
+    }
+
+    @Benchmark
+    public String describeMismatch() {
+        StringDescription description = new StringDescription();
+        missingItem.describeMismatch(document, description);
+        return description.toString();
+    }
+}
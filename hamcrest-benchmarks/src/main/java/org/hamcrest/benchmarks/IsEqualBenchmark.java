@@ -0,0 +1,79 @@
+package org.hamcrest.benchmarks;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link org.hamcrest.core.IsEqual} against scalar values and against
+ * primitive and object arrays of increasing length.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class IsEqualBenchmark {
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    private String actualString;
+    private Matcher<String> stringMatcher;
+
+    private int[] actualInts;
+    private int[] differentInts;
+    private Matcher<int[]> intArrayMatcher;
+
+    private String[] actualStrings;
+    private Matcher<String[]> stringArrayMatcher;
+
+    @Setup
+    public void setUp() {
+        actualString = Fixtures.text(size);
+        stringMatcher = equalTo(Fixtures.text(size));
+
+        actualInts = Fixtures.ints(size);
+        differentInts = Fixtures.ints(size);
+        differentInts[size - 1]++;
+        intArrayMatcher = equalTo(Fixtures.ints(size));
+
+        actualStrings = Fixtures.strings(size);
+        stringArrayMatcher = equalTo(Fixtures.strings(size));
+    }
+
+    @Benchmark
+    public boolean matchesString() {
+        return stringMatcher.matches(actualString);
+    }
+
+    @Benchmark
+    public boolean matchesIntArray() {
+        return intArrayMatcher.matches(actualInts);
+    }
+
+    @Benchmark
+    public boolean mismatchesIntArray() {
+        return intArrayMatcher.matches(differentInts);
+    }
+
+    @Benchmark
+    public boolean matchesObjectArray() {
+        return stringArrayMatcher.matches(actualStrings);
+    }
+
+    @Benchmark
+    public String describeMismatchIntArray() {
+        StringDescription description = new StringDescription();
+        intArrayMatcher.describeMismatch(differentInts, description);
+        return description.toString();
+    }
+}
@@ -0,0 +1,77 @@
+package org.hamcrest.benchmarks;
+
+import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
+import static org.hamcrest.number.OrderingComparison.greaterThan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link org.hamcrest.collection.IsIterableContainingInAnyOrder} when the
+ * examined items arrive in the reverse order of the expected items, and when every
+ * matcher is satisfied by every item. Larger inputs can be requested from the
+ * command line, e.g. <code>-p size=1000000</code>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class IsIterableContainingInAnyOrderBenchmark {
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int size;
+
+    private List<String> reversed;
+    private List<String> missingOne;
+    private Matcher<Iterable<? extends String>> matcher;
+    private List<Integer> integers;
+    private Matcher<Iterable<? extends Integer>> interchangeableMatcher;
+
+    @Setup
+    public void setUp() {
+        reversed = Fixtures.stringList(size);
+        Collections.reverse(reversed);
+        missingOne = new ArrayList<String>(reversed);
+        missingOne.set(0, "unexpected");
+        matcher = containsInAnyOrder(Fixtures.strings(size));
+        integers = Fixtures.integerList(size);
+        List<Matcher<? super Integer>> nonNegative = new ArrayList<Matcher<? super Integer>>(size);
+        for (int i = 0; i < size; i++) {
+            nonNegative.add(greaterThan(-1));
+        }
+        interchangeableMatcher = containsInAnyOrder(nonNegative);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return matcher.matches(reversed);
+    }
+
+    @Benchmark
+    public boolean matchesInterchangeable() {
+        return interchangeableMatcher.matches(integers);
+    }
+
+    @Benchmark
+    public boolean mismatches() {
+        return matcher.matches(missingOne);
+    }
+
+    @Benchmark
+    public String describeMismatch() {
+        StringDescription description = new StringDescription();
+        matcher.describeMismatch(missingOne, description);
+        return description.toString();
+    }
+}
@@ -0,0 +1,58 @@
+package org.hamcrest.benchmarks;
+
+import static org.hamcrest.core.AllOf.allOf;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.StringContains.containsString;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures rendering of values, value lists and matcher descriptions through
+ * {@link StringDescription}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class StringDescriptionBenchmark {
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    private String text;
+    private List<Integer> values;
+    private Matcher<String> matcher;
+
+    @Setup
+    public void setUp() {
+        text = Fixtures.text(size);
+        values = Fixtures.integerList(size);
+        matcher = allOf(containsString("a"), not(equalTo("b")), equalTo(text));
+    }
+
+    @Benchmark
+    public String appendStringValue() {
+        return new StringDescription().appendValue(text).toString();
+    }
+
+    @Benchmark
+    public String appendValueList() {
+        return new StringDescription().appendValueList("[", ", ", "]", values).toString();
+    }
+
+    @Benchmark
+    public String matcherToString() {
+        return StringDescription.toString(matcher);
+    }
+}
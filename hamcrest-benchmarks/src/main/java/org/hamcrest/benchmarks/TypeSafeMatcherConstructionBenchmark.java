@@ -0,0 +1,67 @@
+package org.hamcrest.benchmarks;
+
+import static org.hamcrest.core.IsAnything.anything;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Description;
+import org.hamcrest.FeatureMatcher;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.TypeSafeMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the construction cost of the type safe base classes, which find
+ * their expected type reflectively.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class TypeSafeMatcherConstructionBenchmark {
+
+    @Benchmark
+    public Matcher<String> typeSafeMatcher() {
+        return new TypeSafeMatcher<String>() {
+            @Override
+            protected boolean matchesSafely(String item) {
+                return item.isEmpty();
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("an empty string");
+            }
+        };
+    }
+
+    @Benchmark
+    public Matcher<String> typeSafeDiagnosingMatcher() {
+        return new TypeSafeDiagnosingMatcher<String>() {
+            @Override
+            protected boolean matchesSafely(String item, Description mismatchDescription) {
+                return item.isEmpty();
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("an empty string");
+            }
+        };
+    }
+
+    @Benchmark
+    public Matcher<String> featureMatcher() {
+        return new FeatureMatcher<String, Integer>(anything(), "a string with length", "length") {
+            @Override
+            protected Integer featureValueOf(String actual) {
+                return actual.length();
+            }
+        };
+    }
+}
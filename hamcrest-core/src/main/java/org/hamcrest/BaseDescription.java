@@ -6,7 +6,6 @@ import java.util.Arrays;
 import java.util.Iterator;
 
 import org.hamcrest.internal.ArrayIterator;
-import org.hamcrest.internal.SelfDescribingValueIterator;
 
 /**
  * A {@link Description} that is stored as a string.
@@ -77,7 +76,17 @@ public abstract class BaseDescription implements Description {
     }
     
     private <T> Description appendValueList(String start, String separator, String end, Iterator<T> values) {
-        return appendList(start, separator, end, new SelfDescribingValueIterator<T>(values));
+        boolean separate = false;
+        
+        append(start);
+        while (values.hasNext()) {
+            if (separate) append(separator);
+            appendValue(values.next());
+            separate = true;
+        }
+        append(end);
+        
+        return this;
     }
     
     @Override
@@ -85,6 +94,19 @@ public abstract class BaseDescription implements Description {
         return appendList(start, separator, end, values.iterator());
     }
 
+    /**
+     * Paths add nothing to a description stored as a string.
+     */
+    @Override
+    public Description beginPath(String segment) {
+        return this;
+    }
+
+    @Override
+    public Description endPath() {
+        return this;
+    }
+
     private Description appendList(String start, String separator, String end, Iterator<? extends SelfDescribing> i) {
         boolean separate = false;
         
@@ -110,35 +132,68 @@ public abstract class BaseDescription implements Description {
         }
     }
     
+    /**
+     * Append the characters of <var>str</var> from index <var>start</var> up to, but
+     * not including, index <var>end</var> to the description.
+     * The default implementation passes the substring to {@link #append(String)}.
+     * Override in subclasses to provide an efficient implementation.
+     */
+    protected void append(String str, int start, int end) {
+        append(str.substring(start, end));
+    }
+
     /**
      * Append the char <var>c</var> to the description.  
      */
     protected abstract void append(char c);
 
+    /**
+     * Most strings need no escaping at all, so the runs of characters between
+     * escapes are appended in bulk.
+     */
     private void toJavaSyntax(String unformatted) {
         append('"');
-        for (int i = 0; i < unformatted.length(); i++) {
-            toJavaSyntax(unformatted.charAt(i));
+        final int length = unformatted.length();
+        int runStart = 0;
+        for (int i = 0; i < length; i++) {
+            final String escape = escapeOf(unformatted.charAt(i));
+            if (escape != null) {
+                if (i > runStart) {
+                    append(unformatted, runStart, i);
+                }
+                append(escape);
+                runStart = i + 1;
+            }
+        }
+        if (runStart == 0) {
+            append(unformatted);
+        } else if (runStart < length) {
+            append(unformatted, runStart, length);
         }
         append('"');
     }
 
     private void toJavaSyntax(char ch) {
+        final String escape = escapeOf(ch);
+        if (escape != null) {
+            append(escape);
+        } else {
+            append(ch);
+        }
+    }
+
+    private static String escapeOf(char ch) {
         switch (ch) {
             case '"':
-                append("\\\"");
-                break;
+                return "\\\"";
             case '\n':
-                append("\\n");
-                break;
+                return "\\n";
             case '\r':
-                append("\\r");
-                break;
+                return "\\r";
             case '\t':
-                append("\\t");
-                break;
+                return "\\t";
             default:
-                append(ch);
+                return null;
         }
     }
 }
@@ -0,0 +1,232 @@
+package org.hamcrest;
+
+import static java.lang.String.valueOf;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+
+import org.hamcrest.internal.ArrayIterator;
+
+/**
+ * A {@link Description} that is stored as a string of limited size, so that
+ * describing huge values and collections stays cheap and readable.
+ * <p/>
+ * There are four budgets:
+ * <ul>
+ *   <li>the total number of characters; once it is spent, further text is
+ *       dropped, lists stop iterating, and {@link #toString()} ends with a
+ *       count of the characters that were dropped</li>
+ *   <li>the number of elements shown from each list or array; the rest are
+ *       not iterated, and are counted if the list's size is known</li>
+ *   <li>the depth of nested lists and self describing objects</li>
+ *   <li>the length of each value's string form</li>
+ * </ul>
+ * Matchers that describe mismatches item by item can call
+ * {@link #isExhausted(Description)} to stop early.
+ */
+public class BoundedDescription extends BaseDescription {
+    public static final int DEFAULT_MAX_LENGTH = 10000;
+    public static final int DEFAULT_MAX_ELEMENTS = 100;
+    public static final int DEFAULT_MAX_DEPTH = 10;
+    public static final int DEFAULT_MAX_VALUE_LENGTH = 500;
+
+    private static final String ELLIPSIS = "...";
+    private static final int UNKNOWN_SIZE = -1;
+
+    private final StringBuilder out = new StringBuilder();
+    private final int maxLength;
+    private final int maxElements;
+    private final int maxDepth;
+    private final int maxValueLength;
+    private int depth = 0;
+    private long droppedLength = 0;
+    private boolean isTruncated = false;
+
+    public BoundedDescription() {
+        this(DEFAULT_MAX_LENGTH, DEFAULT_MAX_ELEMENTS, DEFAULT_MAX_DEPTH, DEFAULT_MAX_VALUE_LENGTH);
+    }
+
+    /**
+     * @param maxLength The most characters to keep
+     * @param maxElements The most elements to show from each list or array
+     * @param maxDepth The deepest nesting of lists and self describing objects to show
+     * @param maxValueLength The most characters to show of each value
+     */
+    public BoundedDescription(int maxLength, int maxElements, int maxDepth, int maxValueLength) {
+        if (maxLength < 0 || maxElements < 0 || maxDepth < 0 || maxValueLength < 0) {
+            throw new IllegalArgumentException("budgets must not be negative");
+        }
+        this.maxLength = maxLength;
+        this.maxElements = maxElements;
+        this.maxDepth = maxDepth;
+        this.maxValueLength = maxValueLength;
+    }
+
+    /**
+     * @return true if the description is a BoundedDescription that has spent its character budget,
+     *         so anything more appended to it would be dropped
+     */
+    public static boolean isExhausted(Description description) {
+        return description instanceof BoundedDescription && ((BoundedDescription) description).isFull();
+    }
+
+    @Override
+    public Description appendDescriptionOf(SelfDescribing value) {
+        if (isFull()) {
+            isTruncated = true;
+            return this;
+        }
+        if (depth >= maxDepth) {
+            append(ELLIPSIS);
+            return this;
+        }
+        depth++;
+        try {
+            value.describeTo(this);
+        } finally {
+            depth--;
+        }
+        return this;
+    }
+
+    @Override
+    public Description appendValue(Object value) {
+        if (isFull()) {
+            isTruncated = true;
+            return this;
+        }
+        if (value != null && value.getClass().isArray()) {
+            return appendBoundedList("[", ", ", "]", new ArrayIterator(value), Array.getLength(value), true);
+        }
+        if (value instanceof String) {
+            final String string = (String) value;
+            if (string.length() <= maxValueLength) {
+                return super.appendValue(string);
+            }
+            super.appendValue(string.substring(0, maxValueLength));
+            append(elided(string.length() - maxValueLength, "more chars"));
+            return this;
+        }
+        if (value == null || value instanceof Number || value instanceof Character || value instanceof Boolean) {
+            return super.appendValue(value);
+        }
+
+        final String text = descriptionOf(value);
+        append('<');
+        if (text.length() <= maxValueLength) {
+            append(text);
+        } else {
+            append(text.substring(0, maxValueLength));
+            append(elided(text.length() - maxValueLength, "more chars"));
+        }
+        append('>');
+        return this;
+    }
+
+    @Override
+    public <T> Description appendValueList(String start, String separator, String end, Iterable<T> values) {
+        return appendBoundedList(start, separator, end, values.iterator(), sizeOf(values), true);
+    }
+
+    @Override
+    public Description appendList(String start, String separator, String end, Iterable<? extends SelfDescribing> values) {
+        return appendBoundedList(start, separator, end, values.iterator(), sizeOf(values), false);
+    }
+
+    private Description appendBoundedList(String start, String separator, String end, Iterator<?> items, int size, boolean areValues) {
+        if (isFull()) {
+            isTruncated = true;
+            return this;
+        }
+        append(start);
+        if (depth >= maxDepth) {
+            if (items.hasNext()) {
+                append(size == UNKNOWN_SIZE ? ELLIPSIS : elided(size, "items"));
+            }
+            append(end);
+            return this;
+        }
+
+        depth++;
+        try {
+            int count = 0;
+            while (items.hasNext()) {
+                if (count > 0) {
+                    append(separator);
+                }
+                if (count == maxElements || isFull()) {
+                    append(size == UNKNOWN_SIZE ? ELLIPSIS : elided(size - count, "more"));
+                    break;
+                }
+                final Object item = items.next();
+                if (areValues) {
+                    appendValue(item);
+                } else {
+                    appendDescriptionOf((SelfDescribing) item);
+                }
+                count++;
+            }
+        } finally {
+            depth--;
+        }
+        append(end);
+        return this;
+    }
+
+    @Override
+    protected void append(String str) {
+        final int room = maxLength - out.length();
+        if (str.length() <= room) {
+            out.append(str);
+        } else {
+            out.append(str, 0, room);
+            droppedLength += str.length() - room;
+            isTruncated = true;
+        }
+    }
+
+    @Override
+    protected void append(char c) {
+        if (out.length() < maxLength) {
+            out.append(c);
+        } else {
+            droppedLength++;
+            isTruncated = true;
+        }
+    }
+
+    private boolean isFull() {
+        return out.length() >= maxLength;
+    }
+
+    /**
+     * Returns the description as a string, ending with a count of the characters
+     * that did not fit, if there were any. Values and lists that were not
+     * rendered at all cannot be counted, so the count is a lower bound.
+     */
+    @Override
+    public String toString() {
+        if (!isTruncated) {
+            return out.toString();
+        }
+        return out.toString() + elided(droppedLength, "or more chars");
+    }
+
+    private static String elided(long count, String what) {
+        return ELLIPSIS + "(" + count + " " + what + ")";
+    }
+
+    private static int sizeOf(Iterable<?> values) {
+        return values instanceof Collection ? ((Collection<?>) values).size() : UNKNOWN_SIZE;
+    }
+
+    private static String descriptionOf(Object value) {
+        try {
+            return valueOf(value);
+        }
+        catch (Exception e) {
+            return value.getClass().getName() + "@" + Integer.toHexString(value.hashCode());
+        }
+    }
+}
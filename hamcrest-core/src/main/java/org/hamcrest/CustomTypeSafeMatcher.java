@@ -32,6 +32,20 @@ public abstract class CustomTypeSafeMatcher<T> extends TypeSafeMatcher<T> {
         this.fixedDescription = description;
     }
 
+    /**
+     * Use this constructor to give the type of the object to be matched explicitly, instead
+     * of finding it reflectively.
+     * @param expectedType The type of the object to be matched
+     * @param description The description of the matcher
+     */
+    public CustomTypeSafeMatcher(Class<?> expectedType, String description) {
+        super(expectedType);
+        if (description == null) {
+            throw new IllegalArgumentException("Description must be non null!");
+        }
+        this.fixedDescription = description;
+    }
+
     @Override
     public final void describeTo(Description description) {
         description.appendText(fixedDescription);
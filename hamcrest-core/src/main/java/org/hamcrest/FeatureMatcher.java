@@ -27,6 +27,21 @@ public abstract class FeatureMatcher<T, U> extends TypeSafeDiagnosingMatcher<T>
     this.featureDescription = featureDescription;
     this.featureName = featureName;
   }
+
+  /**
+   * Use this constructor to give the type of the object to be matched explicitly, instead
+   * of finding it reflectively.
+   * @param expectedType The type of the object to be matched
+   * @param subMatcher The matcher to apply to the feature
+   * @param featureDescription Descriptive text to use in describeTo
+   * @param featureName Identifying text for mismatch message
+   */
+  public FeatureMatcher(Class<?> expectedType, Matcher<? super U> subMatcher, String featureDescription, String featureName) {
+    super(expectedType);
+    this.subMatcher = subMatcher;
+    this.featureDescription = featureDescription;
+    this.featureName = featureName;
+  }
   
   /**
    * Implement this to extract the interesting feature.
@@ -39,8 +54,10 @@ public abstract class FeatureMatcher<T, U> extends TypeSafeDiagnosingMatcher<T>
   protected boolean matchesSafely(T actual, Description mismatch) {
     final U featureValue = featureValueOf(actual);
     if (!subMatcher.matches(featureValue)) {
+      mismatch.beginPath(featureName);
       mismatch.appendText(featureName).appendText(" ");
       subMatcher.describeMismatch(featureValue, mismatch);
+      mismatch.endPath();
       return false;
     }
     return true;
@@ -10,16 +10,35 @@ public class MatcherAssert {
     
     public static <T> void assertThat(String reason, T actual, Matcher<? super T> matcher) {
         if (!matcher.matches(actual)) {
-            Description description = new StringDescription();
-            description.appendText(reason)
-                       .appendText("\nExpected: ")
-                       .appendDescriptionOf(matcher)
-                       .appendText("\n     but: ");
-            matcher.describeMismatch(actual, description);
-            
-            throw new AssertionError(description.toString());
+            final StringDescription description = StringDescription.borrow();
+            try {
+                throw failure(reason, actual, matcher, description);
+            } finally {
+                description.release();
+            }
         }
     }
+
+    /**
+     * Asserts that the actual value satisfies the matcher, describing any failure in the
+     * given, empty, description. Pass a {@link BoundedDescription} to keep the message
+     * short when the values involved are huge.
+     */
+    public static <T> void assertThat(String reason, T actual, Matcher<? super T> matcher, Description description) {
+        if (!matcher.matches(actual)) {
+            throw failure(reason, actual, matcher, description);
+        }
+    }
+
+    static <T> AssertionError failure(String reason, T actual, Matcher<? super T> matcher, Description description) {
+        description.appendText(reason)
+                   .appendText("\nExpected: ")
+                   .appendDescriptionOf(matcher)
+                   .appendText("\n     but: ");
+        matcher.describeMismatch(actual, description);
+        
+        return new AssertionError(description.toString());
+    }
     
     public static void assertThat(String reason, boolean assertion) {
         if (!assertion) {
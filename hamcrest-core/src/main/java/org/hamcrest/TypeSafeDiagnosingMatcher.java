@@ -57,7 +57,7 @@ public abstract class TypeSafeDiagnosingMatcher<T> extends BaseMatcher<T> {
     public final boolean matches(Object item) {
         return item != null
             && expectedType.isInstance(item)
-            && matchesSafely((T) item, new Description.NullDescription());
+            && matchesSafely((T) item, Description.NONE);
     }
 
     @SuppressWarnings("unchecked")
@@ -14,7 +14,15 @@ import java.util.List;
 public class AllOf<T> extends ShortcutCompositeMatcher<T> {
 
     public AllOf(Iterable<Matcher<? super T>> matchers) {
-        super(matchers, false, "and");
+        this(matchers, false);
+    }
+
+    /**
+     * @param matchers The matchers to combine
+     * @param adaptive Whether to reorder evaluation so that failing matchers are found sooner
+     */
+    public AllOf(Iterable<Matcher<? super T>> matchers, boolean adaptive) {
+        super(matchers, false, "and", adaptive);
     }
 
     /**
@@ -118,4 +126,32 @@ public class AllOf<T> extends ShortcutCompositeMatcher<T> {
         matchers.add(sixth);
         return allOf(matchers);
     }
+
+    /**
+     * Creates a matcher that matches if the examined object matches <b>ALL</b> of the specified matchers.
+     * The matchers are evaluated in the order that, from sampled cost and outcome, is expected to find
+     * a failing matcher soonest. Mismatches are still described in the specified order. The specified
+     * matchers must be free of side effects.
+     * <p/>
+     * For example:
+     * <pre>assertThat("myValue", adaptiveAllOf(containsString("Val"), startsWith("my")))</pre>
+     */
+    @Factory
+    public static <T> Matcher<T> adaptiveAllOf(Iterable<Matcher<? super T>> matchers) {
+        return new AllOf<T>(matchers, true);
+    }
+
+    /**
+     * Creates a matcher that matches if the examined object matches <b>ALL</b> of the specified matchers.
+     * The matchers are evaluated in the order that, from sampled cost and outcome, is expected to find
+     * a failing matcher soonest. Mismatches are still described in the specified order. The specified
+     * matchers must be free of side effects.
+     * <p/>
+     * For example:
+     * <pre>assertThat("myValue", adaptiveAllOf(containsString("Val"), startsWith("my")))</pre>
+     */
+    @Factory
+    public static <T> Matcher<T> adaptiveAllOf(Matcher<? super T>... matchers) {
+        return adaptiveAllOf(Arrays.asList(matchers));
+    }
 }
@@ -14,7 +14,15 @@ import org.hamcrest.Matcher;
 public class AnyOf<T> extends ShortcutCompositeMatcher<T> {
 
     public AnyOf(Iterable<Matcher<? super T>> matchers) {
-        super(matchers, true, "or");
+        this(matchers, false);
+    }
+
+    /**
+     * @param matchers The matchers to combine
+     * @param adaptive Whether to reorder evaluation so that matching matchers are found sooner
+     */
+    public AnyOf(Iterable<Matcher<? super T>> matchers, boolean adaptive) {
+        super(matchers, true, "or", adaptive);
     }
 
     /**
@@ -118,4 +126,32 @@ public class AnyOf<T> extends ShortcutCompositeMatcher<T> {
         matchers.add(sixth);
         return anyOf(matchers);
     }
+
+    /**
+     * Creates a matcher that matches if the examined object matches <b>ANY</b> of the specified matchers.
+     * The matchers are evaluated in the order that, from sampled cost and outcome, is expected to find
+     * a matching matcher soonest. Mismatches are still described in the specified order. The specified
+     * matchers must be free of side effects.
+     * <p/>
+     * For example:
+     * <pre>assertThat("myValue", adaptiveAnyOf(containsString("Val"), startsWith("foo")))</pre>
+     */
+    @Factory
+    public static <T> AnyOf<T> adaptiveAnyOf(Iterable<Matcher<? super T>> matchers) {
+        return new AnyOf<T>(matchers, true);
+    }
+
+    /**
+     * Creates a matcher that matches if the examined object matches <b>ANY</b> of the specified matchers.
+     * The matchers are evaluated in the order that, from sampled cost and outcome, is expected to find
+     * a matching matcher soonest. Mismatches are still described in the specified order. The specified
+     * matchers must be free of side effects.
+     * <p/>
+     * For example:
+     * <pre>assertThat("myValue", adaptiveAnyOf(containsString("Val"), startsWith("foo")))</pre>
+     */
+    @Factory
+    public static <T> AnyOf<T> adaptiveAnyOf(Matcher<? super T>... matchers) {
+        return adaptiveAnyOf(Arrays.asList(matchers));
+    }
 }
@@ -25,6 +25,13 @@ public class CombinableMatcher<T> extends TypeSafeDiagnosingMatcher<T> {
     description.appendDescriptionOf(matcher);
   }
 
+  /**
+   * @return the matcher that is applied to non-null items
+   */
+  public Matcher<? super T> getMatcher() {
+    return matcher;
+  }
+
   public CombinableMatcher<T> and(Matcher<? super T> other) {
     return new CombinableMatcher<T>(new AllOf<T>(templatedListWith(other)));
   }
@@ -1,19 +1,42 @@
 package org.hamcrest.core;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
 import org.hamcrest.Description;
 import org.hamcrest.Factory;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 
+/**
+ * Matches an {@link Iterable} whose items all satisfy an item matcher.
+ * <p/>
+ * Given an {@link ExecutorService}, the items of large collections are matched on
+ * several threads, see {@link #everyItemInParallel(Matcher)}.
+ */
 public class Every<T> extends TypeSafeDiagnosingMatcher<Iterable<T>> {
     private final Matcher<? super T> matcher;
+    private final ExecutorService executor;
 
     public Every(Matcher<? super T> matcher) {
+        this(matcher, null);
+    }
+
+    /**
+     * @param executor Runs the matching of large collections on several threads,
+     *        or null to match sequentially
+     */
+    public Every(Matcher<? super T> matcher, ExecutorService executor) {
         this.matcher= matcher;
+        this.executor = executor;
     }
 
     @Override
     public boolean matchesSafely(Iterable<T> collection, Description mismatchDescription) {
+        if (executor != null && ParallelScan.isWorthwhile(collection)) {
+            return matchesInParallel((Collection<T>) collection, mismatchDescription);
+        }
         for (T t : collection) {
             if (!matcher.matches(t)) {
                 mismatchDescription.appendText("an item ");
@@ -24,6 +47,31 @@ public class Every<T> extends TypeSafeDiagnosingMatcher<Iterable<T>> {
         return true;
     }
 
+    private boolean matchesInParallel(Collection<T> collection, Description mismatchDescription) {
+        final int failing = ParallelScan.firstIndex(collection, matcher, false, executor);
+        if (failing < 0) {
+            return true;
+        }
+        if (!(mismatchDescription instanceof Description.NullDescription)) {
+            mismatchDescription.appendText("an item ");
+            matcher.describeMismatch(itemAt(collection, failing), mismatchDescription);
+        }
+        return false;
+    }
+
+    private static <T> T itemAt(Collection<T> collection, int index) {
+        if (collection instanceof List) {
+            return ((List<T>) collection).get(index);
+        }
+        int i = 0;
+        for (T t : collection) {
+            if (i++ == index) {
+                return t;
+            }
+        }
+        throw new IllegalStateException("collection changed while being matched");
+    }
+
     @Override
     public void describeTo(Description description) {
         description.appendText("every item is ").appendDescriptionOf(matcher);
@@ -44,4 +92,31 @@ public class Every<T> extends TypeSafeDiagnosingMatcher<Iterable<T>> {
     public static <U> Matcher<Iterable<U>> everyItem(final Matcher<U> itemMatcher) {
         return new Every<U>(itemMatcher);
     }
+
+    /**
+     * Creates a matcher for {@link Iterable}s that only matches when the items of the
+     * examined {@link Iterable} are all matched by the specified <code>itemMatcher</code>.
+     * The items of a large {@link Collection} are matched on several threads, which
+     * stop as soon as an item that does not match is found, and the mismatch describes
+     * the first such item, as {@link #everyItem(Matcher)} does. The
+     * <code>itemMatcher</code> must be safe to use from several threads at once.
+     * <p/>
+     * For example:
+     * <pre>assertThat(millionsOfRows, everyItemInParallel(isValidRow()))</pre>
+     * 
+     * @param itemMatcher
+     *     the matcher to apply to every item provided by the examined {@link Iterable}
+     */
+    @Factory
+    public static <U> Matcher<Iterable<U>> everyItemInParallel(final Matcher<U> itemMatcher) {
+        return everyItemInParallel(itemMatcher, ParallelScan.defaultExecutor());
+    }
+
+    /**
+     * As {@link #everyItemInParallel(Matcher)}, running the matching on the specified
+     * <code>executor</code>.
+     */
+    public static <U> Matcher<Iterable<U>> everyItemInParallel(final Matcher<U> itemMatcher, ExecutorService executor) {
+        return new Every<U>(itemMatcher, executor);
+    }
 }
@@ -42,6 +42,13 @@ public class Is<T> extends BaseMatcher<T> {
         return matcher.getParameterType();
     }
 
+    /**
+     * @return the decorated matcher
+     */
+    public Matcher<T> getMatcher() {
+        return matcher;
+    }
+
     /**
      * Decorates another Matcher, retaining its behaviour, but allowing tests
      * to be slightly more expressive.
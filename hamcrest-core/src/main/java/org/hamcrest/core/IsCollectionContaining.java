@@ -1,39 +1,81 @@
 package org.hamcrest.core;
 
+import org.hamcrest.BoundedDescription;
 import org.hamcrest.Description;
 import org.hamcrest.Factory;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
-import static org.hamcrest.core.AllOf.allOf;
 import static org.hamcrest.core.IsEqual.equalTo;
 
+/**
+ * Matches an {@link Iterable} that yields at least one item satisfying an item matcher.
+ * <p/>
+ * When the item matcher is a plain {@link IsEqual} and the examined collection can look
+ * the value up itself (see {@link CollectionLookup}), it is asked to, and it is only
+ * traversed to describe a mismatch.
+ * <p/>
+ * Given an {@link ExecutorService}, the items of large collections are matched on
+ * several threads, see {@link #hasItemInParallel(Matcher)}.
+ */
 public class IsCollectionContaining<T> extends TypeSafeDiagnosingMatcher<Iterable<? super T>> {
     private final Matcher<? super T> elementMatcher;
+    private final ExecutorService executor;
 
     public IsCollectionContaining(Matcher<? super T> elementMatcher) {
+        this(elementMatcher, null);
+    }
+
+    /**
+     * @param executor Runs the matching of large collections on several threads,
+     *        or null to match sequentially
+     */
+    public IsCollectionContaining(Matcher<? super T> elementMatcher, ExecutorService executor) {
         this.elementMatcher = elementMatcher;
+        this.executor = executor;
     }
 
     @Override
     protected boolean matchesSafely(Iterable<? super T> collection, Description mismatchDescription) {
+        if (isPlainEquality(elementMatcher)) {
+            final Boolean contains = CollectionLookup.contains(collection, ((IsEqual<?>) elementMatcher).getExpectedValue());
+            if (Boolean.TRUE.equals(contains)) {
+                return true;
+            }
+            if (Boolean.FALSE.equals(contains) && mismatchDescription instanceof Description.NullDescription) {
+                return false;
+            }
+        }
+
         if (isEmpty(collection)) {
           mismatchDescription.appendText("was empty");
           return false;
         }
 
-        for (Object item : collection) {
-            if (elementMatcher.matches(item)) {
+        if (executor != null && ParallelScan.isWorthwhile(collection)) {
+            if (ParallelScan.firstIndex((Collection<?>) collection, elementMatcher, true, executor) >= 0) {
                 return true;
             }
+        } else {
+            for (Object item : collection) {
+                if (elementMatcher.matches(item)) {
+                    return true;
+                }
+            }
         }
 
         mismatchDescription.appendText("mismatches were: [");
         boolean isPastFirst = false;
         for (Object item : collection) {
+            if (BoundedDescription.isExhausted(mismatchDescription)) {
+                break;
+            }
             if (isPastFirst) {
               mismatchDescription.appendText(", ");
             }
@@ -48,6 +90,10 @@ public class IsCollectionContaining<T> extends TypeSafeDiagnosingMatcher<Iterabl
       return ! iterable.iterator().hasNext();
     }
 
+    static boolean isPlainEquality(Matcher<?> matcher) {
+        return matcher.getClass() == IsEqual.class;
+    }
+
     @Override
     public void describeTo(Description description) {
         description
@@ -92,10 +138,36 @@ public class IsCollectionContaining<T> extends TypeSafeDiagnosingMatcher<Iterabl
     }
 
     /**
-     * Creates a matcher for {@link Iterable}s that matches when consecutive passes over the
-     * examined {@link Iterable} yield at least one item that is matched by the corresponding
-     * matcher from the specified <code>itemMatchers</code>.  Whilst matching, each traversal of
-     * the examined {@link Iterable} will stop as soon as a matching item is found.
+     * Creates a matcher for {@link Iterable}s that only matches when the examined
+     * {@link Iterable} yields at least one item that is matched by the specified
+     * <code>itemMatcher</code>. The items of a large {@link Collection} are matched on
+     * several threads, which stop as soon as a matching item is found. The
+     * <code>itemMatcher</code> must be safe to use from several threads at once.
+     * <p/>
+     * For example:
+     * <pre>assertThat(millionsOfRows, hasItemInParallel(isSuspicious()))</pre>
+     * 
+     * @param itemMatcher
+     *     the matcher to apply to items provided by the examined {@link Iterable}
+     */
+    @Factory
+    public static <T> Matcher<Iterable<? super T>> hasItemInParallel(Matcher<? super T> itemMatcher) {
+        return hasItemInParallel(itemMatcher, ParallelScan.defaultExecutor());
+    }
+
+    /**
+     * As {@link #hasItemInParallel(Matcher)}, running the matching on the specified
+     * <code>executor</code>.
+     */
+    public static <T> Matcher<Iterable<? super T>> hasItemInParallel(Matcher<? super T> itemMatcher, ExecutorService executor) {
+        return new IsCollectionContaining<T>(itemMatcher, executor);
+    }
+
+    /**
+     * Creates a matcher for {@link Iterable}s that matches when a single pass over the
+     * examined {@link Iterable} yields, for each matcher in the specified <code>itemMatchers</code>,
+     * at least one item that it matches.  Whilst matching, the traversal of the examined
+     * {@link Iterable} will stop as soon as every matcher has been satisfied.
      * <p/>
      * For example:
      * <pre>assertThat(Arrays.asList("foo", "bar", "baz"), hasItems(endsWith("z"), endsWith("o")))</pre>
@@ -105,21 +177,14 @@ public class IsCollectionContaining<T> extends TypeSafeDiagnosingMatcher<Iterabl
      */
     @Factory
     public static <T> Matcher<Iterable<T>> hasItems(Matcher<? super T>... itemMatchers) {
-        List<Matcher<? super Iterable<T>>> all = new ArrayList<Matcher<? super Iterable<T>>>(itemMatchers.length);
-        
-        for (Matcher<? super T> elementMatcher : itemMatchers) {
-          // Doesn't forward to hasItem() method so compiler can sort out generics.
-          all.add(new IsCollectionContaining<T>(elementMatcher));
-        }
-        
-        return allOf(all);
+        return new IsCollectionContainingAll<T>(Arrays.asList(itemMatchers));
     }
     
     /**
-     * Creates a matcher for {@link Iterable}s that matches when consecutive passes over the
-     * examined {@link Iterable} yield at least one item that is equal to the corresponding
-     * item from the specified <code>items</code>.  Whilst matching, each traversal of the
-     * examined {@link Iterable} will stop as soon as a matching item is found.
+     * Creates a matcher for {@link Iterable}s that matches when a single pass over the
+     * examined {@link Iterable} yields, for each of the specified <code>items</code>, at least
+     * one item that is equal to it.  Whilst matching, the traversal of the examined
+     * {@link Iterable} will stop as soon as every item has been found.
      * <p/>
      * For example:
      * <pre>assertThat(Arrays.asList("foo", "bar", "baz"), hasItems("baz", "foo"))</pre>
@@ -129,12 +194,12 @@ public class IsCollectionContaining<T> extends TypeSafeDiagnosingMatcher<Iterabl
      */
     @Factory
     public static <T> Matcher<Iterable<T>> hasItems(T... items) {
-        List<Matcher<? super Iterable<T>>> all = new ArrayList<Matcher<? super Iterable<T>>>(items.length);
+        List<Matcher<? super T>> itemMatchers = new ArrayList<Matcher<? super T>>(items.length);
         for (T item : items) {
-            all.add(hasItem(item));
+            itemMatchers.add(equalTo(item));
         }
         
-        return allOf(all);
+        return new IsCollectionContainingAll<T>(itemMatchers);
     }
 
 }
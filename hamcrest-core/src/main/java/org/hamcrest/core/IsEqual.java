@@ -8,11 +8,17 @@ import org.hamcrest.Factory;
 import org.hamcrest.Matcher;
 
 import java.lang.reflect.Array;
+import java.util.Arrays;
 
 
 /**
  * Is the value equal to another value, as tested by the
  * {@link java.lang.Object#equals} invokedMethod?
+ * <p/>
+ * Arrays are compared element by element. Arrays of the same primitive type
+ * are compared with {@link Arrays#equals}, and arrays of objects recursively,
+ * so neither path boxes elements or goes through reflection. A mismatch
+ * between two arrays reports where they first differ.
  */
 public class IsEqual<T> extends BaseMatcher<T> {
     private final Object expectedValue;
@@ -29,6 +35,14 @@ public class IsEqual<T> extends BaseMatcher<T> {
         return areEqual(actualValue, expectedValue);
     }
 
+    @Override
+    public void describeMismatch(Object item, Description description) {
+        super.describeMismatch(item, description);
+        if (null != item && null != expectedValue && isArray(item) && isArray(expectedValue)) {
+            describeArrayDifference(item, expectedValue, description);
+        }
+    }
+
     @Override
     public void describeTo(Description description) {
         description.appendValue(expectedValue);
@@ -39,6 +53,13 @@ public class IsEqual<T> extends BaseMatcher<T> {
         return parameterType;
     }
 
+    /**
+     * @return the value that examined objects are compared with
+     */
+    public Object getExpectedValue() {
+        return expectedValue;
+    }
+
     private static boolean areEqual(Object actual, Object expected) {
         if (actual == null) {
             return expected == null;
@@ -52,15 +73,65 @@ public class IsEqual<T> extends BaseMatcher<T> {
     }
 
     private static boolean areArraysEqual(Object actualArray, Object expectedArray) {
+        final Class<?> componentType = actualArray.getClass().getComponentType();
+        if (componentType.isPrimitive() && componentType == expectedArray.getClass().getComponentType()) {
+            return arePrimitiveArraysEqual(actualArray, expectedArray, componentType);
+        }
+        if (actualArray instanceof Object[] && expectedArray instanceof Object[]) {
+            return areObjectArraysEqual((Object[]) actualArray, (Object[]) expectedArray);
+        }
         return areArrayLengthsEqual(actualArray, expectedArray) && areArrayElementsEqual(actualArray, expectedArray);
     }
 
+    private static boolean arePrimitiveArraysEqual(Object actualArray, Object expectedArray, Class<?> componentType) {
+        if (componentType == int.class) {
+            return Arrays.equals((int[]) actualArray, (int[]) expectedArray);
+        }
+        if (componentType == long.class) {
+            return Arrays.equals((long[]) actualArray, (long[]) expectedArray);
+        }
+        if (componentType == byte.class) {
+            return Arrays.equals((byte[]) actualArray, (byte[]) expectedArray);
+        }
+        if (componentType == char.class) {
+            return Arrays.equals((char[]) actualArray, (char[]) expectedArray);
+        }
+        if (componentType == double.class) {
+            return Arrays.equals((double[]) actualArray, (double[]) expectedArray);
+        }
+        if (componentType == float.class) {
+            return Arrays.equals((float[]) actualArray, (float[]) expectedArray);
+        }
+        if (componentType == short.class) {
+            return Arrays.equals((short[]) actualArray, (short[]) expectedArray);
+        }
+        return Arrays.equals((boolean[]) actualArray, (boolean[]) expectedArray);
+    }
+
+    private static boolean areObjectArraysEqual(Object[] actualArray, Object[] expectedArray) {
+        if (actualArray.length != expectedArray.length) {
+            return false;
+        }
+        for (int i = 0; i < actualArray.length; i++) {
+            if (!areEqual(actualArray[i], expectedArray[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Arrays of one primitive type and arrays of objects are handled above;
+     * this is for comparing an array of primitives with an array of another
+     * type, such as <code>int[]</code> with <code>Integer[]</code>.
+     */
     private static boolean areArrayLengthsEqual(Object actualArray, Object expectedArray) {
         return Array.getLength(actualArray) == Array.getLength(expectedArray);
     }
 
     private static boolean areArrayElementsEqual(Object actualArray, Object expectedArray) {
-        for (int i = 0; i < Array.getLength(actualArray); i++) {
+        final int length = Array.getLength(actualArray);
+        for (int i = 0; i < length; i++) {
             if (!areEqual(Array.get(actualArray, i), Array.get(expectedArray, i))) {
                 return false;
             }
@@ -68,6 +139,116 @@ public class IsEqual<T> extends BaseMatcher<T> {
         return true;
     }
 
+    private static void describeArrayDifference(Object actualArray, Object expectedArray, Description description) {
+        final int actualLength = Array.getLength(actualArray);
+        final int expectedLength = Array.getLength(expectedArray);
+        final int difference = firstDifference(actualArray, expectedArray, Math.min(actualLength, expectedLength));
+        if (difference >= 0) {
+            description.appendText(", first difference at index " + difference);
+        } else if (actualLength != expectedLength) {
+            description.appendText(", length was " + actualLength + " but expected " + expectedLength);
+        }
+    }
+
+    /**
+     * @return the first index, below <code>length</code>, at which the elements of the arrays differ,
+     *         or -1 if there is none
+     */
+    private static int firstDifference(Object actualArray, Object expectedArray, int length) {
+        final Class<?> componentType = actualArray.getClass().getComponentType();
+        if (componentType.isPrimitive() && componentType == expectedArray.getClass().getComponentType()) {
+            return firstPrimitiveDifference(actualArray, expectedArray, componentType, length);
+        }
+        if (actualArray instanceof Object[] && expectedArray instanceof Object[]) {
+            final Object[] actual = (Object[]) actualArray;
+            final Object[] expected = (Object[]) expectedArray;
+            for (int i = 0; i < length; i++) {
+                if (!areEqual(actual[i], expected[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!areEqual(Array.get(actualArray, i), Array.get(expectedArray, i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compares elements as {@link Arrays#equals} does for each primitive type.
+     */
+    private static int firstPrimitiveDifference(Object actualArray, Object expectedArray, Class<?> componentType, int length) {
+        if (componentType == int.class) {
+            final int[] actual = (int[]) actualArray;
+            final int[] expected = (int[]) expectedArray;
+            for (int i = 0; i < length; i++) {
+                if (actual[i] != expected[i]) {
+                    return i;
+                }
+            }
+        } else if (componentType == long.class) {
+            final long[] actual = (long[]) actualArray;
+            final long[] expected = (long[]) expectedArray;
+            for (int i = 0; i < length; i++) {
+                if (actual[i] != expected[i]) {
+                    return i;
+                }
+            }
+        } else if (componentType == byte.class) {
+            final byte[] actual = (byte[]) actualArray;
+            final byte[] expected = (byte[]) expectedArray;
+            for (int i = 0; i < length; i++) {
+                if (actual[i] != expected[i]) {
+                    return i;
+                }
+            }
+        } else if (componentType == char.class) {
+            final char[] actual = (char[]) actualArray;
+            final char[] expected = (char[]) expectedArray;
+            for (int i = 0; i < length; i++) {
+                if (actual[i] != expected[i]) {
+                    return i;
+                }
+            }
+        } else if (componentType == double.class) {
+            final double[] actual = (double[]) actualArray;
+            final double[] expected = (double[]) expectedArray;
+            for (int i = 0; i < length; i++) {
+                if (Double.doubleToLongBits(actual[i]) != Double.doubleToLongBits(expected[i])) {
+                    return i;
+                }
+            }
+        } else if (componentType == float.class) {
+            final float[] actual = (float[]) actualArray;
+            final float[] expected = (float[]) expectedArray;
+            for (int i = 0; i < length; i++) {
+                if (Float.floatToIntBits(actual[i]) != Float.floatToIntBits(expected[i])) {
+                    return i;
+                }
+            }
+        } else if (componentType == short.class) {
+            final short[] actual = (short[]) actualArray;
+            final short[] expected = (short[]) expectedArray;
+            for (int i = 0; i < length; i++) {
+                if (actual[i] != expected[i]) {
+                    return i;
+                }
+            }
+        } else {
+            final boolean[] actual = (boolean[]) actualArray;
+            final boolean[] expected = (boolean[]) expectedArray;
+            for (int i = 0; i < length; i++) {
+                if (actual[i] != expected[i]) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
     private static boolean isArray(Object o) {
         return o.getClass().isArray();
     }
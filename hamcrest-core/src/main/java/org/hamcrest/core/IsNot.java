@@ -34,6 +34,13 @@ public class IsNot<T> extends BaseMatcher<T>  {
     public Class<T> getParameterType() {
         return matcher.getParameterType();
     }
+
+    /**
+     * @return the matcher whose sense is inverted
+     */
+    public Matcher<T> getMatcher() {
+        return matcher;
+    }
     
     /**
      * Creates a matcher that wraps an existing matcher, but inverts the logic by which
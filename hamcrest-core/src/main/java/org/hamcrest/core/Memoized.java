@@ -0,0 +1,227 @@
+package org.hamcrest.core;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+
+/**
+ * Remembers whether another, expensive, matcher matched each object it was asked
+ * about, and the description of its mismatch, so that matching the same object
+ * again, or describing its mismatch after matching it, does not repeat the work.
+ * <p/>
+ * Objects are remembered by identity, not equality, and only weakly, so they can
+ * still be garbage collected. Once the cache is full, the least recently used
+ * object is forgotten. The wrapped matcher must give the same answer each time it
+ * is asked about an object, so the objects should not change while they are
+ * remembered. Null is never remembered. A remembered mismatch is appended to a
+ * description as plain text.
+ * <p/>
+ * A memoized matcher can be shared between threads, although two threads that
+ * ask about the same new object at the same time may both match it.
+ */
+public class Memoized<T> extends BaseMatcher<T> {
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final Matcher<T> matcher;
+    private final Cache cache;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public Memoized(Matcher<T> matcher) {
+        this(matcher, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize The most objects to remember at once
+     */
+    public Memoized(Matcher<T> matcher, int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maximum size must be positive");
+        }
+        this.matcher = matcher;
+        this.cache = new Cache(maxSize);
+    }
+
+    @Override
+    public boolean matches(Object item) {
+        if (item == null) {
+            return matcher.matches(null);
+        }
+        final Outcome known = cache.get(item);
+        if (known != null) {
+            hits.incrementAndGet();
+            return known.matched;
+        }
+        misses.incrementAndGet();
+        final boolean matched = matcher.matches(item);
+        cache.put(item, new Outcome(matched, null));
+        return matched;
+    }
+
+    @Override
+    public void describeMismatch(Object item, Description description) {
+        if (item == null) {
+            matcher.describeMismatch(null, description);
+            return;
+        }
+        final Outcome known = cache.get(item);
+        if (known != null && known.mismatch != null) {
+            hits.incrementAndGet();
+            description.appendText(known.mismatch);
+            return;
+        }
+        misses.incrementAndGet();
+        final String mismatch = renderedMismatch(item);
+        cache.put(item, new Outcome(known != null ? known.matched : matcher.matches(item), mismatch));
+        description.appendText(mismatch);
+    }
+
+    private String renderedMismatch(Object item) {
+        final StringDescription description = StringDescription.borrow();
+        try {
+            matcher.describeMismatch(item, description);
+            return description.toString();
+        } finally {
+            description.release();
+        }
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        matcher.describeTo(description);
+    }
+
+    @Override
+    public Class<T> getParameterType() {
+        return matcher.getParameterType();
+    }
+
+    /**
+     * Returns how many times a match or mismatch was answered from the cache.
+     */
+    public long hitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns how many times the wrapped matcher had to be asked.
+     */
+    public long missCount() {
+        return misses.get();
+    }
+
+    /**
+     * Returns how many objects are remembered.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    private static final class Outcome {
+        final boolean matched;
+        final String mismatch;
+
+        Outcome(boolean matched, String mismatch) {
+            this.matched = matched;
+            this.mismatch = mismatch;
+        }
+    }
+
+    /**
+     * A bounded, least recently used, map from weakly held objects, compared by identity.
+     */
+    private static final class Cache {
+        private final ReferenceQueue<Object> cleared = new ReferenceQueue<Object>();
+        private final Map<IdentityKey, Outcome> outcomes;
+
+        Cache(final int maxSize) {
+            this.outcomes = new LinkedHashMap<IdentityKey, Outcome>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<IdentityKey, Outcome> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        synchronized Outcome get(Object item) {
+            expungeCleared();
+            return outcomes.get(new IdentityKey(item, null));
+        }
+
+        synchronized void put(Object item, Outcome outcome) {
+            expungeCleared();
+            outcomes.put(new IdentityKey(item, cleared), outcome);
+        }
+
+        synchronized int size() {
+            expungeCleared();
+            return outcomes.size();
+        }
+
+        private void expungeCleared() {
+            Object key;
+            while ((key = cleared.poll()) != null) {
+                outcomes.remove(key);
+            }
+        }
+    }
+
+    private static final class IdentityKey extends WeakReference<Object> {
+        private final int hash;
+
+        IdentityKey(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+            final Object referent = get();
+            return referent != null && referent == ((IdentityKey) other).get();
+        }
+    }
+
+    /**
+     * Creates a matcher that remembers, for each object it is asked about, whether
+     * the specified <code>matcher</code> matched it and how it mismatched, so that
+     * an expensive matcher is not applied to the same object twice.
+     * <p/>
+     * For example:
+     * <pre>Matcher&lt;Node&gt; valid = memoized(hasXPath("/order[total &gt; 0]"));</pre>
+     *
+     * @param matcher
+     *     the matcher whose outcomes are to be remembered
+     */
+    @Factory
+    public static <T> Memoized<T> memoized(Matcher<T> matcher) {
+        return new Memoized<T>(matcher);
+    }
+
+    /**
+     * As {@link #memoized(Matcher)}, remembering at most <code>maxSize</code> objects.
+     */
+    public static <T> Memoized<T> memoized(Matcher<T> matcher, int maxSize) {
+        return new Memoized<T>(matcher, maxSize);
+    }
+}
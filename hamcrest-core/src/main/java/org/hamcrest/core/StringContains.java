@@ -18,6 +18,17 @@ public class StringContains extends SubstringMatcher {
         return s.indexOf(substring) >= 0;
     }
 
+    @Override
+    protected boolean evalSubstringOf(CharSequence s) {
+        final int last = s.length() - substring.length();
+        for (int i = 0; i <= last; i++) {
+            if (regionMatches(s, i, substring)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     protected String relationship() {
         return "containing";
@@ -27,6 +38,10 @@ public class StringContains extends SubstringMatcher {
      * Creates a matcher that matches if the examined {@link String} contains the specified
      * {@link String} anywhere.
      * <p/>
+     * The matcher also matches other kinds of {@link CharSequence}, without copying them. To
+     * examine them with type checking, use the <code>StringContains</code> constructor, which
+     * creates a <code>Matcher&lt;CharSequence&gt;</code>.
+     * <p/>
      * For example:
      * <pre>assertThat("myStringOfNote", containsString("ring"))</pre>
      * 
@@ -34,9 +49,10 @@ public class StringContains extends SubstringMatcher {
      *     the substring that the returned matcher will expect to find within any examined string
      * 
      */
+    @SuppressWarnings("unchecked")
     @Factory
     public static Matcher<String> containsString(String substring) {
-        return new StringContains(substring);
+        return (Matcher) new StringContains(substring);
     }
 
 }
\ No newline at end of file
@@ -18,6 +18,11 @@ public class StringEndsWith extends SubstringMatcher {
         return s.endsWith(substring);
     }
 
+    @Override
+    protected boolean evalSubstringOf(CharSequence s) {
+        return regionMatches(s, s.length() - substring.length(), substring);
+    }
+
     @Override
     protected String relationship() {
         return "ending with";
@@ -27,15 +32,20 @@ public class StringEndsWith extends SubstringMatcher {
      * Creates a matcher that matches if the examined {@link String} ends with the specified
      * {@link String}.
      * <p/>
+     * The matcher also matches other kinds of {@link CharSequence}, without copying them. To
+     * examine them with type checking, use the <code>StringEndsWith</code> constructor, which
+     * creates a <code>Matcher&lt;CharSequence&gt;</code>.
+     * <p/>
      * For example:
      * <pre>assertThat("myStringOfNote", endsWith("Note"))</pre>
      * 
      * @param suffix
      *      the substring that the returned matcher will expect at the end of any examined string
      */
+    @SuppressWarnings("unchecked")
     @Factory
     public static Matcher<String> endsWith(String suffix) {
-        return new StringEndsWith(suffix);
+        return (Matcher) new StringEndsWith(suffix);
     }
 
 }
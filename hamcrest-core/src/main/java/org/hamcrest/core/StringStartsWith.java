@@ -18,6 +18,11 @@ public class StringStartsWith extends SubstringMatcher {
         return s.startsWith(substring);
     }
 
+    @Override
+    protected boolean evalSubstringOf(CharSequence s) {
+        return regionMatches(s, 0, substring);
+    }
+
     @Override
     protected String relationship() {
         return "starting with";
@@ -27,15 +32,20 @@ public class StringStartsWith extends SubstringMatcher {
      * Creates a matcher that matches if the examined {@link String} starts with the specified
      * {@link String}.
      * <p/>
+     * The matcher also matches other kinds of {@link CharSequence}, without copying them. To
+     * examine them with type checking, use the <code>StringStartsWith</code> constructor, which
+     * creates a <code>Matcher&lt;CharSequence&gt;</code>.
+     * <p/>
      * For example:
      * <pre>assertThat("myStringOfNote", startsWith("my"))</pre>
      * 
      * @param prefix
      *      the substring that the returned matcher will expect at the start of any examined string
      */
+    @SuppressWarnings("unchecked")
     @Factory
     public static Matcher<String> startsWith(String prefix) {
-        return new StringStartsWith(prefix);
+        return (Matcher) new StringStartsWith(prefix);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package org.hamcrest.internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Recognises values whose <code>equals</code> and <code>hashCode</code> cannot change
+ * after construction, so that they can safely be placed in a hash based index.
+ */
+public final class ImmutableValues {
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<Class<?>>();
+    static {
+        IMMUTABLE_TYPES.add(String.class);
+        IMMUTABLE_TYPES.add(Boolean.class);
+        IMMUTABLE_TYPES.add(Character.class);
+        IMMUTABLE_TYPES.add(Byte.class);
+        IMMUTABLE_TYPES.add(Short.class);
+        IMMUTABLE_TYPES.add(Integer.class);
+        IMMUTABLE_TYPES.add(Long.class);
+        IMMUTABLE_TYPES.add(Float.class);
+        IMMUTABLE_TYPES.add(Double.class);
+        IMMUTABLE_TYPES.add(BigInteger.class);
+        IMMUTABLE_TYPES.add(BigDecimal.class);
+        IMMUTABLE_TYPES.add(Class.class);
+    }
+
+    private ImmutableValues() { }
+
+    /**
+     * @param value The value to examine, which may be null
+     * @return true if the value is null, an enum constant, or an instance of one of the
+     *         immutable JDK value types
+     */
+    public static boolean isImmutable(Object value) {
+        return value == null
+            || value instanceof Enum
+            || IMMUTABLE_TYPES.contains(value.getClass());
+    }
+}
@@ -25,20 +25,66 @@
  */
 package org.hamcrest.internal;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 public class ReflectiveTypeFinder {
+  private static final Map<String, Map<Class<?>, WeakReference<Class<?>>>> SHARED_CACHES
+      = new HashMap<String, Map<Class<?>, WeakReference<Class<?>>>>();
+
   private final String methodName;
   private final int expectedNumberOfParameters;
   private final int typedParameter;
+  private final Map<Class<?>, WeakReference<Class<?>>> cache;
 
   public ReflectiveTypeFinder(String methodName, int expectedNumberOfParameters, int typedParameter) {
     this.methodName = methodName;
     this.expectedNumberOfParameters = expectedNumberOfParameters;
     this.typedParameter = typedParameter;
+    this.cache = cacheFor(methodName, expectedNumberOfParameters, typedParameter);
+  }
+
+  /**
+   * Finders of this exact class with the same method signature always find the same type, so
+   * they share a cache. Subclasses may change how a type is found, so each gets its own cache.
+   * The cache holds the examined classes and the found types weakly, so it does not prevent
+   * class unloading.
+   */
+  private Map<Class<?>, WeakReference<Class<?>>> cacheFor(String methodName, int expectedNumberOfParameters, int typedParameter) {
+    if (getClass() != ReflectiveTypeFinder.class) {
+      return new WeakHashMap<Class<?>, WeakReference<Class<?>>>();
+    }
+    final String key = methodName + "/" + expectedNumberOfParameters + "/" + typedParameter;
+    synchronized (SHARED_CACHES) {
+      Map<Class<?>, WeakReference<Class<?>>> shared = SHARED_CACHES.get(key);
+      if (shared == null) {
+        shared = new WeakHashMap<Class<?>, WeakReference<Class<?>>>();
+        SHARED_CACHES.put(key, shared);
+      }
+      return shared;
+    }
   }
-  
+
   public Class<?> findExpectedType(Class<?> fromClass) {
+    synchronized (cache) {
+      final WeakReference<Class<?>> cached = cache.get(fromClass);
+      final Class<?> expectedType = cached == null ? null : cached.get();
+      if (expectedType != null) {
+        return expectedType;
+      }
+    }
+
+    final Class<?> expectedType = searchForExpectedType(fromClass);
+    synchronized (cache) {
+      cache.put(fromClass, new WeakReference<Class<?>>(expectedType));
+    }
+    return expectedType;
+  }
+
+  private Class<?> searchForExpectedType(Class<?> fromClass) {
     for (Class<?> c = fromClass; c != Object.class; c = c.getSuperclass()) {
         for (Method method : c.getDeclaredMethods()) {
             if (canObtainExpectedTypeFrom(method)) {
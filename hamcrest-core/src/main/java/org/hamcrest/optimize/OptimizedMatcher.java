@@ -0,0 +1,66 @@
+package org.hamcrest.optimize;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+
+/**
+ * Evaluates a simplified, but logically equivalent, version of a matcher tree while
+ * describing itself, and any mismatch, exactly as the original tree does.
+ *
+ * @see MatcherRewriter
+ */
+public class OptimizedMatcher<T> extends BaseMatcher<T> {
+    private final Matcher<T> original;
+    private final Matcher<Object> optimized;
+
+    private OptimizedMatcher(Matcher<T> original, Matcher<Object> optimized) {
+        this.original = original;
+        this.optimized = optimized;
+    }
+
+    @Override
+    public boolean matches(Object item) {
+        return optimized.matches(item);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendDescriptionOf(original);
+    }
+
+    @Override
+    public void describeMismatch(Object item, Description description) {
+        original.describeMismatch(item, description);
+    }
+
+    @Override
+    public Class<T> getParameterType() {
+        return original.getParameterType();
+    }
+
+    /**
+     * Creates a matcher that behaves exactly like the specified matcher, but evaluates a
+     * simplified version of it. Nested <code>allOf</code>, <code>anyOf</code>,
+     * <code>both</code>/<code>either</code> and <code>is</code> matchers are flattened,
+     * <code>anything()</code> is dropped from conjunctions, double negation is removed,
+     * repeated matchers are evaluated once and alternatives of <code>equalTo</code> immutable
+     * values are tested with a single hash lookup. The description, and any mismatch
+     * description, is that of the specified matcher.
+     * <p/>
+     * For example:
+     * <pre>assertThat(code, optimized(anyOf(equalTo("GB"), equalTo("FR"), equalTo("DE"))))</pre>
+     *
+     * @param matcher
+     *     the matcher tree to optimize
+     */
+    @Factory
+    public static <T> Matcher<T> optimized(Matcher<T> matcher) {
+        if (matcher instanceof OptimizedMatcher) {
+            return matcher;
+        }
+        final Matcher<Object> rewritten = MatcherRewriter.rewrite(matcher);
+        return rewritten == matcher ? matcher : new OptimizedMatcher<T>(matcher, rewritten);
+    }
+}
@@ -75,4 +75,23 @@ public final class BaseDescriptionTest {
         baseDescription.appendValue(value);
         assertEquals("<" + expected + ">", result.toString());
     }
+
+    @Test public void
+    escapesSpecialCharactersAnywhereInAppendedStringValue() {
+        baseDescription.appendValue("\"a\tb\r\nc\"");
+        assertEquals("\"\\\"a\\tb\\r\\nc\\\"\"", result.toString());
+    }
+
+    @Test public void
+    escapesAppendedCharacterValue() {
+        baseDescription.appendValue('\n');
+        assertEquals("\"\\n\"", result.toString());
+    }
+
+    @Test public void
+    appendsRangesOfAStringToStringDescriptions() {
+        final StringDescription description = new StringDescription();
+        description.appendValue("ab\tcd").appendValueList("[", ",", "]", "x\"", 1);
+        assertEquals("\"ab\\tcd\"[\"x\\\"\",<1>]", description.toString());
+    }
 }
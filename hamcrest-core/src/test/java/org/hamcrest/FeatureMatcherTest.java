@@ -35,6 +35,21 @@ public final class FeatureMatcherTest {
         assertEquals("was a org.hamcrest.FeatureMatcherTest$ShouldNotMatch (<ShouldNotMatch>)", mismatchDescription.toString());
     }
 
+    @Test public void
+    canBeGivenTheTypeOfTheObjectToBeMatched() {
+        FeatureMatcher<Thingy, String> typedMatcher = new FeatureMatcher<Thingy, String>(Thingy.class, new Match("bar"), "Thingy with result", "result") {
+            @Override
+            public String featureValueOf(Thingy actual) {
+                return actual.getResult();
+            }
+        };
+
+        assertMatches("feature", typedMatcher, new Thingy("bar"));
+        assertEquals(Thingy.class, typedMatcher.getParameterType());
+        assertMismatchDescription("was a org.hamcrest.FeatureMatcherTest$ShouldNotMatch (<ShouldNotMatch>)",
+                                  typedMatcher, new ShouldNotMatch());
+    }
+
     public static class Match extends IsEqual<String> {
         public Match(String equalArg) { super(equalArg); }
         @Override public void describeMismatch(Object item, Description description) {
@@ -0,0 +1,190 @@
+package org.hamcrest;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hamcrest.core.AllOf;
+import org.hamcrest.core.AnyOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+
+public final class StructuredDescriptionTest {
+    private final StructuredDescription description = new StructuredDescription();
+
+    @Test public void
+    rendersTheSameTextAsAStringDescription() {
+        final Matcher<Object> matcher = IsEqual.<Object>equalTo(asList("a\n", 'c', 1L));
+        description.appendText("text ").appendValue(new int[] {1, 2}).appendDescriptionOf(matcher)
+                   .appendValueList("{", "; ", "}", 1, "two")
+                   .appendList("(", ", ", ")", asList(matcher, matcher));
+
+        final StringDescription expected = new StringDescription();
+        expected.appendText("text ").appendValue(new int[] {1, 2}).appendDescriptionOf(matcher)
+                .appendValueList("{", "; ", "}", 1, "two")
+                .appendList("(", ", ", ")", asList(matcher, matcher));
+
+        assertEquals(expected.toString(), description.toString());
+    }
+
+    @Test public void
+    holdsValuesByReferenceUntilTheyAreRendered() {
+        final List<String> value = new ArrayList<String>();
+        description.appendValue(value);
+        value.add("added later");
+
+        assertEquals("<[added later]>", description.toString());
+    }
+
+    @Test public void
+    recordsTheMismatchPathsOfFeatures() {
+        final Matcher<Thingy> matcher = feature("outer", feature("inner", IsEqual.equalTo("expected")));
+        matcher.describeMismatch(new Thingy(new Thingy("actual")), description);
+
+        assertEquals(asList("outer.inner"), description.mismatchPaths());
+        assertEquals("outer inner was \"actual\"", description.toString());
+    }
+
+    @Test public void
+    keepsTheMismatchPathsOfCombinedMatchers() {
+        final Thingy actual = new Thingy("actual");
+        AnyOf.<Thingy>anyOf(feature("a", IsEqual.equalTo("x")), feature("b", IsEqual.equalTo("y")), feature("a", IsEqual.equalTo("x")))
+             .describeMismatch(actual, description);
+
+        assertEquals(asList("a", "b"), description.mismatchPaths());
+        assertEquals("a was \"actual\" and b was \"actual\"", description.toString());
+
+        final StructuredDescription allOfDescription = new StructuredDescription();
+        AllOf.<Thingy>allOf(feature("a", IsEqual.equalTo("actual")), feature("b", IsEqual.equalTo("y")))
+             .describeMismatch(actual, allOfDescription);
+
+        assertEquals(asList("b"), allOfDescription.mismatchPaths());
+    }
+
+    @Test public void
+    passesPathsOnWhenRenderedOntoAnotherDescription() {
+        description.beginPath("a").appendText("x").beginPath("b").appendValue(1).endPath().endPath();
+        final StructuredDescription other = new StructuredDescription();
+        description.renderTo(other);
+
+        assertEquals(asList("a.b"), other.mismatchPaths());
+        assertEquals("x<1>", other.toString());
+    }
+
+    @Test public void
+    recordsEverySiblingPath() {
+        description.beginPath("a").beginPath("b").endPath().beginPath("c").endPath().endPath();
+        description.beginPath("d").appendList("[", ",", "]", new ArrayList<SelfDescribing>());
+        description.endPath();
+
+        assertEquals(asList("a.b", "a.c", "d"), description.mismatchPaths());
+    }
+
+    @Test public void
+    cannotEndAPathThatWasNotBegun() {
+        try {
+            description.endPath();
+            fail("should not end path");
+        } catch (IllegalStateException expected) { }
+    }
+
+    @Test public void
+    writesEventsAsJson() throws IOException {
+        description.appendText("say \"hi\"\n").appendValue(null)
+                   .appendValueList("[", ", ", "]", "a\"b", 2);
+        description.beginPath("name").appendDescriptionOf(IsEqual.equalTo("x"));
+        description.endPath();
+
+        final StringBuilder json = new StringBuilder();
+        description.writeJsonTo(json);
+
+        assertEquals("[{\"text\":\"say \\\"hi\\\"\\n\"},"
+                   + "{\"value\":\"null\"},"
+                   + "{\"start\":\"[\",\"separator\":\", \",\"end\":\"]\",\"items\":["
+                   +   "{\"value\":\"\\\"a\\\\\\\"b\\\"\",\"type\":\"java.lang.String\"},"
+                   +   "{\"value\":\"<2>\",\"type\":\"java.lang.Integer\"}]},"
+                   + "{\"path\":\"name\",\"events\":["
+                   +   "{\"describing\":\"org.hamcrest.core.IsEqual\",\"events\":["
+                   +     "{\"value\":\"\\\"x\\\"\",\"type\":\"java.lang.String\"}]}]}]",
+                     json.toString());
+    }
+
+    @Test public void
+    passesOnFailuresToWriteJson() {
+        final IOException failure = new IOException("closed");
+        description.appendValue("value");
+        try {
+            description.writeJsonTo(new Appendable() {
+                @Override public Appendable append(CharSequence csq) throws IOException { throw failure; }
+                @Override public Appendable append(CharSequence csq, int start, int end) throws IOException { throw failure; }
+                @Override public Appendable append(char c) throws IOException {
+                    return this;
+                }
+            });
+            fail("should have failed");
+        } catch (IOException e) {
+            assertSame(failure, e);
+        }
+    }
+
+    @Test public void
+    writesEventsInACompactBinaryForm() throws IOException {
+        description.appendText("ab").appendValue(1);
+        description.beginPath("p").appendValueList("[", ",", "]");
+        description.endPath();
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        description.writeTo(new DataOutputStream(bytes));
+
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        expected.write(new byte[] {1, 2, 'a', 'b'});
+        expected.write(new byte[] {2, 17});
+        expected.write("java.lang.Integer".getBytes("US-ASCII"));
+        expected.write(new byte[] {3, '<', '1', '>'});
+        expected.write(new byte[] {5, 1, 'p', 4, 1, '[', 1, ',', 1, ']', 0, 0, 0});
+        assertEquals(asList(toObjects(expected.toByteArray())), asList(toObjects(bytes.toByteArray())));
+    }
+
+    @Test public void
+    writesCharsBeyondAsciiAsVariableLengthIntegers() throws IOException {
+        description.appendText("\u00e9");
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        description.writeTo(new DataOutputStream(bytes));
+
+        assertEquals(asList((byte) 1, (byte) 1, (byte) 0xE9, (byte) 0x01, (byte) 0), asList(toObjects(bytes.toByteArray())));
+    }
+
+    private static Byte[] toObjects(byte[] bytes) {
+        final Byte[] objects = new Byte[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            objects[i] = bytes[i];
+        }
+        return objects;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Matcher<Thingy> feature(String name, Matcher<?> subMatcher) {
+        return new FeatureMatcher<Thingy, Object>(Thingy.class, (Matcher<Object>) subMatcher, name, name) {
+            @Override
+            protected Object featureValueOf(Thingy actual) {
+                return actual.value;
+            }
+        };
+    }
+
+    private static final class Thingy {
+        final Object value;
+
+        Thingy(Object value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package org.hamcrest;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.Test;
+
+public final class WriterDescriptionTest {
+
+    @Test public void
+    writesTheSameTextAsAStringDescription() {
+        final StringWriter out = new StringWriter();
+        final WriterDescription description = new WriterDescription(out, 4);
+        describeSomething(description);
+        description.flush();
+
+        assertEquals(describeSomething(new StringDescription()).toString(), out.toString());
+    }
+
+    @Test public void
+    writesInChunksOfTheBufferSize() {
+        final RecordingWriter out = new RecordingWriter();
+        final WriterDescription description = new WriterDescription(out, 8);
+        for (int i = 0; i < 100; i++) {
+            description.appendText("abc");
+        }
+        description.flush();
+
+        assertEquals(300, out.written.length());
+        assertEquals(8, out.largestWrite);
+    }
+
+    @Test public void
+    writesLongTextStraightThrough() {
+        final RecordingWriter out = new RecordingWriter();
+        final WriterDescription description = new WriterDescription(out, 8);
+        description.appendText("ab");
+        description.appendText("0123456789012345");
+        final char[] chars = "xyz0123456789".toCharArray();
+        description.appendText(chars, 1, 12);
+        description.flush();
+
+        assertEquals("ab0123456789012345yz0123456789", out.written.toString());
+        assertEquals(12, out.largestWrite);
+    }
+
+    @Test public void
+    writesNothingWhenConvertedToAString() {
+        final RecordingWriter out = new RecordingWriter();
+        final WriterDescription description = new WriterDescription(out, 8);
+        description.appendText("abc");
+
+        assertEquals("description written to " + RecordingWriter.class.getName(), description.toString());
+        assertEquals(0, out.written.length());
+    }
+
+    @Test public void
+    encodesOntoAChannel() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final Charset utf8 = Charset.forName("UTF-8");
+        final WriterDescription description = new WriterDescription(Channels.newChannel(bytes), utf8);
+        description.appendText("caf\u00e9 ").appendValue("\u00fc");
+        description.flush();
+
+        assertEquals("caf\u00e9 \"\u00fc\"", new String(bytes.toByteArray(), "UTF-8"));
+    }
+
+    private static Description describeSomething(Description description) {
+        return description.appendText("values ")
+                          .appendValueList("[", ", ", "]", "a\tb", 1L, 'c', new int[] {1, 2})
+                          .appendText(" and a matcher ")
+                          .appendDescriptionOf(IsEqual.equalTo("x"));
+    }
+
+    private static final class RecordingWriter extends Writer {
+        final StringBuilder written = new StringBuilder();
+        int largestWrite = 0;
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            written.append(chars, offset, length);
+            largestWrite = Math.max(largestWrite, length);
+        }
+
+        @Override public void flush() { }
+        @Override public void close() { }
+    }
+}
@@ -8,6 +8,7 @@ import static org.hamcrest.AbstractMatcherTest.assertMatches;
 import static org.hamcrest.AbstractMatcherTest.assertMismatchDescription;
 import static org.hamcrest.AbstractMatcherTest.assertNullSafe;
 import static org.hamcrest.AbstractMatcherTest.assertUnknownTypeSafe;
+import static org.hamcrest.core.AnyOf.adaptiveAnyOf;
 import static org.hamcrest.core.AnyOf.anyOf;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
@@ -17,7 +18,10 @@ import static org.hamcrest.core.StringEndsWith.endsWith;
 import static org.hamcrest.core.StringStartsWith.startsWith;
 import static org.junit.Assert.assertEquals;
 
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
 import org.hamcrest.Matcher;
+import org.hamcrest.StructuredDescription;
 import org.junit.Test;
 
 public final class AnyOfTest {
@@ -81,4 +85,67 @@ public final class AnyOfTest {
             equalTo(new SampleSubClass("ugly")));
         assertEquals(SampleSubClass.class, matcher.getParameterType());
     }
+
+    @Test public void
+    doesNotDescribeMismatchesOfChildrenWhenOnlyMatching() {
+        final CountingMatcher neverMatches = new CountingMatcher();
+        Matcher<String> matcher = anyOf(neverMatches, neverMatches, equalTo("good"));
+
+        assertMatches("didn't pass last sub-matcher", matcher, "good");
+        assertDoesNotMatch("didn't fail all sub-matchers", matcher, "bad");
+        assertEquals(0, neverMatches.describedMismatches);
+    }
+
+    @Test public void
+    describesTheMismatchOfEachChildOnceIntoAStructuredDescription() {
+        final CountingMatcher neverMatches = new CountingMatcher();
+        final CountingMatcher alsoNeverMatches = new CountingMatcher();
+        anyOf(neverMatches, alsoNeverMatches).describeMismatch("bad", new StructuredDescription());
+
+        assertEquals(1, neverMatches.describedMismatches);
+        assertEquals(1, alsoNeverMatches.describedMismatches);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test public void
+    adaptiveMatcherEvaluatesToTheLogicalDisjunction() {
+        Matcher<Object> matcher = adaptiveAnyOf(equalTo((Object) "good"), instanceOf(Number.class));
+
+        for (int i = 0; i < 4096; i++) {
+            assertMatches("didn't pass second sub-matcher", matcher, i);
+            assertDoesNotMatch("didn't fail both sub-matchers", matcher, "other");
+        }
+        assertMatches("didn't pass first sub-matcher", matcher, "good");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test public void
+    adaptiveMatcherDescribesMismatchesInDeclarationOrder() {
+        Matcher<Object> matcher = adaptiveAnyOf(equalTo((Object) "good"), instanceOf(Number.class));
+
+        for (int i = 0; i < 4096; i++) {
+            matcher.matches(i);
+        }
+        assertMismatchDescription("was \"other\" and \"other\" is a java.lang.String", matcher, "other");
+        assertDescription("(\"good\" or an instance of java.lang.Number)", matcher);
+    }
+
+    private static final class CountingMatcher extends BaseMatcher<String> {
+        int describedMismatches = 0;
+
+        @Override
+        public boolean matches(Object item) {
+            return false;
+        }
+
+        @Override
+        public void describeMismatch(Object item, Description description) {
+            describedMismatches++;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("never");
+        }
+    }
 }
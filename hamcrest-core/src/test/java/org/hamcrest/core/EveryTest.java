@@ -8,10 +8,16 @@ import static org.hamcrest.AbstractMatcherTest.assertMismatchDescription;
 import static org.hamcrest.AbstractMatcherTest.assertNullSafe;
 import static org.hamcrest.AbstractMatcherTest.assertUnknownTypeSafe;
 import static org.hamcrest.core.StringContains.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
+import org.hamcrest.Description;
 import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
 import org.junit.Test;
 
 public final class EveryTest {
@@ -44,5 +50,50 @@ public final class EveryTest {
     describesAMismatch() {
         assertMismatchDescription("an item was \"BXB\"", matcher, asList("BXB"));
     }
-}
 
+    @Test public void
+    describesTheFirstMismatchWhenMatchingInParallel() {
+        final Matcher<Iterable<String>> parallel = Every.everyItemInParallel(containsString("a"));
+        final List<String> items = new ArrayList<String>(Collections.nCopies(100000, "a"));
+        items.set(70000, "second");
+        items.set(50000, "first");
+        
+        for (int i = 0; i < 10; i++) {
+            assertMismatchDescription("an item was \"first\"", parallel, items);
+        }
+        items.set(50000, "a");
+        items.set(70000, "a");
+        assertMatches("didn't match", parallel, items);
+        assertMatches("didn't match small list", parallel, asList("AaA", "BaB"));
+    }
+
+    @Test public void
+    passesOnFailuresOfTheItemMatcherWhenMatchingInParallel() {
+        final IllegalStateException failure = new IllegalStateException("broken");
+        final Matcher<Iterable<String>> parallel = Every.everyItemInParallel(new FailingMatcher(failure));
+        try {
+            parallel.matches(new ArrayList<String>(Collections.nCopies(100000, "a")));
+            fail("should have failed");
+        } catch (IllegalStateException e) {
+            assertEquals(failure, e);
+        }
+    }
+
+    private static final class FailingMatcher extends TypeSafeMatcher<String> {
+        private final RuntimeException failure;
+
+        FailingMatcher(RuntimeException failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        protected boolean matchesSafely(String item) {
+            throw failure;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("fails");
+        }
+    }
+}
@@ -5,6 +5,7 @@ package org.hamcrest.core;
 import static org.hamcrest.AbstractMatcherTest.assertDescription;
 import static org.hamcrest.AbstractMatcherTest.assertDoesNotMatch;
 import static org.hamcrest.AbstractMatcherTest.assertMatches;
+import static org.hamcrest.AbstractMatcherTest.assertMismatchDescription;
 import static org.hamcrest.AbstractMatcherTest.assertNullSafe;
 import static org.hamcrest.AbstractMatcherTest.assertUnknownTypeSafe;
 import static org.hamcrest.core.IsEqual.equalTo;
@@ -112,6 +113,48 @@ public final class IsEqualTest {
         assertDoesNotMatch("matched unexpectedly", matcher, null);
     }
 
+    @Test public void
+    comparesArraysOfEachPrimitiveType() {
+        assertMatches("bytes", equalTo(new byte[] {1, 2}), new byte[] {1, 2});
+        assertDoesNotMatch("bytes", equalTo(new byte[] {1, 2}), new byte[] {1, 3});
+        assertMatches("longs", equalTo(new long[] {1, 2}), new long[] {1, 2});
+        assertMatches("chars", equalTo(new char[] {'a'}), new char[] {'a'});
+        assertMatches("shorts", equalTo(new short[] {1}), new short[] {1});
+        assertMatches("booleans", equalTo(new boolean[] {true}), new boolean[] {true});
+        assertMatches("floats", equalTo(new float[] {Float.NaN}), new float[] {Float.NaN});
+        assertMatches("doubles", equalTo(new double[] {Double.NaN}), new double[] {Double.NaN});
+        assertDoesNotMatch("signed zeros", equalTo(new double[] {0.0}), new double[] {-0.0});
+    }
+
+    @Test public void
+    comparesArraysOfDifferentComponentTypesElementByElement() {
+        assertDoesNotMatch("int and long", equalTo(new long[] {1, 2}), new int[] {1, 2});
+        assertMatches("int and Integer", equalTo(new Integer[] {1, 2}), new int[] {1, 2});
+        assertMatches("nested", equalTo(new Object[] {"a", new int[] {1}}), new Object[] {"a", new int[] {1}});
+        assertDoesNotMatch("nested", equalTo(new Object[] {"a", new int[] {1}}), new Object[] {"a", new int[] {2}});
+    }
+
+    @Test public void
+    reportsTheFirstDifferenceBetweenArrays() {
+        assertMismatchDescription("was [<1>, <2>, <4>], first difference at index 2",
+                                  equalTo(new int[] {1, 2, 3}), new int[] {1, 2, 4});
+        assertMismatchDescription("was [\"a\"], length was 1 but expected 2",
+                                  equalTo(new String[] {"a", "b"}), new String[] {"a"});
+        assertMismatchDescription("was <1>", equalTo(2), 1);
+    }
+
+    @Test public void
+    reportsTheFirstDifferenceForEachComponentType() {
+        assertMismatchDescription("was [<1>, <3>], first difference at index 1",
+                                  equalTo(new byte[] {1, 2}), new byte[] {1, 3});
+        assertMismatchDescription("was [<NaN>, <0.0>], first difference at index 1",
+                                  equalTo(new double[] {Double.NaN, -0.0}), new double[] {Double.NaN, 0.0});
+        assertMismatchDescription("was [\"a\", \"c\"], first difference at index 1",
+                                  equalTo(new char[] {'a', 'b'}), new char[] {'a', 'c'});
+        assertMismatchDescription("was [<1>, <3>], first difference at index 1",
+                                  equalTo(new Integer[] {1, 2}), new int[] {1, 3});
+    }
+
     @Test public void
     includesTheResultOfCallingToStringOnItsArgumentInTheDescription() {
         final String argumentDescription = "ARGUMENT DESCRIPTION";
@@ -0,0 +1,57 @@
+package org.hamcrest.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+public final class ReflectiveTypeFinderTest {
+
+    public static class StringTarget {
+        protected boolean examine(String item) { return true; }
+    }
+
+    public static class SubTarget extends StringTarget { }
+
+    public static class IntegerTarget {
+        protected boolean examine(Integer item) { return true; }
+    }
+
+    @Test public void
+    findsTypeOfParameterOfNamedMethod() {
+        ReflectiveTypeFinder finder = new ReflectiveTypeFinder("examine", 1, 0);
+
+        assertEquals(String.class, finder.findExpectedType(StringTarget.class));
+        assertEquals(String.class, finder.findExpectedType(SubTarget.class));
+        assertEquals(Integer.class, finder.findExpectedType(IntegerTarget.class));
+    }
+
+    @Test public void
+    findsTheSameTypeWhenAskedAgain() {
+        ReflectiveTypeFinder finder = new ReflectiveTypeFinder("examine", 1, 0);
+
+        assertEquals(String.class, finder.findExpectedType(StringTarget.class));
+        assertEquals(String.class, finder.findExpectedType(StringTarget.class));
+        assertEquals(String.class, new ReflectiveTypeFinder("examine", 1, 0).findExpectedType(StringTarget.class));
+    }
+
+    @Test public void
+    doesNotShareFoundTypesWithSubclassesOfFinder() {
+        new ReflectiveTypeFinder("examine", 1, 0).findExpectedType(StringTarget.class);
+
+        ReflectiveTypeFinder declaringClassFinder = new ReflectiveTypeFinder("examine", 1, 0) {
+            @Override
+            protected Class<?> expectedTypeFrom(Method method) {
+                return method.getDeclaringClass();
+            }
+        };
+
+        assertEquals(StringTarget.class, declaringClassFinder.findExpectedType(StringTarget.class));
+    }
+
+    @Test(expected = Error.class) public void
+    failsWhenNoMethodHasTheExpectedSignature() {
+        new ReflectiveTypeFinder("examine", 2, 0).findExpectedType(StringTarget.class);
+    }
+}
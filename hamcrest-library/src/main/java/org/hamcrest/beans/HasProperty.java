@@ -27,7 +27,7 @@ public class HasProperty<T> extends TypeSafeMatcher<T> {
     @Override
     public boolean matchesSafely(T obj) {
         try {
-            return PropertyUtil.getPropertyDescriptor(propertyName, obj) != null;
+            return PropertyAccessor.forProperty(obj.getClass(), propertyName) != null;
         } catch (IllegalArgumentException e) {
             return false;
         }
@@ -2,9 +2,7 @@
  */
 package org.hamcrest.beans;
 
-import java.beans.PropertyDescriptor;
-import java.lang.reflect.Method;
-
+import org.hamcrest.BaseMatcher;
 import org.hamcrest.Condition;
 import org.hamcrest.Description;
 import org.hamcrest.Factory;
@@ -13,7 +11,6 @@ import org.hamcrest.TypeSafeDiagnosingMatcher;
 
 import static org.hamcrest.Condition.matched;
 import static org.hamcrest.Condition.notMatched;
-import static org.hamcrest.beans.PropertyUtil.NO_ARGUMENTS;
 
 /**
  * Matcher that asserts that a JavaBean property on an argument passed to the
@@ -61,18 +58,27 @@ import static org.hamcrest.beans.PropertyUtil.NO_ARGUMENTS;
  * JavaBeans specification for more information:
  * <p/>
  * http://java.sun.com/products/javabeans/docs/index.html
+ * <p/>
+ * The property's read method is found by introspection only once for each
+ * bean class, and the matcher remembers the accessor for the last class it
+ * saw, so repeated matching against beans of the same class does not
+ * introspect again.
  *
  * @author Iain McGinniss
  * @author Nat Pryce
  * @author Steve Freeman
  */
 public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
-    private static final Condition.Step<PropertyDescriptor,Method> WITH_READ_METHOD = withReadMethod();
+    private static final Condition.Step<PropertyAccessor, PropertyAccessor> WITH_READ_METHOD = withReadMethod();
     private final String propertyName;
+    private final String mismatchPrefix;
     private final Matcher<Object> valueMatcher;
+    private final Matcher<Object> valueOnPropertyPath = new ValueOnPropertyPath();
+    private volatile PropertyAccessor lastAccessor;
 
     public HasPropertyWithValue(String propertyName, Matcher<?> valueMatcher) {
         this.propertyName = propertyName;
+        this.mismatchPrefix = "property '" + propertyName + "' ";
         this.valueMatcher = nastyGenericsWorkaround(valueMatcher);
     }
 
@@ -81,7 +87,7 @@ public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
         return propertyOn(bean, mismatch)
                   .and(WITH_READ_METHOD)
                   .and(withPropertyValue(bean))
-                  .matching(valueMatcher, "property '" + propertyName + "' ");
+                  .matching(valueOnPropertyPath);
     }
 
     @Override
@@ -90,8 +96,8 @@ public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
                    .appendDescriptionOf(valueMatcher).appendText(")");
     }
 
-    private Condition<PropertyDescriptor> propertyOn(T bean, Description mismatch) {
-        PropertyDescriptor property = PropertyUtil.getPropertyDescriptor(propertyName, bean);
+    private Condition<PropertyAccessor> propertyOn(T bean, Description mismatch) {
+        PropertyAccessor property = accessorFor(bean.getClass());
         if (property == null) {
             mismatch.appendText("No property \"" + propertyName + "\"");
             return notMatched();
@@ -100,12 +106,24 @@ public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
         return matched(property, mismatch);
     }
 
-    private Condition.Step<Method, Object> withPropertyValue(final T bean) {
-        return new Condition.Step<Method, Object>() {
+    private PropertyAccessor accessorFor(Class<?> beanClass) {
+        final PropertyAccessor last = lastAccessor;
+        if (last != null && last.beanClass() == beanClass) {
+            return last;
+        }
+        final PropertyAccessor accessor = PropertyAccessor.forProperty(beanClass, propertyName);
+        if (accessor != null) {
+            lastAccessor = accessor;
+        }
+        return accessor;
+    }
+
+    private Condition.Step<PropertyAccessor, Object> withPropertyValue(final T bean) {
+        return new Condition.Step<PropertyAccessor, Object>() {
             @Override
-            public Condition<Object> apply(Method readMethod, Description mismatch) {
+            public Condition<Object> apply(PropertyAccessor property, Description mismatch) {
                 try {
-                    return matched(readMethod.invoke(bean, NO_ARGUMENTS), mismatch);
+                    return matched(property.read(bean), mismatch);
                 } catch (Exception e) {
                     mismatch.appendText(e.getMessage());
                     return notMatched();
@@ -114,21 +132,44 @@ public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
         };
     }
 
+    /**
+     * The value matcher, describing its mismatch, as FeatureMatcher does, on a mismatch path
+     * named for the property.
+     */
+    private final class ValueOnPropertyPath extends BaseMatcher<Object> {
+        @Override
+        public boolean matches(Object value) {
+            return valueMatcher.matches(value);
+        }
+
+        @Override
+        public void describeMismatch(Object value, Description mismatch) {
+            mismatch.beginPath(propertyName);
+            mismatch.appendText(mismatchPrefix);
+            valueMatcher.describeMismatch(value, mismatch);
+            mismatch.endPath();
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            valueMatcher.describeTo(description);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private static Matcher<Object> nastyGenericsWorkaround(Matcher<?> valueMatcher) {
         return (Matcher<Object>) valueMatcher;
     }
 
-    private static Condition.Step<PropertyDescriptor,Method> withReadMethod() {
-        return new Condition.Step<PropertyDescriptor, java.lang.reflect.Method>() {
+    private static Condition.Step<PropertyAccessor, PropertyAccessor> withReadMethod() {
+        return new Condition.Step<PropertyAccessor, PropertyAccessor>() {
             @Override
-            public Condition<Method> apply(PropertyDescriptor property, Description mismatch) {
-                final Method readMethod = property.getReadMethod();
-                if (null == readMethod) {
-                    mismatch.appendText("property \"" + property.getName() + "\" is not readable");
+            public Condition<PropertyAccessor> apply(PropertyAccessor property, Description mismatch) {
+                if (!property.isReadable()) {
+                    mismatch.appendText("property \"" + property.name() + "\" is not readable");
                     return notMatched();
                 }
-                return matched(readMethod, mismatch);
+                return matched(property, mismatch);
             }
         };
     }
@@ -0,0 +1,106 @@
+package org.hamcrest.beans;
+
+import java.beans.PropertyDescriptor;
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static org.hamcrest.beans.PropertyUtil.NO_ARGUMENTS;
+
+/**
+ * Reads a JavaBean property of a particular class, through a read method
+ * that is found by introspection only once per class.
+ * <p/>
+ * The accessors for a class are cached weakly by class, and softly by value.
+ * An accessor refers to its class, and to its read method, so a class that
+ * is in the cache, and its class loader, can only be unloaded once the
+ * garbage collector has cleared the soft reference to its accessors, which
+ * it does before running out of memory.
+ *
+ * @see PropertyUtil
+ */
+final class PropertyAccessor {
+    private static final Map<Class<?>, SoftReference<Map<String, PropertyAccessor>>> ACCESSORS_BY_CLASS
+        = new WeakHashMap<Class<?>, SoftReference<Map<String, PropertyAccessor>>>();
+
+    private final Class<?> beanClass;
+    private final String name;
+    private final String displayName;
+    private final Class<?> type;
+    private final Method readMethod;
+
+    PropertyAccessor(Class<?> beanClass, PropertyDescriptor descriptor) {
+        this.beanClass = beanClass;
+        this.name = descriptor.getName();
+        this.displayName = descriptor.getDisplayName();
+        this.type = descriptor.getPropertyType();
+        this.readMethod = descriptor.getReadMethod();
+    }
+
+    public Class<?> beanClass() {
+        return beanClass;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String displayName() {
+        return displayName;
+    }
+
+    /**
+     * @return the type of the property, or null for an indexed property
+     *         that does not support non-indexed access
+     */
+    public Class<?> type() {
+        return type;
+    }
+
+    public boolean isReadable() {
+        return readMethod != null;
+    }
+
+    /**
+     * @return the read method, or null if the property is not readable
+     */
+    public Method readMethod() {
+        return readMethod;
+    }
+
+    /**
+     * @throws Exception if the read method cannot be invoked, or throws
+     */
+    public Object read(Object bean) throws Exception {
+        return readMethod.invoke(bean, NO_ARGUMENTS);
+    }
+
+    /**
+     * @return the accessor for the named property of the given class, or null if there is no such property
+     * @throws IllegalArgumentException if there's a introspection failure
+     */
+    public static PropertyAccessor forProperty(Class<?> beanClass, String propertyName) throws IllegalArgumentException {
+        return accessorsFor(beanClass).get(propertyName);
+    }
+
+    private static Map<String, PropertyAccessor> accessorsFor(Class<?> beanClass) {
+        synchronized (ACCESSORS_BY_CLASS) {
+            final SoftReference<Map<String, PropertyAccessor>> cached = ACCESSORS_BY_CLASS.get(beanClass);
+            final Map<String, PropertyAccessor> accessors = cached == null ? null : cached.get();
+            if (accessors != null) {
+                return accessors;
+            }
+        }
+
+        final Map<String, PropertyAccessor> accessors = new HashMap<String, PropertyAccessor>();
+        for (PropertyDescriptor descriptor : PropertyUtil.propertyDescriptorsFor(beanClass, null)) {
+            accessors.put(descriptor.getName(), new PropertyAccessor(beanClass, descriptor));
+        }
+        synchronized (ACCESSORS_BY_CLASS) {
+            ACCESSORS_BY_CLASS.put(beanClass, new SoftReference<Map<String, PropertyAccessor>>(accessors));
+        }
+        return accessors;
+    }
+}
@@ -43,10 +43,22 @@ public class PropertyUtil {
      * @throws IllegalArgumentException if there's a introspection failure
      */
     public static PropertyDescriptor[] propertyDescriptorsFor(Object fromObj, Class<Object> stopClass) throws IllegalArgumentException {
+      return propertyDescriptorsFor(fromObj.getClass(), stopClass);
+    }
+
+    /**
+     * Returns all the property descriptors for the given class
+     * 
+     * @param beanClass The class to introspect
+     * @param stopClass Don't include any properties from this ancestor class upwards.
+     * @return Property descriptors
+     * @throws IllegalArgumentException if there's a introspection failure
+     */
+    public static PropertyDescriptor[] propertyDescriptorsFor(Class<?> beanClass, Class<Object> stopClass) throws IllegalArgumentException {
       try {
-        return Introspector.getBeanInfo(fromObj.getClass(), stopClass).getPropertyDescriptors();
+        return Introspector.getBeanInfo(beanClass, stopClass).getPropertyDescriptors();
       } catch (IntrospectionException e) {
-        throw new IllegalArgumentException("Could not get property descriptors for " + fromObj.getClass(), e);
+        throw new IllegalArgumentException("Could not get property descriptors for " + beanClass, e);
       }
     }
 
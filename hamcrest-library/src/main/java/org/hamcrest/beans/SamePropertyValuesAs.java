@@ -5,25 +5,31 @@ import org.hamcrest.*;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import static org.hamcrest.beans.PropertyUtil.NO_ARGUMENTS;
-import static org.hamcrest.beans.PropertyUtil.propertyDescriptorsFor;
 import static org.hamcrest.core.IsEqual.equalTo;
 
+/**
+ * Matches beans whose JavaBean properties have the same values as those of an
+ * expected bean, and which have no properties that the expected bean lacks.
+ * <p/>
+ * The properties of each bean class are introspected only once, into a
+ * {@link PropertyComparisonPlan} that is shared between matchers, so
+ * comparing many beans of the same class costs only the property reads.
+ */
 public class SamePropertyValuesAs<T> extends TypeSafeDiagnosingMatcher<T> {
     private final T expectedBean;
-    private final Set<String> propertyNames;
+    private final PropertyComparisonPlan plan;
     private final List<PropertyMatcher> propertyMatchers;
+    private volatile Class<?> lastClassWithNoExtraProperties;
 
 
     public SamePropertyValuesAs(T expectedBean) {
-        PropertyDescriptor[] descriptors = propertyDescriptorsFor(expectedBean, Object.class);
         this.expectedBean = expectedBean;
-        this.propertyNames = propertyNamesFrom(descriptors);
-        this.propertyMatchers = propertyMatchersFor(expectedBean, descriptors);
+        this.plan = PropertyComparisonPlan.forClass(expectedBean.getClass());
+        this.propertyMatchers = propertyMatchersFor(expectedBean, plan);
     }
 
     @Override
@@ -49,12 +55,16 @@ public class SamePropertyValuesAs<T> extends TypeSafeDiagnosingMatcher<T> {
     }
 
     private boolean hasNoExtraProperties(T item, Description mismatchDescription) {
-        Set<String> actualPropertyNames = propertyNamesFrom(propertyDescriptorsFor(item, Object.class));
-        actualPropertyNames.removeAll(propertyNames);
-        if (!actualPropertyNames.isEmpty()) {
-            mismatchDescription.appendText("has extra properties called " + actualPropertyNames);
+        final Class<?> itemClass = item.getClass();
+        if (itemClass == plan.beanClass() || itemClass == lastClassWithNoExtraProperties) {
+            return true;
+        }
+        Set<String> extraPropertyNames = PropertyComparisonPlan.forClass(itemClass).propertyNamesNotIn(plan);
+        if (!extraPropertyNames.isEmpty()) {
+            mismatchDescription.appendText("has extra properties called " + extraPropertyNames);
             return false;
         }
+        lastClassWithNoExtraProperties = itemClass;
         return true;
     }
 
@@ -68,18 +78,10 @@ public class SamePropertyValuesAs<T> extends TypeSafeDiagnosingMatcher<T> {
         return true;
     }
 
-    private static <T> List<PropertyMatcher> propertyMatchersFor(T bean, PropertyDescriptor[] descriptors) {
-        List<PropertyMatcher> result = new ArrayList<PropertyMatcher>(descriptors.length);
-        for (PropertyDescriptor propertyDescriptor : descriptors) {
-            result.add(new PropertyMatcher(propertyDescriptor, bean));
-        }
-        return result;
-    }
-
-    private static Set<String> propertyNamesFrom(PropertyDescriptor[] descriptors) {
-        HashSet<String> result = new HashSet<String>();
-        for (PropertyDescriptor propertyDescriptor : descriptors) {
-            result.add(propertyDescriptor.getDisplayName());
+    private static <T> List<PropertyMatcher> propertyMatchersFor(T bean, PropertyComparisonPlan plan) {
+        List<PropertyMatcher> result = new ArrayList<PropertyMatcher>(plan.accessors().size());
+        for (PropertyAccessor accessor : plan.accessors()) {
+            result.add(new PropertyMatcher(accessor.displayName(), accessor.readMethod(), bean));
         }
         return result;
     }
@@ -90,8 +92,12 @@ public class SamePropertyValuesAs<T> extends TypeSafeDiagnosingMatcher<T> {
         private final String propertyName;
 
         public PropertyMatcher(PropertyDescriptor descriptor, Object expectedObject) {
-            this.propertyName = descriptor.getDisplayName();
-            this.readMethod = descriptor.getReadMethod();
+            this(descriptor.getDisplayName(), descriptor.getReadMethod(), expectedObject);
+        }
+
+        private PropertyMatcher(String propertyName, Method readMethod, Object expectedObject) {
+            this.propertyName = propertyName;
+            this.readMethod = readMethod;
             this.matcher = equalTo(readProperty(readMethod, expectedObject));
         }
 
@@ -99,8 +105,10 @@ public class SamePropertyValuesAs<T> extends TypeSafeDiagnosingMatcher<T> {
         public boolean matches(Object actual, Description mismatch) {
             final Object actualValue = readProperty(readMethod, actual);
             if (!matcher.matches(actualValue)) {
+                mismatch.beginPath(propertyName);
                 mismatch.appendText(propertyName + " ");
                 matcher.describeMismatch(actualValue, mismatch);
+                mismatch.endPath();
                 return false;
             }
             return true;
@@ -23,12 +23,12 @@ public class IsArrayContainingInAnyOrder<E> extends TypeSafeMatcher<E[]> {
 
     @Override
     public boolean matchesSafely(E[] item) {
-        return iterableMatcher.matches(Arrays.asList(item));
+        return iterableMatcher.matchesList(Arrays.asList(item), Description.NONE);
     }
     
     @Override
     public void describeMismatchSafely(E[] item, Description mismatchDescription) {
-      iterableMatcher.describeMismatch(Arrays.asList(item), mismatchDescription);
+      iterableMatcher.matchesList(Arrays.asList(item), mismatchDescription);
     };
 
     @Override
@@ -43,9 +43,9 @@ public class IsArrayContainingInAnyOrder<E> extends TypeSafeMatcher<E[]> {
      * For a positive match, the examined array must be of the same length as the number of
      * specified matchers.
      * <p/>
-     * N.B. each of the specified matchers will only be used once during a given examination, so be
-     * careful when specifying matchers that may be satisfied by more than one entry in an examined
-     * array.
+     * N.B. each of the specified matchers will only be used once during a given examination. When
+     * matchers may be satisfied by more than one entry in an examined array, the array matches
+     * if there is any way of pairing each entry with a different matcher.
      * <p>
      * For example:
      * <pre>assertThat(new String[]{"foo", "bar"}, arrayContainingInAnyOrder(equalTo("bar"), equalTo("foo")))</pre>
@@ -65,8 +65,8 @@ public class IsArrayContainingInAnyOrder<E> extends TypeSafeMatcher<E[]> {
      * of matchers.
      * <p/>
      * N.B. each matcher in the specified collection will only be used once during a given
-     * examination, so be careful when specifying matchers that may be satisfied by more than
-     * one entry in an examined array.
+     * examination. When matchers may be satisfied by more than one entry in an examined array,
+     * the array matches if there is any way of pairing each entry with a different matcher.
      * <p>
      * For example:
      * <pre>assertThat(new String[]{"foo", "bar"}, arrayContainingInAnyOrder(Arrays.asList(equalTo("bar"), equalTo("foo"))))</pre>
@@ -85,9 +85,7 @@ public class IsArrayContainingInAnyOrder<E> extends TypeSafeMatcher<E[]> {
      * For a positive match, the examined array must be of the same length as the number of
      * specified items.
      * <p/>
-     * N.B. each of the specified items will only be used once during a given examination, so be
-     * careful when specifying items that may be equal to more than one entry in an examined
-     * array.
+     * N.B. each of the specified items will only be used once during a given examination.
      * <p>
      * For example:
      * <pre>assertThat(new String[]{"foo", "bar"}, containsInAnyOrder("bar", "foo"))</pre>
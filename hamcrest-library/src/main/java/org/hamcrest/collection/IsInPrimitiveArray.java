@@ -0,0 +1,60 @@
+package org.hamcrest.collection;
+
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+import org.hamcrest.internal.ArrayIterator;
+
+import java.util.Iterator;
+
+/**
+ * Matches a boxed <code>int</code> or <code>long</code> that is one of the
+ * values in a primitive array. The values are indexed in a {@link LongHashSet}
+ * at construction, so a membership test costs the same however many values
+ * there are.
+ *
+ * @see IsIn#in(int[])
+ * @see IsIn#in(long[])
+ */
+public class IsInPrimitiveArray<T extends Number> extends TypeSafeMatcher<T> {
+    private final LongHashSet values;
+    private final Object elements;
+
+    /**
+     * @param elements A copy of the array, an <code>int[]</code> or <code>long[]</code>,
+     *        whose values are only boxed to describe the matcher
+     */
+    private IsInPrimitiveArray(Class<T> boxedType, long[] values, Object elements) {
+        super(boxedType);
+        this.values = new LongHashSet(values);
+        this.elements = elements;
+    }
+
+    @Override
+    protected boolean matchesSafely(T item) {
+        return values.contains(item.longValue());
+    }
+
+    @Override
+    public void describeTo(Description buffer) {
+        buffer.appendText("one of ");
+        buffer.appendValueList("{", ", ", "}", new Iterable<Object>() {
+            @Override
+            public Iterator<Object> iterator() {
+                return new ArrayIterator(elements);
+            }
+        });
+    }
+
+    public static IsInPrimitiveArray<Integer> ofInts(int[] elements) {
+        final long[] values = new long[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            values[i] = elements[i];
+        }
+        return new IsInPrimitiveArray<Integer>(Integer.class, values, elements.clone());
+    }
+
+    public static IsInPrimitiveArray<Long> ofLongs(long[] elements) {
+        final long[] values = elements.clone();
+        return new IsInPrimitiveArray<Long>(Long.class, values, values);
+    }
+}
@@ -12,23 +12,23 @@ import java.util.List;
 
 import static org.hamcrest.core.IsEqual.equalTo;
 
+/**
+ * Matches an {@link Iterable} whose items can be paired off, one to one, with
+ * a collection of matchers. See {@link MatchingInAnyOrder} for how the pairing
+ * is found.
+ */
 public class IsIterableContainingInAnyOrder<T> extends TypeSafeDiagnosingMatcher<Iterable<? extends T>> {
     private final Collection<Matcher<? super T>> matchers;
+    private final MatchingInAnyOrder<T> matching;
 
     public IsIterableContainingInAnyOrder(Collection<Matcher<? super T>> matchers) {
         this.matchers = matchers;
+        this.matching = new MatchingInAnyOrder<T>(new ArrayList<Matcher<? super T>>(matchers));
     }
     
     @Override
     protected boolean matchesSafely(Iterable<? extends T> items, Description mismatchDescription) {
-      final Matching<T> matching = new Matching<T>(matchers, mismatchDescription);
-      for (T item : items) {
-        if (! matching.matches(item)) {
-          return false;
-        }
-      }
-      
-      return matching.isFinished(items);
+      return matching.matches(listOf(items), mismatchDescription);
     }
     
     @Override
@@ -38,43 +38,19 @@ public class IsIterableContainingInAnyOrder<T> extends TypeSafeDiagnosingMatcher
           .appendText(" in any order");
     }
 
-    private static class Matching<S> {
-      private final Collection<Matcher<? super S>> matchers;
-      private final Description mismatchDescription;
-
-      public Matching(Collection<Matcher<? super S>> matchers, Description mismatchDescription) {
-        this.matchers = new ArrayList<Matcher<? super S>>(matchers);
-        this.mismatchDescription = mismatchDescription;
-      }
-      
-      public boolean matches(S item) {
-        if (matchers.isEmpty()) {
-          mismatchDescription.appendText("no match for: ").appendValue(item);
-          return false;
-        }
-        return isMatched(item);
-      }
+    boolean matchesList(List<? extends T> items, Description mismatchDescription) {
+      return matching.matches(items, mismatchDescription);
+    }
 
-      public boolean isFinished(Iterable<? extends S> items) {
-        if (matchers.isEmpty()) {
-          return true;
-        }
-        mismatchDescription
-          .appendText("no item matches: ").appendList("", ", ", "", matchers)
-          .appendText(" in ").appendValueList("[", ", ", "]", items);
-        return false;
+    private static <S> List<S> listOf(Iterable<S> items) {
+      if (items instanceof Collection) {
+        return new ArrayList<S>((Collection<S>) items);
       }
-
-      private boolean isMatched(S item) {
-        for (Matcher<? super S>  matcher : matchers) {
-          if (matcher.matches(item)) {
-            matchers.remove(matcher);
-            return true;
-          }
-        }
-        mismatchDescription.appendText("not matched: ").appendValue(item);
-        return false;
+      final List<S> result = new ArrayList<S>();
+      for (S item : items) {
+        result.add(item);
       }
+      return result;
     }
 
     /**
@@ -83,9 +59,9 @@ public class IsIterableContainingInAnyOrder<T> extends TypeSafeDiagnosingMatcher
      * in the specified matchers.  For a positive match, the examined iterable must be of the same
      * length as the number of specified matchers.
      * <p/>
-     * N.B. each of the specified matchers will only be used once during a given examination, so be
-     * careful when specifying matchers that may be satisfied by more than one entry in an examined
-     * iterable.
+     * N.B. each of the specified matchers will only be used once during a given examination. When
+     * matchers may be satisfied by more than one entry in an examined iterable, the iterable matches
+     * if there is any way of pairing each entry with a different matcher.
      * <p/>
      * For example:
      * <pre>assertThat(Arrays.asList("foo", "bar"), containsInAnyOrder(equalTo("bar"), equalTo("foo")))</pre>
@@ -104,9 +80,7 @@ public class IsIterableContainingInAnyOrder<T> extends TypeSafeDiagnosingMatcher
      * anywhere in the specified items. For a positive match, the examined iterable
      * must be of the same length as the number of specified items.
      * <p/>
-     * N.B. each of the specified items will only be used once during a given examination, so be
-     * careful when specifying items that may be equal to more than one entry in an examined
-     * iterable.
+     * N.B. each of the specified items will only be used once during a given examination.
      * <p/>
      * For example:
      * <pre>assertThat(Arrays.asList("foo", "bar"), containsInAnyOrder("bar", "foo"))</pre>
@@ -131,8 +105,8 @@ public class IsIterableContainingInAnyOrder<T> extends TypeSafeDiagnosingMatcher
      * must be of the same length as the specified collection of matchers.
      * <p/>
      * N.B. each matcher in the specified collection will only be used once during a given
-     * examination, so be careful when specifying matchers that may be satisfied by more than
-     * one entry in an examined iterable.
+     * examination. When matchers may be satisfied by more than one entry in an examined iterable,
+     * the iterable matches if there is any way of pairing each entry with a different matcher.
      * <p/>
      * For example:
      * <pre>assertThat(Arrays.asList("foo", "bar"), containsInAnyOrder(Arrays.asList(equalTo("bar"), equalTo("foo"))))</pre>
@@ -2,28 +2,104 @@ package org.hamcrest.collection;
 
 import static org.hamcrest.core.IsEqual.equalTo;
 
+import java.util.Collection;
 import java.util.Iterator;
 
+import org.hamcrest.Description;
 import org.hamcrest.Factory;
 import org.hamcrest.FeatureMatcher;
 import org.hamcrest.Matcher;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.number.OrderingComparison;
 
+/**
+ * Matches an {@link Iterable} whose number of items satisfies a size matcher.
+ * <p/>
+ * A {@link Collection} is asked for its size. Other iterables are counted,
+ * but when the size matcher is an equality or ordering comparison with an
+ * int, counting stops as soon as more items could not change the outcome, and
+ * a mismatch then reports the size as "at least" the number counted. An exact
+ * size is compared without boxing the count.
+ */
 public class IsIterableWithSize<E> extends FeatureMatcher<Iterable<E>, Integer> {
+    private static final int UNBOUNDED = Integer.MAX_VALUE;
+    private static final int NO_EXACT_SIZE = -1;
+
+    private final Matcher<? super Integer> sizeMatcher;
+    private final int countLimit;
+    private final int exactSize;
 
     public IsIterableWithSize(Matcher<? super Integer> sizeMatcher) {
         super(sizeMatcher, "an iterable with size", "iterable size");
+        this.sizeMatcher = sizeMatcher;
+        this.countLimit = countLimitFor(sizeMatcher);
+        this.exactSize = exactSizeFor(sizeMatcher);
     }
     
 
     @Override
     protected Integer featureValueOf(Iterable<E> actual) {
+      return sizeOf(actual);
+    }
+
+    @Override
+    protected boolean matchesSafely(Iterable<E> actual, Description mismatch) {
+      final int size = sizeOf(actual);
+      if (NO_EXACT_SIZE == exactSize ? sizeMatcher.matches(size) : size == exactSize) {
+        return true;
+      }
+      mismatch.appendText("iterable size ");
+      if (size >= countLimit && !(actual instanceof Collection)) {
+        mismatch.appendText("was at least ").appendValue(size);
+      } else {
+        sizeMatcher.describeMismatch(size, mismatch);
+      }
+      return false;
+    }
+
+    private int sizeOf(Iterable<E> actual) {
+      if (actual instanceof Collection) {
+        return ((Collection<E>) actual).size();
+      }
       int size = 0;
-      for (Iterator<E> iterator = actual.iterator(); iterator.hasNext(); iterator.next()) {
+      for (Iterator<E> iterator = actual.iterator(); size < countLimit && iterator.hasNext(); iterator.next()) {
         size++;
       }
       return size;
     }
 
+    /**
+     * For a comparison with <code>n</code>, the outcome is the same for every
+     * size above <code>n</code>, so there is no need to count further.
+     */
+    private static int countLimitFor(Matcher<?> sizeMatcher) {
+      final Object comparedWith = comparedWith(sizeMatcher);
+      if (!(comparedWith instanceof Integer) || (Integer) comparedWith == Integer.MAX_VALUE) {
+        return UNBOUNDED;
+      }
+      return Math.max(0, (Integer) comparedWith + 1);
+    }
+
+    private static int exactSizeFor(Matcher<?> sizeMatcher) {
+      if (sizeMatcher.getClass() == IsEqual.class) {
+        final Object expected = ((IsEqual<?>) sizeMatcher).getExpectedValue();
+        if (expected instanceof Integer && (Integer) expected >= 0) {
+          return (Integer) expected;
+        }
+      }
+      return NO_EXACT_SIZE;
+    }
+
+    private static Object comparedWith(Matcher<?> sizeMatcher) {
+      if (sizeMatcher.getClass() == IsEqual.class) {
+        return ((IsEqual<?>) sizeMatcher).getExpectedValue();
+      }
+      if (sizeMatcher.getClass() == OrderingComparison.class) {
+        return ((OrderingComparison<?>) sizeMatcher).getExpectedValue();
+      }
+      return null;
+    }
+
     /**
      * Creates a matcher for {@link Iterable}s that matches when a single pass over the
      * examined {@link Iterable} yields an item count that satisfies the specified
@@ -0,0 +1,50 @@
+package org.hamcrest.collection;
+
+/**
+ * An immutable set of primitive <code>long</code> values, held in an open
+ * addressed hash table so that membership tests neither box nor search.
+ */
+final class LongHashSet {
+    private final long[] keys;
+    private final boolean[] used;
+    private final int mask;
+
+    public LongHashSet(long[] values) {
+        int capacity = 2;
+        while (capacity < values.length * 2) {
+            capacity <<= 1;
+        }
+        this.keys = new long[capacity];
+        this.used = new boolean[capacity];
+        this.mask = capacity - 1;
+        for (long value : values) {
+            add(value);
+        }
+    }
+
+    public boolean contains(long value) {
+        for (int slot = slotFor(value); used[slot]; slot = (slot + 1) & mask) {
+            if (keys[slot] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void add(long value) {
+        int slot = slotFor(value);
+        while (used[slot]) {
+            if (keys[slot] == value) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = value;
+        used[slot] = true;
+    }
+
+    private int slotFor(long value) {
+        final long mixed = value * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32)) & mask;
+    }
+}
@@ -14,7 +14,7 @@ public final class FileMatchers {
 
     @Factory
     public static Matcher<File> anExistingDirectory() {
-        return new TypeSafeDiagnosingMatcher<File>() {
+        return new TypeSafeDiagnosingMatcher<File>(File.class) {
             public boolean matchesSafely(File actual, Description mismatchDescription) {
                 final boolean result = actual.isDirectory();
                 if (!result) {
@@ -31,7 +31,7 @@ public final class FileMatchers {
 
     @Factory
     public static Matcher<File> anExistingFileOrDirectory() {
-        return new TypeSafeDiagnosingMatcher<File>() {
+        return new TypeSafeDiagnosingMatcher<File>(File.class) {
             public boolean matchesSafely(File actual, Description mismatchDescription) {
                 final boolean exists = actual.exists();
                 if (!exists) {
@@ -48,7 +48,7 @@ public final class FileMatchers {
 
     @Factory
     public static Matcher<File> anExistingFile() {
-        return new TypeSafeDiagnosingMatcher<File>() {
+        return new TypeSafeDiagnosingMatcher<File>(File.class) {
             public boolean matchesSafely(File actual, Description mismatchDescription) {
                 final boolean result = actual.isFile();
                 if (!result) {
@@ -65,7 +65,7 @@ public final class FileMatchers {
 
     @Factory
     public static Matcher<File> aReadableFile() {
-        return new TypeSafeDiagnosingMatcher<File>() {
+        return new TypeSafeDiagnosingMatcher<File>(File.class) {
             public boolean matchesSafely(File actual, Description mismatchDescription) {
                 final boolean result = actual.canRead();
                 if (!result) {
@@ -82,7 +82,7 @@ public final class FileMatchers {
 
     @Factory
     public static Matcher<File> aWritableFile() {
-        return new TypeSafeDiagnosingMatcher<File>() {
+        return new TypeSafeDiagnosingMatcher<File>(File.class) {
             public boolean matchesSafely(File actual, Description mismatchDescription) {
                 final boolean result = actual.canWrite();
                 if (!result) {
@@ -104,7 +104,7 @@ public final class FileMatchers {
 
     @Factory
     public static Matcher<File> aFileWithSize(final Matcher<Long> size) {
-        return new TypeSafeDiagnosingMatcher<File>() {
+        return new TypeSafeDiagnosingMatcher<File>(File.class) {
             public boolean matchesSafely(File actual, Description mismatchDescription) {
                 final long length = actual.length();
                 final boolean result = size.matches(length);
@@ -123,7 +123,7 @@ public final class FileMatchers {
 
     @Factory
     public static Matcher<File> aFileNamed(final Matcher<String> name) {
-        return new TypeSafeDiagnosingMatcher<File>() {
+        return new TypeSafeDiagnosingMatcher<File>(File.class) {
             public boolean matchesSafely(File actual, Description mismatchDescription) {
                 final String actualName = actual.getName();
                 final boolean result = name.matches(actualName);
@@ -142,7 +142,7 @@ public final class FileMatchers {
 
     @Factory
     public static Matcher<File> aFileWithCanonicalPath(final Matcher<String> path) {
-        return new TypeSafeDiagnosingMatcher<File>() {
+        return new TypeSafeDiagnosingMatcher<File>(File.class) {
             public boolean matchesSafely(File actual, Description mismatchDescription) {
                 try {
                     String canonicalPath = actual.getCanonicalPath();
@@ -166,7 +166,7 @@ public final class FileMatchers {
 
     @Factory
     public static Matcher<File> aFileWithAbsolutePath(final Matcher<String> path) {
-        return new TypeSafeDiagnosingMatcher<File>() {
+        return new TypeSafeDiagnosingMatcher<File>(File.class) {
             public boolean matchesSafely(File actual, Description mismatchDescription) {
                 final String absolute = actual.getAbsolutePath();
                 final boolean result = path.matches(absolute);
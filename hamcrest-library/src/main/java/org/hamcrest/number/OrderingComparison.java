@@ -50,6 +50,13 @@ public class OrderingComparison<T extends Comparable<T>> extends TypeSafeMatcher
         description.appendText(" ").appendValue(expected);
     }
 
+    /**
+     * @return the value that examined objects are compared with
+     */
+    public T getExpectedValue() {
+        return expected;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public Class<T> getParameterType() {
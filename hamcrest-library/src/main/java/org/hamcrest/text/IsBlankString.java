@@ -4,28 +4,36 @@ package org.hamcrest.text;
 import static org.hamcrest.core.AnyOf.anyOf;
 import static org.hamcrest.core.IsNull.nullValue;
 
-import java.util.regex.Pattern;
-
 import org.hamcrest.Description;
 import org.hamcrest.Factory;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
 
 /**
- * Matches blank Strings (and null).
+ * Matches blank Strings (and null), or other blank {@link CharSequence}s.
  */
-public final class IsBlankString extends TypeSafeMatcher<String> {
+public final class IsBlankString extends TypeSafeMatcher<CharSequence> {
     private static final IsBlankString BLANK_INSTANCE = new IsBlankString();
     @SuppressWarnings("unchecked")
-    private static final Matcher<String> NULL_OR_BLANK_INSTANCE = anyOf(nullValue(), BLANK_INSTANCE);
-
-    private static final Pattern REGEX_WHITESPACE = Pattern.compile("\\s*");
+    private static final Matcher<CharSequence> NULL_OR_BLANK_INSTANCE = anyOf(nullValue(), BLANK_INSTANCE);
 
     private IsBlankString() { }
 
     @Override
-    public boolean matchesSafely(String item) {
-        return REGEX_WHITESPACE.matcher(item).matches();
+    public boolean matchesSafely(CharSequence item) {
+        for (int i = 0; i < item.length(); i++) {
+            if (!isWhitespace(item.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return whether the character is whitespace, as <code>\s</code> means in a regular expression
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
     @Override
@@ -40,9 +48,10 @@ public final class IsBlankString extends TypeSafeMatcher<String> {
      * For example:
      * <pre>assertThat("  ", is(blankString()))</pre>
      */
+    @SuppressWarnings("unchecked")
     @Factory
     public static Matcher<String> blankString() {
-        return BLANK_INSTANCE;
+        return (Matcher) BLANK_INSTANCE;
     }
 
     /**
@@ -53,8 +62,9 @@ public final class IsBlankString extends TypeSafeMatcher<String> {
      * <pre>assertThat(((String)null), is(blankOrNullString()))</pre>
      * 
      */
+    @SuppressWarnings("unchecked")
     @Factory
     public static Matcher<String> blankOrNullString() {
-        return NULL_OR_BLANK_INSTANCE;
+        return (Matcher) NULL_OR_BLANK_INSTANCE;
     }
 }
@@ -10,18 +10,18 @@ import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
 
 /**
- * Matches empty Strings (and null).
+ * Matches empty Strings (and null), or other empty {@link CharSequence}s.
  */
-public final class IsEmptyString extends TypeSafeMatcher<String> {
+public final class IsEmptyString extends TypeSafeMatcher<CharSequence> {
     private static final IsEmptyString INSTANCE = new IsEmptyString();
     @SuppressWarnings("unchecked")
-    private static final Matcher<String> NULL_OR_EMPTY_INSTANCE = anyOf(nullValue(), INSTANCE);
+    private static final Matcher<CharSequence> NULL_OR_EMPTY_INSTANCE = anyOf(nullValue(), INSTANCE);
 
     private IsEmptyString() { }
 
     @Override
-    public boolean matchesSafely(String item) {
-        return item.equals("");
+    public boolean matchesSafely(CharSequence item) {
+        return item.length() == 0;
     }
 
     @Override
@@ -50,9 +50,10 @@ public final class IsEmptyString extends TypeSafeMatcher<String> {
      * <pre>assertThat("", is(emptyString()))</pre>
      * 
      */
+    @SuppressWarnings("unchecked")
     @Factory
     public static Matcher<String> emptyString() {
-        return INSTANCE;
+        return (Matcher) INSTANCE;
     }
 
     /**
@@ -79,8 +80,9 @@ public final class IsEmptyString extends TypeSafeMatcher<String> {
      * <pre>assertThat(((String)null), is(emptyOrNullString()))</pre>
      * 
      */
+    @SuppressWarnings("unchecked")
     @Factory
     public static Matcher<String> emptyOrNullString() {
-        return NULL_OR_EMPTY_INSTANCE;
+        return (Matcher) NULL_OR_EMPTY_INSTANCE;
     }
 }
@@ -10,10 +10,7 @@ import org.hamcrest.TypeSafeMatcher;
 /**
  * Tests if a string is equal to another string, regardless of the case.
  */
-public class IsEqualIgnoringCase extends TypeSafeMatcher<String> {
-
-    // TODO: Replace String with CharSequence to allow for easy interoperability between
-    //       String, StringBuffer, StringBuilder, CharBuffer, etc (joe).
+public class IsEqualIgnoringCase extends TypeSafeMatcher<CharSequence> {
 
     private final String string;
 
@@ -25,15 +22,38 @@ public class IsEqualIgnoringCase extends TypeSafeMatcher<String> {
     }
 
     @Override
-    public boolean matchesSafely(String item) {
-        return string.equalsIgnoreCase(item);
+    public boolean matchesSafely(CharSequence item) {
+        if (item instanceof String) {
+            return string.equalsIgnoreCase((String) item);
+        }
+        if (item.length() != string.length()) {
+            return false;
+        }
+        for (int i = 0; i < string.length(); i++) {
+            if (!equalIgnoringCase(string.charAt(i), item.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
-    public void describeMismatchSafely(String item, Description mismatchDescription) {
-      mismatchDescription.appendText("was ").appendText(item);
+    public void describeMismatchSafely(CharSequence item, Description mismatchDescription) {
+      mismatchDescription.appendText("was ").appendText(item.toString());
     }
     
+    /**
+     * Compares characters as {@link String#equalsIgnoreCase(String)} does.
+     */
+    static boolean equalIgnoringCase(char a, char b) {
+        if (a == b) {
+            return true;
+        }
+        final char upperA = Character.toUpperCase(a);
+        final char upperB = Character.toUpperCase(b);
+        return upperA == upperB || Character.toLowerCase(upperA) == Character.toLowerCase(upperB);
+    }
+
     @Override
     public void describeTo(Description description) {
         description.appendText("equalToIgnoringCase(")
@@ -45,15 +65,20 @@ public class IsEqualIgnoringCase extends TypeSafeMatcher<String> {
      * Creates a matcher of {@link String} that matches when the examined string is equal to
      * the specified expectedString, ignoring case.
      * <p/>
+     * The matcher also matches other kinds of {@link CharSequence}, without copying them. To
+     * examine them with type checking, use the <code>IsEqualIgnoringCase</code> constructor, which
+     * creates a <code>Matcher&lt;CharSequence&gt;</code>.
+     * <p/>
      * For example:
      * <pre>assertThat("Foo", equalToIgnoringCase("FOO"))</pre>
      * 
      * @param expectedString
      *     the expected value of matched strings
      */
+    @SuppressWarnings("unchecked")
     @Factory
     public static Matcher<String> equalToIgnoringCase(String expectedString) {
-        return new IsEqualIgnoringCase(expectedString);
+        return (Matcher) new IsEqualIgnoringCase(expectedString);
     }
 
 }
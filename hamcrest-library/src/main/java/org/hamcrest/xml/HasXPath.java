@@ -14,6 +14,9 @@ import static org.hamcrest.Condition.notMatched;
 
 /**
  * Applies a Matcher to a given XML Node in an existing XML Node tree, specified by an XPath expression.
+ * <p/>
+ * Matchers with the same expression, namespace context and evaluation mode share one
+ * compiled expression, and a matcher can be used on several threads at once.
  *
  * @author Joe Walnes
  * @author Steve Freeman
@@ -23,9 +26,8 @@ public class HasXPath extends TypeSafeDiagnosingMatcher<Node> {
     private static final IsAnything<String> WITH_ANY_CONTENT = new IsAnything<String>("");
     private static final Condition.Step<Object,String> NODE_EXISTS = nodeExists();
     private final Matcher<String> valueMatcher;
-    private final XPathExpression compiledXPath;
+    private final CompiledXPath compiledXPath;
     private final String xpathString;
-    private final QName evaluationMode;
 
     /**
      * @param xPathExpression XPath expression.
@@ -47,10 +49,9 @@ public class HasXPath extends TypeSafeDiagnosingMatcher<Node> {
     }
 
     private HasXPath(String xPathExpression, NamespaceContext namespaceContext, Matcher<String> valueMatcher, QName mode) {
-        this.compiledXPath = compiledXPath(xPathExpression, namespaceContext);
+        this.compiledXPath = CompiledXPath.forExpression(xPathExpression, namespaceContext, mode);
         this.xpathString = xPathExpression;
         this.valueMatcher = valueMatcher;
-        this.evaluationMode = mode;
     }
 
     @Override
@@ -68,9 +69,25 @@ public class HasXPath extends TypeSafeDiagnosingMatcher<Node> {
         }
     }
 
+    /**
+     * Returns the expression of this matcher in the subset of XPath that can be streamed.
+     *
+     * @throws IllegalArgumentException if it is not in the subset
+     */
+    StreamingXPath streamingXPath() {
+        return StreamingXPath.parse(compiledXPath.expression(), compiledXPath.namespaceContext());
+    }
+
+    /**
+     * @return the matcher for the value at the XPath, or null if any node will do
+     */
+    Matcher<String> valueMatcher() {
+        return XPathConstants.NODE.equals(compiledXPath.mode()) ? null : valueMatcher;
+    }
+
     private Condition<Object> evaluated(Node item, Description mismatch) {
         try {
-            return matched(compiledXPath.evaluate(item, evaluationMode), mismatch);
+            return matched(compiledXPath.evaluate(item), mismatch);
         } catch (XPathExpressionException e) {
             mismatch.appendText(e.getMessage());
         }
@@ -90,18 +107,6 @@ public class HasXPath extends TypeSafeDiagnosingMatcher<Node> {
         };
     }
 
-    private static XPathExpression compiledXPath(String xPathExpression, NamespaceContext namespaceContext) {
-        try {
-            final XPath xPath = XPathFactory.newInstance().newXPath();
-            if (namespaceContext != null) {
-                xPath.setNamespaceContext(namespaceContext);
-            }
-            return xPath.compile(xPathExpression);
-        } catch (XPathExpressionException e) {
-            throw new IllegalArgumentException("Invalid XPath : " + xPathExpression, e);
-        }
-    }
-
 
     /**
      * Creates a matcher of {@link org.w3c.dom.Node}s that matches when the examined node has a value at the
@@ -0,0 +1,48 @@
+package org.hamcrest.xml;
+
+import java.lang.ref.WeakReference;
+
+import org.hamcrest.Description;
+
+/**
+ * The mismatch of the last document, among those that can only be read once, that
+ * a matcher did not match, so that it can be described again afterwards without
+ * reading the document a second time.
+ * <p/>
+ * Only the document most recently mismatched is remembered, and only weakly.
+ */
+final class LastMismatch {
+    private volatile Remembered remembered;
+
+    /**
+     * Appends the remembered mismatch of the document, if it is the last one that did not match.
+     *
+     * @return whether the mismatch of the document was remembered
+     */
+    boolean describe(Object document, Description mismatch) {
+        final Remembered last = remembered;
+        if (last == null || last.document.get() != document) {
+            return false;
+        }
+        mismatch.appendText(last.description);
+        return true;
+    }
+
+    /**
+     * Remembers, and appends, the mismatch of a document that did not match.
+     */
+    void remember(Object document, String description, Description mismatch) {
+        remembered = new Remembered(document, description);
+        mismatch.appendText(description);
+    }
+
+    private static final class Remembered {
+        final WeakReference<Object> document;
+        final String description;
+
+        Remembered(Object document, String description) {
+            this.document = new WeakReference<Object>(document);
+            this.description = description;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package org.hamcrest.xml;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.xml.namespace.NamespaceContext;
+
+/**
+ * A forward-only subset of XPath that can be evaluated over a stream of StAX
+ * events, without building a tree of the document.
+ * <p/>
+ * An expression is an absolute location path whose steps are separated by
+ * <code>/</code> (the child axis) or <code>//</code> (the descendant axis). Each
+ * step names an element, as <code>name</code>, <code>prefix:name</code> or
+ * <code>*</code>, followed by any number of attribute predicates,
+ * <code>[@name]</code> or <code>[@name='value']</code>, and at most one
+ * positional predicate, <code>[2]</code>, which must come last. The path may end
+ * with <code>/@name</code>, to select an attribute, or <code>/text()</code>, to
+ * select the first text node of an element. For example:
+ * <pre>
+ * /orders/order[@status='open'][2]/total
+ * //customer[@id]/@id
+ * /orders//line[@sku='A-1']/text()</pre>
+ * As in XPath, an unprefixed name only matches a name in no namespace.
+ * <p/>
+ * The value of the expression is the string value of the first node it selects
+ * in document order, so evaluation stops there. Expressions are evaluated by an
+ * {@link XPathTrie}.
+ */
+final class StreamingXPath {
+    static final int MAX_STEPS = 63;
+
+    enum Terminal { ELEMENT, ATTRIBUTE, TEXT }
+
+    private final String expression;
+    final Step[] steps;
+    final Terminal terminal;
+    final NameTest attribute;
+
+    private StreamingXPath(String expression, Step[] steps, Terminal terminal, NameTest attribute) {
+        this.expression = expression;
+        this.steps = steps;
+        this.terminal = terminal;
+        this.attribute = attribute;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the expression is not in the supported subset of XPath
+     */
+    static StreamingXPath parse(String expression, NamespaceContext namespaceContext) {
+        return new Parser(expression, namespaceContext).parse();
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    /**
+     * Tests the name of an element or attribute.
+     */
+    static final class NameTest {
+        private final String namespaceURI;
+        private final String localName;
+
+        NameTest(String namespaceURI, String localName) {
+            this.namespaceURI = namespaceURI;
+            this.localName = localName;
+        }
+
+        boolean matches(String namespaceURI, String localName) {
+            return this.localName == null
+                || (this.localName.equals(localName) && this.namespaceURI.equals(namespaceURI == null ? "" : namespaceURI));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof NameTest)) {
+                return false;
+            }
+            final NameTest that = (NameTest) other;
+            return localName == null ? that.localName == null
+                                     : localName.equals(that.localName) && namespaceURI.equals(that.namespaceURI);
+        }
+
+        @Override
+        public int hashCode() {
+            return localName == null ? 0 : 31 * namespaceURI.hashCode() + localName.hashCode();
+        }
+    }
+
+    /**
+     * A location step: an axis, a name test, attribute predicates, and an optional position.
+     */
+    static final class Step {
+        final boolean isDescendant;
+        final NameTest name;
+        final NameTest[] attributeNames;
+        final String[] attributeValues;
+        final int position;
+
+        Step(boolean isDescendant, NameTest name, NameTest[] attributeNames, String[] attributeValues, int position) {
+            this.isDescendant = isDescendant;
+            this.name = name;
+            this.attributeNames = attributeNames;
+            this.attributeValues = attributeValues;
+            this.position = position;
+        }
+
+        /**
+         * Tests an element against everything but the position.
+         */
+        boolean matches(StartTag tag) {
+            if (!name.matches(tag.namespaceURI(), tag.localName())) {
+                return false;
+            }
+            for (int i = 0; i < attributeNames.length; i++) {
+                final String value = tag.attributeValue(attributeNames[i]);
+                if (value == null || (attributeValues[i] != null && !attributeValues[i].equals(value))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean sameTestsAs(Step other) {
+            return isDescendant == other.isDescendant
+                && position == other.position
+                && name.equals(other.name)
+                && Arrays.equals(attributeNames, other.attributeNames)
+                && Arrays.equals(attributeValues, other.attributeValues);
+        }
+    }
+
+    /**
+     * The start tag of an element, however the document is read.
+     */
+    interface StartTag {
+        String namespaceURI();
+
+        String localName();
+
+        /**
+         * @return the value of the first attribute with the name, or null if there is none
+         */
+        String attributeValue(NameTest name);
+    }
+
+    private static final class Parser {
+        private final String expression;
+        private final NamespaceContext namespaceContext;
+        private int index = 0;
+
+        Parser(String expression, NamespaceContext namespaceContext) {
+            this.expression = expression;
+            this.namespaceContext = namespaceContext;
+        }
+
+        StreamingXPath parse() {
+            final List<Step> steps = new ArrayList<Step>();
+            Terminal terminal = Terminal.ELEMENT;
+            NameTest attribute = null;
+            if (!lookingAt("/")) {
+                throw invalid("must start with /");
+            }
+            while (index < expression.length()) {
+                final boolean isDescendant;
+                if (lookingAt("//")) {
+                    isDescendant = true;
+                    index += 2;
+                } else if (lookingAt("/")) {
+                    isDescendant = false;
+                    index += 1;
+                } else {
+                    throw invalid("expected / at " + index);
+                }
+                if (!steps.isEmpty() && !isDescendant && lookingAt("@")) {
+                    index++;
+                    attribute = nameTest(false);
+                    terminal = Terminal.ATTRIBUTE;
+                    break;
+                }
+                if (!steps.isEmpty() && !isDescendant && lookingAt("text()")) {
+                    index += "text()".length();
+                    terminal = Terminal.TEXT;
+                    break;
+                }
+                steps.add(step(isDescendant));
+            }
+            if (index < expression.length()) {
+                throw invalid("unexpected " + expression.substring(index));
+            }
+            if (steps.isEmpty()) {
+                throw invalid("no steps");
+            }
+            if (steps.size() > MAX_STEPS) {
+                throw invalid("more than " + MAX_STEPS + " steps");
+            }
+            return new StreamingXPath(expression, steps.toArray(new Step[steps.size()]), terminal, attribute);
+        }
+
+        private Step step(boolean isDescendant) {
+            final NameTest name = nameTest(true);
+            final List<NameTest> attributeNames = new ArrayList<NameTest>();
+            final List<String> attributeValues = new ArrayList<String>();
+            int position = 0;
+            while (lookingAt("[")) {
+                index++;
+                if (position > 0) {
+                    throw invalid("a position must be the last predicate of its step");
+                }
+                if (lookingAt("@")) {
+                    index++;
+                    attributeNames.add(nameTest(false));
+                    if (lookingAt("=")) {
+                        index++;
+                        attributeValues.add(literal());
+                    } else {
+                        attributeValues.add(null);
+                    }
+                } else {
+                    position = number();
+                }
+                expect("]");
+            }
+            return new Step(isDescendant, name,
+                            attributeNames.toArray(new NameTest[attributeNames.size()]),
+                            attributeValues.toArray(new String[attributeValues.size()]),
+                            position);
+        }
+
+        private NameTest nameTest(boolean allowWildcard) {
+            if (allowWildcard && lookingAt("*")) {
+                index++;
+                return new NameTest(null, null);
+            }
+            final String first = name();
+            if (!lookingAt(":")) {
+                return new NameTest("", first);
+            }
+            index++;
+            final String localName = name();
+            final String namespaceURI = namespaceContext == null ? null : namespaceContext.getNamespaceURI(first);
+            if (namespaceURI == null || namespaceURI.length() == 0) {
+                throw invalid("unknown namespace prefix " + first);
+            }
+            return new NameTest(namespaceURI, localName);
+        }
+
+        private String name() {
+            final int start = index;
+            while (index < expression.length() && isNameChar(expression.charAt(index), index == start)) {
+                index++;
+            }
+            if (index == start) {
+                throw invalid("expected a name at " + start);
+            }
+            return expression.substring(start, index);
+        }
+
+        private static boolean isNameChar(char ch, boolean isFirst) {
+            return Character.isLetter(ch) || ch == '_'
+                || (!isFirst && (Character.isDigit(ch) || ch == '-' || ch == '.'));
+        }
+
+        private String literal() {
+            if (!lookingAt("'") && !lookingAt("\"")) {
+                throw invalid("expected a quoted value at " + index);
+            }
+            final char quote = expression.charAt(index++);
+            final int end = expression.indexOf(quote, index);
+            if (end < 0) {
+                throw invalid("unterminated value");
+            }
+            final String value = expression.substring(index, end);
+            index = end + 1;
+            return value;
+        }
+
+        private int number() {
+            final int start = index;
+            while (index < expression.length() && Character.isDigit(expression.charAt(index))) {
+                index++;
+            }
+            if (index == start) {
+                throw invalid("expected an attribute or a position at " + start);
+            }
+            final int position = Integer.parseInt(expression.substring(start, index));
+            if (position == 0) {
+                throw invalid("positions start at 1");
+            }
+            return position;
+        }
+
+        private void expect(String text) {
+            if (!lookingAt(text)) {
+                throw invalid("expected " + text + " at " + index);
+            }
+            index += text.length();
+        }
+
+        private boolean lookingAt(String text) {
+            return expression.startsWith(text, index);
+        }
+
+        private IllegalArgumentException invalid(String reason) {
+            return new IllegalArgumentException("Unsupported streaming XPath : " + expression + " (" + reason + ")");
+        }
+    }
+}
@@ -0,0 +1,594 @@
+package org.hamcrest.xml;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.sax.SAXSource;
+import javax.xml.transform.stream.StreamSource;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
+
+import org.hamcrest.xml.StreamingXPath.NameTest;
+import org.hamcrest.xml.StreamingXPath.StartTag;
+import org.hamcrest.xml.StreamingXPath.Step;
+import org.hamcrest.xml.StreamingXPath.Terminal;
+
+/**
+ * Several {@link StreamingXPath} expressions, merged so that steps they share
+ * are tested only once, that are all evaluated in a single pass over a
+ * document.
+ * <p/>
+ * Each node of the trie is a location step, and the path from the root to a
+ * node is the prefix of every expression that goes through it. As each element
+ * starts, only the children of the nodes that matched its parent, or, for the
+ * descendant axis, any of its ancestors, are tested, and nodes below which every
+ * expression has its value already are skipped. The pass stops once every
+ * expression has its value.
+ */
+final class XPathTrie {
+    private static final int ROOT = 0;
+    private static final int[] NONE = new int[0];
+    private static final ThreadLocal<XMLInputFactory> INPUT_FACTORY = new ThreadLocal<XMLInputFactory>() {
+        @Override
+        protected XMLInputFactory initialValue() {
+            final XMLInputFactory factory = XMLInputFactory.newInstance();
+            factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+            factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+            return factory;
+        }
+    };
+
+    private final StreamingXPath[] paths;
+    private final Step[] stepOf;
+    private final int[][] childAxisChildren;
+    private final int[][] descendantAxisChildren;
+    private final int[][] pathsEndingAt;
+    private final int[][] nodesOfPath;
+    private final boolean hasPositions;
+
+    XPathTrie(List<StreamingXPath> paths) {
+        this.paths = paths.toArray(new StreamingXPath[paths.size()]);
+        final List<Step> steps = new ArrayList<Step>();
+        final List<List<Integer>> children = new ArrayList<List<Integer>>();
+        final List<List<Integer>> endingAt = new ArrayList<List<Integer>>();
+        steps.add(null);
+        children.add(new ArrayList<Integer>());
+        endingAt.add(new ArrayList<Integer>());
+
+        this.nodesOfPath = new int[this.paths.length][];
+        boolean anyPositions = false;
+        for (int p = 0; p < this.paths.length; p++) {
+            final Step[] pathSteps = this.paths[p].steps;
+            nodesOfPath[p] = new int[pathSteps.length];
+            int node = ROOT;
+            for (int s = 0; s < pathSteps.length; s++) {
+                node = childFor(node, pathSteps[s], steps, children, endingAt);
+                nodesOfPath[p][s] = node;
+                anyPositions |= pathSteps[s].position > 0;
+            }
+            endingAt.get(node).add(p);
+        }
+
+        final int size = steps.size();
+        this.stepOf = steps.toArray(new Step[size]);
+        this.childAxisChildren = new int[size][];
+        this.descendantAxisChildren = new int[size][];
+        this.pathsEndingAt = new int[size][];
+        for (int node = 0; node < size; node++) {
+            final List<Integer> childAxis = new ArrayList<Integer>();
+            final List<Integer> descendantAxis = new ArrayList<Integer>();
+            for (int child : children.get(node)) {
+                (stepOf[child].isDescendant ? descendantAxis : childAxis).add(child);
+            }
+            childAxisChildren[node] = toArray(childAxis);
+            descendantAxisChildren[node] = toArray(descendantAxis);
+            pathsEndingAt[node] = toArray(endingAt.get(node));
+        }
+        this.hasPositions = anyPositions;
+    }
+
+    private static int childFor(int parent, Step step, List<Step> steps, List<List<Integer>> children, List<List<Integer>> endingAt) {
+        for (int child : children.get(parent)) {
+            if (steps.get(child).sameTestsAs(step)) {
+                return child;
+            }
+        }
+        final int child = steps.size();
+        steps.add(step);
+        children.add(new ArrayList<Integer>());
+        endingAt.add(new ArrayList<Integer>());
+        children.get(parent).add(child);
+        return child;
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        if (values.isEmpty()) {
+            return NONE;
+        }
+        final int[] array = new int[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+
+    int size() {
+        return stepOf.length;
+    }
+
+    /**
+     * Returns whether the document is of a type that can be evaluated: a DOM {@link Node}, or a
+     * document that {@link #canRead(Object) can be read}.
+     */
+    static boolean canEvaluate(Object document) {
+        return document instanceof Node || canRead(document);
+    }
+
+    /**
+     * Returns whether the document is of a type that can be read: an {@link InputStream}, a
+     * {@link File}, a {@link StreamSource}, a {@link DOMSource} of a node, or a {@link SAXSource}
+     * without an {@link org.xml.sax.XMLReader} of its own, whose {@link InputSource} is read
+     * directly. Other kinds of {@link javax.xml.transform.Source} cannot be read as a stream.
+     */
+    static boolean canRead(Object document) {
+        if (document instanceof SAXSource) {
+            final SAXSource source = (SAXSource) document;
+            return source.getXMLReader() == null && source.getInputSource() != null;
+        }
+        return document instanceof InputStream || document instanceof File
+            || document instanceof StreamSource
+            || (document instanceof DOMSource && ((DOMSource) document).getNode() != null);
+    }
+
+    /**
+     * Evaluates the expressions of the trie over one document.
+     */
+    final class Evaluation {
+        private final boolean[] needsValue;
+        private final String[] results = new String[paths.length];
+        private final int[] capturingDepth = new int[paths.length];
+        private final StringBuilder[] captured = new StringBuilder[paths.length];
+        private final int[] undecidedBelow = new int[stepOf.length];
+        private final int[] seenAt = new int[stepOf.length];
+        private int[][] active = new int[16][];
+        private int[] activeCount = new int[16];
+        private int[][] positions;
+        private int depth = 0;
+        private int elements = 0;
+        private int undecided;
+        private int capturing = 0;
+        private boolean isExhausted = false;
+
+        /**
+         * @param needsValue For each expression, whether the value of the first node it selects is
+         *                   wanted, or only whether there is one
+         */
+        Evaluation(boolean[] needsValue) {
+            this.needsValue = needsValue;
+            this.undecided = paths.length;
+            Arrays.fill(capturingDepth, -1);
+            for (int[] nodes : nodesOfPath) {
+                undecidedBelow[ROOT]++;
+                for (int node : nodes) {
+                    undecidedBelow[node]++;
+                }
+            }
+            active[0] = new int[] {ROOT};
+            activeCount[0] = 1;
+            if (hasPositions) {
+                positions = new int[16][];
+                positions[0] = new int[stepOf.length];
+            }
+        }
+
+        /**
+         * @return whether every expression has its value, or no further node can be selected by
+         *         those that do not, whose value is then that there is none
+         */
+        boolean isDecided() {
+            return undecided == 0 || isExhausted;
+        }
+
+        /**
+         * @return the value of the first node selected by the expression, or null if none has been
+         */
+        String result(int path) {
+            return results[path];
+        }
+
+        void startElement(StartTag tag) {
+            elements++;
+            int[] matched = frame(depth + 1);
+            int count = 0;
+            for (int i = 0; i < activeCount[depth]; i++) {
+                for (int child : childAxisChildren[active[depth][i]]) {
+                    if (matches(child, tag)) {
+                        matched = add(matched, count++, child);
+                    }
+                }
+            }
+            for (int d = 0; d <= depth; d++) {
+                for (int i = 0; i < activeCount[d]; i++) {
+                    for (int child : descendantAxisChildren[active[d][i]]) {
+                        if (seenAt[child] != elements) {
+                            seenAt[child] = elements;
+                            if (matches(child, tag)) {
+                                matched = add(matched, count++, child);
+                            }
+                        }
+                    }
+                }
+            }
+            push(matched, count);
+
+            for (int i = 0; i < count; i++) {
+                for (int path : pathsEndingAt[matched[i]]) {
+                    if (results[path] == null && capturingDepth[path] < 0) {
+                        selected(path, tag);
+                    }
+                }
+            }
+            if (elements == 1) {
+                checkExhausted();
+            }
+        }
+
+        private boolean matches(int node, StartTag tag) {
+            if (undecidedBelow[node] == 0) {
+                return false;
+            }
+            final Step step = stepOf[node];
+            return step.matches(tag) && (step.position == 0 || ++positions[depth][node] == step.position);
+        }
+
+        private void selected(int path, StartTag tag) {
+            switch (paths[path].terminal) {
+                case ATTRIBUTE:
+                    final String value = tag.attributeValue(paths[path].attribute);
+                    if (value != null) {
+                        decide(path, value);
+                    }
+                    break;
+                case ELEMENT:
+                    if (!needsValue[path]) {
+                        decide(path, "");
+                    } else {
+                        capturingDepth[path] = depth;
+                        captured[path] = new StringBuilder();
+                        capturing++;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        void endElement() {
+            if (capturing > 0) {
+                for (int path = 0; path < paths.length; path++) {
+                    if (capturingDepth[path] == depth) {
+                        decide(path, captured[path].toString());
+                    }
+                }
+            }
+            depth--;
+            checkExhausted();
+        }
+
+        /**
+         * Notes when no expression that is undecided can select a node any more: when no element
+         * that is still open has a step below it that can match a later child or descendant, or an
+         * undecided <code>text()</code>, and no element value is being captured. An open element
+         * can have more children, except the document, which has only one, and a child step
+         * whose position has been reached cannot match again.
+         */
+        private void checkExhausted() {
+            if (undecided == 0 || capturing > 0) {
+                return;
+            }
+            for (int d = 0; d <= depth; d++) {
+                for (int i = 0; i < activeCount[d]; i++) {
+                    final int node = active[d][i];
+                    if (undecidedBelow[node] == 0) {
+                        continue;
+                    }
+                    for (int child : descendantAxisChildren[node]) {
+                        if (undecidedBelow[child] > 0) {
+                            return;
+                        }
+                    }
+                    if (d > 0) {
+                        for (int child : childAxisChildren[node]) {
+                            final int position = stepOf[child].position;
+                            if (undecidedBelow[child] > 0 && (position == 0 || positions[d][child] < position)) {
+                                return;
+                            }
+                        }
+                    }
+                    for (int path : pathsEndingAt[node]) {
+                        if (results[path] == null && paths[path].terminal == Terminal.TEXT) {
+                            return;
+                        }
+                    }
+                }
+            }
+            isExhausted = true;
+        }
+
+        void characters(CharSequence text) {
+            if (capturing > 0) {
+                for (int path = 0; path < paths.length; path++) {
+                    if (capturingDepth[path] >= 0) {
+                        captured[path].append(text);
+                    }
+                }
+            }
+            for (int i = 0; i < activeCount[depth]; i++) {
+                for (int path : pathsEndingAt[active[depth][i]]) {
+                    if (results[path] == null && paths[path].terminal == Terminal.TEXT) {
+                        decide(path, text.toString());
+                    }
+                }
+            }
+        }
+
+        private void decide(int path, String value) {
+            if (capturingDepth[path] >= 0) {
+                capturingDepth[path] = -1;
+                captured[path] = null;
+                capturing--;
+            }
+            results[path] = value;
+            undecided--;
+            undecidedBelow[ROOT]--;
+            for (int node : nodesOfPath[path]) {
+                undecidedBelow[node]--;
+            }
+        }
+
+        private int[] frame(int level) {
+            if (level == active.length) {
+                final int[][] grownActive = new int[level * 2][];
+                final int[] grownCount = new int[level * 2];
+                System.arraycopy(active, 0, grownActive, 0, level);
+                System.arraycopy(activeCount, 0, grownCount, 0, level);
+                active = grownActive;
+                activeCount = grownCount;
+                if (positions != null) {
+                    final int[][] grownPositions = new int[level * 2][];
+                    System.arraycopy(positions, 0, grownPositions, 0, level);
+                    positions = grownPositions;
+                }
+            }
+            if (active[level] == null) {
+                active[level] = new int[4];
+            }
+            return active[level];
+        }
+
+        private int[] add(int[] nodes, int count, int node) {
+            if (count < nodes.length) {
+                nodes[count] = node;
+                return nodes;
+            }
+            final int[] grown = new int[count * 2];
+            System.arraycopy(nodes, 0, grown, 0, count);
+            grown[count] = node;
+            return grown;
+        }
+
+        private void push(int[] matched, int count) {
+            depth++;
+            active[depth] = matched;
+            activeCount[depth] = count;
+            if (positions != null) {
+                if (positions[depth] == null) {
+                    positions[depth] = new int[stepOf.length];
+                } else {
+                    Arrays.fill(positions[depth], 0);
+                }
+            }
+        }
+
+        /**
+         * Evaluates the expressions over a document that {@link XPathTrie#canEvaluate(Object)}.
+         * Streams are read only as far as needed, and are not closed.
+         */
+        void evaluate(Object document) throws XMLStreamException, IOException {
+            final XMLInputFactory factory = INPUT_FACTORY.get();
+            if (document instanceof Node) {
+                walk((Node) document);
+            } else if (document instanceof DOMSource) {
+                walk(((DOMSource) document).getNode());
+            } else if (document instanceof File) {
+                final InputStream in = new FileInputStream((File) document);
+                try {
+                    read(factory.createXMLStreamReader(in));
+                } finally {
+                    in.close();
+                }
+            } else if (document instanceof InputStream) {
+                read(factory.createXMLStreamReader((InputStream) document));
+            } else if (document instanceof SAXSource) {
+                read(readerFor(factory, ((SAXSource) document).getInputSource()));
+            } else {
+                read(factory.createXMLStreamReader((StreamSource) document));
+            }
+        }
+
+        private XMLStreamReader readerFor(XMLInputFactory factory, InputSource input) throws XMLStreamException {
+            if (input.getCharacterStream() != null) {
+                return factory.createXMLStreamReader(input.getSystemId(), input.getCharacterStream());
+            }
+            if (input.getByteStream() != null) {
+                return input.getEncoding() != null
+                    ? factory.createXMLStreamReader(input.getByteStream(), input.getEncoding())
+                    : factory.createXMLStreamReader(input.getSystemId(), input.getByteStream());
+            }
+            return factory.createXMLStreamReader(new StreamSource(input.getSystemId()));
+        }
+
+        private void read(XMLStreamReader reader) throws XMLStreamException {
+            try {
+                readEvents(reader);
+            } finally {
+                reader.close();
+            }
+        }
+
+        private void readEvents(XMLStreamReader reader) throws XMLStreamException {
+            final StaxStartTag tag = new StaxStartTag(reader);
+            while (!isDecided() && reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        startElement(tag);
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        endElement();
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                    case XMLStreamConstants.SPACE:
+                        characters(CharBuffer.wrap(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength()));
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+
+        /**
+         * Walks the document of the node in document order, until every expression has its value
+         * or the document ends.
+         */
+        private void walk(Node node) {
+            final Node document = node.getNodeType() == Node.DOCUMENT_NODE ? node : node.getOwnerDocument();
+            Node current = document.getFirstChild();
+            while (current != null && !isDecided()) {
+                final short type = current.getNodeType();
+                if (type == Node.ELEMENT_NODE) {
+                    startElement(new DomStartTag((Element) current));
+                } else if (isText(current)) {
+                    current = coalescedText(current);
+                }
+                if ((type == Node.ELEMENT_NODE || type == Node.ENTITY_REFERENCE_NODE) && current.getFirstChild() != null) {
+                    current = current.getFirstChild();
+                    continue;
+                }
+                if (type == Node.ELEMENT_NODE) {
+                    endElement();
+                }
+                while (current != document && current.getNextSibling() == null) {
+                    current = current.getParentNode();
+                    if (current.getNodeType() == Node.ELEMENT_NODE) {
+                        endElement();
+                    }
+                }
+                current = current == document ? null : current.getNextSibling();
+            }
+        }
+
+        /**
+         * Passes the text of the node, and of the text and CDATA nodes that follow it, as one
+         * string, as a coalescing stream reader would.
+         *
+         * @return the last of those nodes
+         */
+        private Node coalescedText(Node first) {
+            Node last = first;
+            StringBuilder text = null;
+            while (isText(last.getNextSibling())) {
+                if (text == null) {
+                    text = new StringBuilder(first.getNodeValue());
+                }
+                last = last.getNextSibling();
+                text.append(last.getNodeValue());
+            }
+            characters(text == null ? first.getNodeValue() : text);
+            return last;
+        }
+    }
+
+    private static boolean isText(Node node) {
+        return node != null
+            && (node.getNodeType() == Node.TEXT_NODE || node.getNodeType() == Node.CDATA_SECTION_NODE);
+    }
+
+    private static final class StaxStartTag implements StartTag {
+        private final XMLStreamReader reader;
+
+        StaxStartTag(XMLStreamReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public String namespaceURI() {
+            return reader.getNamespaceURI();
+        }
+
+        @Override
+        public String localName() {
+            return reader.getLocalName();
+        }
+
+        @Override
+        public String attributeValue(NameTest name) {
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                if (name.matches(reader.getAttributeNamespace(i), reader.getAttributeLocalName(i))) {
+                    return reader.getAttributeValue(i);
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class DomStartTag implements StartTag {
+        private final Element element;
+
+        DomStartTag(Element element) {
+            this.element = element;
+        }
+
+        @Override
+        public String namespaceURI() {
+            return element.getNamespaceURI();
+        }
+
+        @Override
+        public String localName() {
+            return element.getLocalName() != null ? element.getLocalName() : element.getNodeName();
+        }
+
+        @Override
+        public String attributeValue(NameTest name) {
+            final NamedNodeMap attributes = element.getAttributes();
+            for (int i = 0; i < attributes.getLength(); i++) {
+                final Attr attribute = (Attr) attributes.item(i);
+                final String localName = attribute.getLocalName() != null ? attribute.getLocalName() : attribute.getName();
+                if (!XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI())
+                        && name.matches(attribute.getNamespaceURI(), localName)) {
+                    return attribute.getValue();
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -2,6 +2,7 @@
  */
 package org.hamcrest.beans;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.beans.HasPropertyWithValue.hasProperty;
 import static org.hamcrest.core.IsAnything.anything;
@@ -10,11 +11,14 @@ import static org.hamcrest.core.IsEqual.equalTo;
 import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
 import java.beans.SimpleBeanInfo;
+import java.util.Collections;
 
 import org.hamcrest.AbstractMatcherTest;
+import org.hamcrest.CustomMatcher;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.StringDescription;
+import org.hamcrest.StructuredDescription;
 import org.hamcrest.core.IsEqual;
 
 /**
@@ -70,10 +74,44 @@ public class HasPropertyWithValueTest extends AbstractMatcherTest {
     assertEquals("Expected mismatch description", "", description.toString());
   }
 
+  public void testRecordsThePropertyAsTheMismatchPathOfAStructuredDescription() {
+    StructuredDescription description = new StructuredDescription();
+    hasProperty("property", equalTo("is expected")).describeMismatch(shouldNotMatch, description);
+    assertEquals(asList("property"), description.mismatchPaths());
+    assertEquals("property 'property' was \"not expected\"", description.toString());
+  }
+
+  public void testEvaluatesThePropertyOnceWhenRecordingItsPath() {
+    final int[] evaluations = {0};
+    Matcher<Object> countingMatcher = new CustomMatcher<Object>("counted") {
+      @Override public boolean matches(Object item) {
+        evaluations[0]++;
+        return false;
+      }
+    };
+    hasProperty("property", countingMatcher).describeMismatch(shouldNotMatch, new StructuredDescription());
+    assertEquals(1, evaluations[0]);
+  }
+
+  public void testRecordsNoMismatchPathForAPropertyThatMatches() {
+    StructuredDescription description = new StructuredDescription();
+    hasProperty("property", equalTo("is expected")).describeMismatch(shouldMatch, description);
+    assertEquals(Collections.<String>emptyList(), description.mismatchPaths());
+  }
+
   public void testDescribesMissingPropertyMismatch() {
     assertMismatchDescription("No property \"honk\"", hasProperty( "honk", anything()), shouldNotMatch);
   }
 
+  public void testMatchesBeansOfDifferentClassesWithTheSameMatcher() {
+    Matcher<Object> matcher = hasProperty("property", equalTo("with info"));
+
+    assertMatches("first class", matcher, beanWithInfo);
+    assertDoesNotMatch("second class", matcher, shouldMatch);
+    assertMatches("first class again", matcher, beanWithInfo);
+    assertMismatchDescription("No property \"property\"", matcher, "a string");
+  }
+
   public void testCanAccessAnAnonymousInnerClass() {
     class X implements IX {
       @Override
@@ -2,10 +2,12 @@
  */
 package org.hamcrest.beans;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.beans.SamePropertyValuesAs.samePropertyValuesAs;
 
 import org.hamcrest.AbstractMatcherTest;
 import org.hamcrest.Matcher;
+import org.hamcrest.StructuredDescription;
 
 public class SamePropertyValuesAsTest extends AbstractMatcherTest {
   private static final Value aValue = new Value("expected");
@@ -36,6 +38,13 @@ public class SamePropertyValuesAsTest extends AbstractMatcherTest {
         samePropertyValuesAs(expectedBean), new ExampleBean("same", 1, new Value("other")));
   }
 
+  public void testRecordsTheDifferingPropertyAsTheMismatchPath() {
+    StructuredDescription description = new StructuredDescription();
+    samePropertyValuesAs(expectedBean).describeMismatch(new ExampleBean("same", 2, aValue), description);
+    assertEquals(asList("int"), description.mismatchPaths());
+    assertEquals("int was <2>", description.toString());
+  }
+
   public void testMatchesBeansWithInheritanceButNoExtraProperties() {
     assertMatches("sub type with same properties", 
         samePropertyValuesAs(expectedBean), new SubBeanWithNoExtraProperties("same", 1, aValue));
@@ -46,6 +55,17 @@ public class SamePropertyValuesAsTest extends AbstractMatcherTest {
         samePropertyValuesAs(expectedBean), new SubBeanWithExtraProperty("same", 1, aValue));
   }
   
+  public void testComparesManyBeansOfTheSameClassesWithOneMatcher() {
+    Matcher<ExampleBean> matcher = samePropertyValuesAs(expectedBean);
+    for (int i = 0; i < 3; i++) {
+      assertMatches("same class", matcher, actualBean);
+      assertMatches("sub type", matcher, new SubBeanWithNoExtraProperties("same", 1, aValue));
+      assertMismatchDescription("has extra properties called [extra]",
+          matcher, new SubBeanWithExtraProperty("same", 1, aValue));
+      assertMismatchDescription("int was <3>", matcher, new ExampleBean("same", 3, aValue));
+    }
+  }
+
   public void testDescribesItself() {
     assertDescription("same property values as ExampleBean [int: <1>, string: \"same\", value: <Value expected>]", samePropertyValuesAs(expectedBean));
   }
@@ -2,6 +2,7 @@ package org.hamcrest.collection;
 
 import static org.hamcrest.collection.IsArrayContainingInAnyOrder.arrayContainingInAnyOrder;
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.number.OrderingComparison.lessThan;
 
 import org.hamcrest.AbstractMatcherTest;
 import org.hamcrest.Matcher;
@@ -33,11 +34,19 @@ public class IsArrayContainingInAnyOrderTest extends AbstractMatcherTest {
       assertMatches("single", arrayContainingInAnyOrder(equalTo(1)), new Integer[] {1});
     }
 
+    @SuppressWarnings("unchecked")
+    public void testMatchesWhenMatchersOverlap() {
+      Matcher<Integer[]> matcher = arrayContainingInAnyOrder(lessThan(10), equalTo(3));
+      assertMatches("wider matcher first", matcher, new Integer[] {3, 5});
+      assertMatches("narrower item first", matcher, new Integer[] {5, 3});
+    }
+
     public void testMismatchesItemsInAnyOrder() {
       Matcher<Integer[]> matcher = arrayContainingInAnyOrder(1, 2, 3);
       assertMismatchDescription("was null", matcher, null);
       assertMismatchDescription("no item matches: <1>, <2>, <3> in []", matcher, new Integer[] {});
       assertMismatchDescription("no item matches: <2>, <3> in [<1>]", matcher, new Integer[] {1});
       assertMismatchDescription("not matched: <4>", matcher, new Integer[] {4,3,2,1});
+      assertMismatchDescription("no match for: <4>", matcher, new Integer[] {1,2,3,4});
     }
 }
@@ -1,7 +1,10 @@
 package org.hamcrest.collection;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.hamcrest.AbstractMatcherTest;
 import org.hamcrest.Matcher;
@@ -34,6 +37,81 @@ public class IsInTest extends AbstractMatcherTest {
         assertDoesNotMatch("d", isIn, "d");
     }
     
+    public void testMatchesEnumConstantsInArray() {
+        Matcher<TimeUnit> isIn = IsIn.oneOf(TimeUnit.SECONDS, TimeUnit.MINUTES);
+
+        assertMatches("seconds", isIn, TimeUnit.SECONDS);
+        assertDoesNotMatch("hours", isIn, TimeUnit.HOURS);
+        assertDoesNotMatch("null", isIn, null);
+    }
+
+    public void testMatchesMixedValuesInArray() {
+        Matcher<Object> isIn = IsIn.<Object>oneOf("a", 1, 2L, null);
+
+        assertMatches("string", isIn, "a");
+        assertMatches("int", isIn, 1);
+        assertMatches("long", isIn, 2L);
+        assertMatches("null", isIn, null);
+        assertDoesNotMatch("int that is only present as a long", isIn, 2);
+    }
+
+    public void testMatchesMutableElementsInArray() {
+        List<String> element = new ArrayList<String>(Arrays.asList("a"));
+        Matcher<Object> isIn = IsIn.<Object>oneOf(element, "b");
+
+        assertMatches("equal list", isIn, Arrays.asList("a"));
+        assertMatches("string", isIn, "b");
+        assertDoesNotMatch("different list", isIn, Arrays.asList("b"));
+    }
+
+    public void testIsNotAffectedByChangesToTheOriginalArray() {
+        String[] original = {"a", "b"};
+        Matcher<String> isIn = new IsIn<String>(original);
+        original[0] = "z";
+
+        assertMatches("a", isIn, "a");
+        assertDoesNotMatch("z", isIn, "z");
+    }
+
+    public void testMatchesIntsInPrimitiveArray() {
+        Matcher<Integer> isIn = IsIn.in(new int[] {3, -1, 0, Integer.MAX_VALUE});
+
+        assertMatches("zero", isIn, 0);
+        assertMatches("negative", isIn, -1);
+        assertMatches("max", isIn, Integer.MAX_VALUE);
+        assertDoesNotMatch("missing", isIn, 4);
+        assertMismatchDescription("was <4>", isIn, 4);
+        assertDescription("one of {<3>, <-1>, <0>, <2147483647>}", isIn);
+    }
+
+    public void testMatchesLongsInPrimitiveArray() {
+        long[] elements = new long[1000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i * 1024L * 1024L * 1024L * 7;
+        }
+        Matcher<Long> isIn = IsIn.in(elements);
+
+        assertMatches("first", isIn, 0L);
+        assertMatches("last", isIn, elements[999]);
+        assertDoesNotMatch("in between", isIn, elements[999] - 1);
+    }
+
+    public void testDescribesPrimitiveArrayAsGivenAtConstruction() {
+        long[] elements = {5L, 1L};
+        Matcher<Long> isIn = IsIn.in(elements);
+        elements[0] = 9L;
+
+        assertDescription("one of {<5L>, <1L>}", isIn);
+    }
+
+    public void testDoesNotMatchOtherNumberTypesAgainstPrimitiveArray() {
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        Matcher<Object> isIn = (Matcher) IsIn.in(new int[] {1, 2});
+
+        assertDoesNotMatch("long", isIn, 1L);
+        assertDoesNotMatch("null", isIn, null);
+    }
+
     public void testHasReadableDescription() {
         Matcher<String> isIn = new IsIn<String>(elements);
         
@@ -1,8 +1,14 @@
 package org.hamcrest.collection;
 import static org.hamcrest.collection.IsIterableWithSize.iterableWithSize;
 
+import static org.hamcrest.number.OrderingComparison.greaterThan;
+import static org.hamcrest.number.OrderingComparison.lessThan;
+
+import java.util.AbstractCollection;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 
 import org.hamcrest.AbstractMatcherTest;
 import org.hamcrest.Matcher;
@@ -30,6 +36,38 @@ public class IsIterableWithSizeTest extends AbstractMatcherTest {
         assertDoesNotMatch("Incorrect size", iterableWithSize(3), Arrays.<Object>asList(1));
     }
 
+    public void testAsksACollectionForItsSize() throws Exception {
+        final Collection<Object> collection = new AbstractCollection<Object>() {
+            @Override public Iterator<Object> iterator() { throw new UnsupportedOperationException(); }
+            @Override public int size() { return 5; }
+        };
+        assertMatches("collection", iterableWithSize(5), collection);
+        assertMismatchDescription("iterable size was <5>", iterableWithSize(4), collection);
+    }
+
+    public void testStopsCountingOnceTheOutcomeIsDecided() throws Exception {
+        assertMatches("greater than", iterableWithSize(greaterThan(5)), endless());
+        assertDoesNotMatch("less than", iterableWithSize(lessThan(10)), endless());
+        assertDoesNotMatch("equal to", iterableWithSize(3), endless());
+        assertMismatchDescription("iterable size was at least <11>", iterableWithSize(lessThan(10)), endless());
+    }
+
+    public void testDescribesMismatchOfExactSize() throws Exception {
+        assertMismatchDescription("iterable size was <1>", iterableWithSize(3), Arrays.<Object>asList(1));
+    }
+
+    private static Iterable<Object> endless() {
+        return new Iterable<Object>() {
+            @Override public Iterator<Object> iterator() {
+                return new Iterator<Object>() {
+                    @Override public boolean hasNext() { return true; }
+                    @Override public Object next() { return "item"; }
+                    @Override public void remove() { throw new UnsupportedOperationException(); }
+                };
+            }
+        };
+    }
+
     public void testHasAReadableDescription() {
         assertDescription("an iterable with size <4>", iterableWithSize(4));
     }
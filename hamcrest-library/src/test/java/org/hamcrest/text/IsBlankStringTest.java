@@ -8,6 +8,10 @@ import static org.hamcrest.AbstractMatcherTest.assertNullSafe;
 import static org.hamcrest.AbstractMatcherTest.assertUnknownTypeSafe;
 import static org.hamcrest.text.IsBlankString.blankOrNullString;
 import static org.hamcrest.text.IsBlankString.blankString;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.CharBuffer;
 
 import org.hamcrest.Matcher;
 import org.junit.Test;
@@ -57,4 +61,12 @@ public final class IsBlankStringTest {
         assertMismatchDescription("was \"a\"", blankString(), "a");
         assertMismatchDescription("was \"a\"", blankOrNullString(), "a");
     }
+
+    @Test public void
+    matchesOtherCharSequences() {
+        assertTrue("didn't match", blankString().matches(new StringBuilder(" \t\r\n\f\u000B")));
+        assertTrue("didn't match", blankOrNullString().matches(CharBuffer.wrap("  ")));
+        assertFalse("matched unexpectedly", blankString().matches(new StringBuilder(" a ")));
+        assertFalse("matched unexpectedly", blankString().matches("\u00A0"));
+    }
 }
@@ -8,6 +8,10 @@ import static org.hamcrest.AbstractMatcherTest.assertNullSafe;
 import static org.hamcrest.AbstractMatcherTest.assertUnknownTypeSafe;
 import static org.hamcrest.text.IsEmptyString.emptyOrNullString;
 import static org.hamcrest.text.IsEmptyString.emptyString;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.CharBuffer;
 
 import org.hamcrest.Matcher;
 import org.junit.Test;
@@ -57,4 +61,11 @@ public final class IsEmptyStringTest {
         assertMismatchDescription("was \"a\"", emptyString(), "a");
         assertMismatchDescription("was \"a\"", emptyOrNullString(), "a");
     }
+
+    @Test public void
+    matchesOtherCharSequences() {
+        assertTrue("didn't match", emptyString().matches(new StringBuilder()));
+        assertTrue("didn't match", emptyOrNullString().matches(CharBuffer.wrap("")));
+        assertFalse("matched unexpectedly", emptyString().matches(new StringBuilder("a")));
+    }
 }
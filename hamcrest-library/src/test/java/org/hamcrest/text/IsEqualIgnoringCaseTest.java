@@ -2,6 +2,8 @@
  */
 package org.hamcrest.text;
 
+import java.nio.CharBuffer;
+
 import org.hamcrest.AbstractMatcherTest;
 import org.hamcrest.Matcher;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -45,4 +47,14 @@ public class IsEqualIgnoringCaseTest extends AbstractMatcherTest {
         assertDescription("equalToIgnoringCase(\"heLLo\")",
                         equalToIgnoringCase("heLLo"));
     }
+
+    public void testIgnoresCaseOfCharsInOtherCharSequences() {
+        final Matcher<CharSequence> matcher = new IsEqualIgnoringCase("heLLo");
+
+        assertThat(new StringBuilder("HELLO"), matcher);
+        assertThat(CharBuffer.wrap("hello"), matcher);
+        assertThat(new StringBuilder("hell"), not(matcher));
+        assertThat(new StringBuilder("help!"), not(matcher));
+        assertMismatchDescription("was bye", matcher, new StringBuilder("bye"));
+    }
 }
@@ -5,6 +5,9 @@ package org.hamcrest.text;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsNot.not;
 import static org.hamcrest.text.IsEqualIgnoringWhiteSpace.equalToIgnoringWhiteSpace;
+
+import java.nio.CharBuffer;
+
 import org.hamcrest.AbstractMatcherTest;
 import org.hamcrest.Matcher;
 
@@ -32,6 +35,13 @@ public class IsEqualIgnoringWhiteSpaceTest extends AbstractMatcherTest {
         assertThat("Hello Wo rld how are we?", not(matcher));
     }
 
+    public void testIgnoresControlCharactersAtEitherEndLikeTrim() {
+        assertThat("hello\u0001", equalToIgnoringWhiteSpace("hello"));
+        assertThat("\u0000 hello \u0001 \u0002", equalToIgnoringWhiteSpace("hello"));
+        assertThat("hello", equalToIgnoringWhiteSpace("\u0001hello"));
+        assertThat("hel\u0001lo", not(equalToIgnoringWhiteSpace("hello")));
+    }
+
     public void testFailsIfMatchingAgainstNull() {
         assertThat(null, not(matcher));
     }
@@ -49,4 +59,15 @@ public class IsEqualIgnoringWhiteSpaceTest extends AbstractMatcherTest {
         assertDescription("equalToIgnoringWhiteSpace(\"Hello World   how\\n are we? \")",
                         matcher);
     }
+
+    public void testMatchesOtherCharSequences() {
+        final Matcher<CharSequence> sequenceMatcher = new IsEqualIgnoringWhiteSpace("Hello World   how\n are we? ");
+
+        assertThat(new StringBuilder("   Hello World   how are \n\n\twe?"), sequenceMatcher);
+        assertThat(CharBuffer.wrap("hello world how are WE?\t"), sequenceMatcher);
+        assertThat(new StringBuilder("Hello World how are we? really"), not(sequenceMatcher));
+        assertThat(new StringBuilder("Hello Wo rld how are we?"), not(sequenceMatcher));
+        assertThat(new StringBuilder("Hello World how"), not(sequenceMatcher));
+        assertMismatchDescription("was  Hello PLANET", sequenceMatcher, new StringBuilder(" Hello\tPLANET "));
+    }
 }
@@ -4,8 +4,11 @@ package org.hamcrest.text;
 
 import static org.hamcrest.core.StringContains.containsString;
 
+import java.nio.CharBuffer;
+
 import org.hamcrest.AbstractMatcherTest;
 import org.hamcrest.Matcher;
+import org.hamcrest.core.StringContains;
 
 
 public class StringContainsTest extends AbstractMatcherTest {
@@ -41,4 +44,14 @@ public class StringContainsTest extends AbstractMatcherTest {
     public void testHasAReadableDescription() {
         assertDescription("a string containing \"EXCERPT\"", stringContains);
     }
+
+    public void testEvaluatesCharSequencesOtherThanStrings() {
+        assertTrue("should be true if excerpt in builder",
+                stringContains.matches(new StringBuilder("START").append(EXCERPT).append("END")));
+        assertTrue("should be true if excerpt in buffer",
+                stringContains.matches(CharBuffer.wrap("START" + EXCERPT)));
+        assertFalse("should be false if only part of excerpt is at end of buffer",
+                stringContains.matches(CharBuffer.wrap("START" + EXCERPT, 0, 10)));
+        assertMismatchDescription("was \"Something else\"", new StringContains(EXCERPT), new StringBuilder("Something else"));
+    }
 }
@@ -4,8 +4,11 @@ package org.hamcrest.text;
 
 import static org.hamcrest.core.StringEndsWith.endsWith;
 
+import java.nio.CharBuffer;
+
 import org.hamcrest.AbstractMatcherTest;
 import org.hamcrest.Matcher;
+import org.hamcrest.core.StringEndsWith;
 
 
 public class StringEndsWithTest extends AbstractMatcherTest {
@@ -41,4 +44,14 @@ public class StringEndsWithTest extends AbstractMatcherTest {
     public void testHasAReadableDescription() {
         assertDescription("a string ending with \"EXCERPT\"", stringEndsWith);
     }
+
+    public void testEvaluatesCharSequencesOtherThanStrings() {
+        assertTrue("should be true if excerpt at end of builder",
+                stringEndsWith.matches(new StringBuilder("START").append(EXCERPT)));
+        assertFalse("should be false if excerpt at beginning of buffer",
+                stringEndsWith.matches(CharBuffer.wrap(EXCERPT + "END")));
+        assertFalse("should be false if buffer is shorter than excerpt",
+                stringEndsWith.matches(CharBuffer.wrap(EXCERPT, 4, 7)));
+        assertMatches("typed for sequences", new StringEndsWith(EXCERPT), new StringBuilder(EXCERPT));
+    }
 }
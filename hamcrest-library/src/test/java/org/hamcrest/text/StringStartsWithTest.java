@@ -4,8 +4,11 @@ package org.hamcrest.text;
 
 import static org.hamcrest.core.StringStartsWith.startsWith;
 
+import java.nio.CharBuffer;
+
 import org.hamcrest.AbstractMatcherTest;
 import org.hamcrest.Matcher;
+import org.hamcrest.core.StringStartsWith;
 
 
 public class StringStartsWithTest extends AbstractMatcherTest {
@@ -41,4 +44,14 @@ public class StringStartsWithTest extends AbstractMatcherTest {
     public void testHasAReadableDescription() {
         assertDescription("a string starting with \"EXCERPT\"", stringStartsWith);
     }
+
+    public void testEvaluatesCharSequencesOtherThanStrings() {
+        assertTrue("should be true if excerpt at beginning of builder",
+                stringStartsWith.matches(new StringBuilder(EXCERPT).append("END")));
+        assertFalse("should be false if excerpt at end of buffer",
+                stringStartsWith.matches(CharBuffer.wrap("START" + EXCERPT)));
+        assertFalse("should be false if buffer is shorter than excerpt",
+                stringStartsWith.matches(CharBuffer.wrap(EXCERPT, 0, 3)));
+        assertMatches("typed for sequences", new StringStartsWith(EXCERPT), new StringBuilder(EXCERPT));
+    }
 }
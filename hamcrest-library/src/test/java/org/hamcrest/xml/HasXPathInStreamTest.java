@@ -0,0 +1,215 @@
+package org.hamcrest.xml;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.StringContains.containsString;
+import static org.hamcrest.xml.HasXPathInStream.hasXPathInStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.Iterator;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.transform.Source;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.sax.SAXSource;
+import javax.xml.transform.stream.StreamSource;
+
+import org.hamcrest.AbstractMatcherTest;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+
+public class HasXPathInStreamTest extends AbstractMatcherTest {
+    private static final String XML = ""
+            + "<root type='food'>\n"
+            + "  <something id='a'><cheese>Edam</cheese></something>\n"
+            + "  <something id='b'><cheese>Cheddar</cheese><cheese>Brie</cheese></something>\n"
+            + "  <f:foreignSomething xmlns:f=\"http://cheese.com\" milk=\"camel\">Caravane</f:foreignSomething>\n"
+            + "  <emptySomething />\n"
+            + "  <mixed>one<b>two</b>three</mixed>\n"
+            + "</root>\n";
+
+    private final NamespaceContext ns = new NamespaceContext() {
+        @Override
+        public String getNamespaceURI(String prefix) {
+            return ("cheese".equals(prefix) ? "http://cheese.com" : null);
+        }
+
+        @Override
+        public String getPrefix(String namespaceURI) {
+            return ("http://cheese.com".equals(namespaceURI) ? "cheese" : null);
+        }
+
+        @Override
+        public Iterator<String> getPrefixes(String namespaceURI) {
+            return Collections.singleton(getPrefix(namespaceURI)).iterator();
+        }
+    };
+
+    @Override
+    protected Matcher<?> createMatcher() {
+        return hasXPathInStream("//irrelevant");
+    }
+
+    public void testAppliesMatcherToXPathInDocument() {
+        assertThat(xml(), hasXPathInStream("/root/something[2]/cheese", equalTo("Cheddar")));
+        assertThat(xml(), hasXPathInStream("//something[1]/cheese", containsString("dam")));
+        assertThat(xml(), hasXPathInStream("//something[2]/cheese", not(containsString("dam"))));
+        assertThat(xml(), hasXPathInStream("//something[@id='b']/cheese[2]", equalTo("Brie")));
+        assertThat(xml(), hasXPathInStream("/root/@type", equalTo("food")));
+        assertThat(xml(), hasXPathInStream("//*[@id]/@id", equalTo("a")));
+        assertThat(xml(), hasXPathInStream("//something[@id='b']/cheese"));
+    }
+
+    public void testUsesTheStringValueOfElements() {
+        assertThat(xml(), hasXPathInStream("/root/mixed", equalTo("onetwothree")));
+        assertThat(xml(), hasXPathInStream("/root/mixed/text()", equalTo("one")));
+        assertThat(xml(), hasXPathInStream("//b/text()", equalTo("two")));
+    }
+
+    public void testMatchesWithNamespace() {
+        assertThat(xml(), hasXPathInStream("//cheese:foreignSomething", ns));
+        assertThat(xml(), hasXPathInStream("//cheese:foreignSomething/@milk", ns, equalTo("camel")));
+        assertThat(xml(), hasXPathInStream("//cheese:foreignSomething/text()", ns, equalTo("Caravane")));
+        assertDoesNotMatch("unprefixed name in namespace", hasXPathInStream("//foreignSomething"), xml());
+    }
+
+    public void testMatchesEmptyElement() {
+        assertThat(xml(), hasXPathInStream("//emptySomething"));
+        assertThat(xml(), hasXPathInStream("//emptySomething", equalTo("")));
+    }
+
+    public void testAcceptsSourcesStreamsAndFiles() throws IOException {
+        final File file = File.createTempFile("HasXPathInStreamTest", ".xml");
+        try {
+            final OutputStream out = new FileOutputStream(file);
+            out.write(XML.getBytes("UTF-8"));
+            out.close();
+
+            assertMatches("file", hasXPathInStream("//cheese", equalTo("Edam")), file);
+            assertMatches("stream", hasXPathInStream("//cheese", equalTo("Edam")), stream(XML));
+            assertMatches("source", hasXPathInStream("//cheese", equalTo("Edam")), xml());
+        } finally {
+            file.delete();
+        }
+        assertMismatchDescription("was \"<root/>\", not a Source, InputStream or File", hasXPathInStream("/root"), "<root/>");
+    }
+
+    public void testReadsDomAndSaxSourcesAndRejectsOtherSources() throws Exception {
+        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        final Document document = factory.newDocumentBuilder().parse(new InputSource(new StringReader(XML)));
+        final Matcher<Object> matcher = hasXPathInStream("//cheese", equalTo("Edam"));
+
+        assertMatches("DOM source", matcher, new DOMSource(document));
+        assertMatches("SAX source of characters", matcher, new SAXSource(new InputSource(new StringReader(XML))));
+        assertMatches("SAX source of bytes", matcher, new SAXSource(new InputSource(stream(XML))));
+
+        final SAXSource withOwnReader = new SAXSource(SAXParserFactory.newInstance().newSAXParser().getXMLReader(),
+                                                      new InputSource(new StringReader(XML)));
+        assertDoesNotMatch("SAX source with its own reader", matcher, withOwnReader);
+        assertMismatchDescription("was <unreadable>, a Source that cannot be read as a stream", matcher, new UnreadableSource());
+    }
+
+    public void testDoesNotProcessDocumentTypeDefinitions() {
+        final String withEntity = "<!DOCTYPE root [<!ENTITY e 'expanded'>]><root>&e;</root>";
+
+        assertDoesNotMatch("entity expanded", hasXPathInStream("/root", equalTo("expanded")), source(withEntity));
+    }
+
+    public void testStopsReadingOnceTheOutcomeIsKnown() {
+        final String truncated = "<root><found>yes</found><unfinished>";
+
+        assertMatches("value", hasXPathInStream("/root/found", equalTo("yes")), source(truncated));
+        assertMatches("existence", hasXPathInStream("//found"), source(truncated));
+        assertDoesNotMatch("read past end", hasXPathInStream("//missing"), source(truncated));
+    }
+
+    public void testStopsReadingOnceNoFurtherNodeCanBeSelected() {
+        final String otherRoot = "<export><order><total>1</total></order><unfinished>";
+        final String firstOrderOnly = "<orders><order><id>1</id></order><order><total>2</total></order><unfinished>";
+
+        assertMismatchDescription("xpath returned no results.", hasXPathInStream("/orders/order"), source(otherRoot));
+        assertMismatchDescription("xpath returned no results.", hasXPathInStream("/orders/order[1]/total"), source(firstOrderOnly));
+        assertMatches("later descendant", hasXPathInStream("//total", equalTo("2")), source(firstOrderOnly));
+        assertMatches("root element", hasXPathInStream("/orders", equalTo("12")), source(firstOrderOnly.replace("<unfinished>", "</orders>")));
+        assertMatches("later text", hasXPathInStream("/orders/text()", equalTo("tail")), source("<orders><order/>tail</orders>"));
+    }
+
+    public void testDescribesMissingNodeMismatch() {
+        assertMismatchDescription("xpath returned no results.", hasXPathInStream("//honky"), xml());
+        assertMismatchDescription("was \"\"", hasXPathInStream("//honky", equalTo("tonk")), xml());
+    }
+
+    public void testDescribesIncorrectNodeValueMismatch() {
+        assertMismatchDescription("was \"Edam\"", hasXPathInStream("//something[1]/cheese", equalTo("parmesan")), xml());
+    }
+
+    public void testDescribesTheMismatchOfAStreamThatHasBeenRead() {
+        final Matcher<Object> matcher = hasXPathInStream("//something[1]/cheese", equalTo("parmesan"));
+        final InputStream stream = stream(XML);
+        assertFalse(matcher.matches(stream));
+
+        final StringDescription description = new StringDescription();
+        matcher.describeMismatch(stream, description);
+        assertEquals("was \"Edam\"", description.toString());
+    }
+
+    public void testDescribesItself() {
+        assertDescription("an XML document with XPath /some/path \"Cheddar\"",
+                hasXPathInStream("/some/path", equalTo("Cheddar")));
+        assertDescription("an XML document with XPath /some/path",
+                hasXPathInStream("/some/path"));
+    }
+
+    public void testRejectsExpressionsOutsideTheSupportedSubset() {
+        assertRejected("some/relative/path");
+        assertRejected("/root/something[last()]");
+        assertRejected("/root/something[2][@id]");
+        assertRejected("/root/../parent");
+        assertRejected("/root/unknown:prefix");
+        assertRejected("/root//@id");
+    }
+
+    private static void assertRejected(String expression) {
+        try {
+            hasXPathInStream(expression);
+            fail("Expected " + expression + " to be rejected");
+        } catch (IllegalArgumentException expected) {
+            // expected exception
+        }
+    }
+
+    private static final class UnreadableSource implements Source {
+        @Override public void setSystemId(String systemId) { }
+        @Override public String getSystemId() { return null; }
+        @Override public String toString() { return "unreadable"; }
+    }
+
+    private static Source xml() {
+        return source(XML);
+    }
+
+    private static Source source(String xml) {
+        return new StreamSource(new StringReader(xml));
+    }
+
+    private static InputStream stream(String xml) {
+        try {
+            return new ByteArrayInputStream(xml.getBytes("UTF-8"));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -7,16 +7,21 @@ import static org.hamcrest.core.StringContains.containsString;
 import static org.hamcrest.xml.HasXPath.hasXPath;
 
 import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPathConstants;
 
 import org.hamcrest.AbstractMatcherTest;
 import org.hamcrest.Matcher;
 import org.w3c.dom.Document;
+import org.w3c.dom.Node;
 
 /**
  * @author Joe Walnes
@@ -122,6 +127,43 @@ public class HasXPathTest extends AbstractMatcherTest {
         assertMismatchDescription("was \"Edam\"", hasXPath("//something[1]/cheese", equalTo("parmesan")), xml);
     }
 
+    public void testSharesCompiledExpressionsBetweenMatchers() {
+        assertSame(CompiledXPath.forExpression("/some/path", ns, XPathConstants.STRING),
+                   CompiledXPath.forExpression("/some/path", ns, XPathConstants.STRING));
+        assertNotSame(CompiledXPath.forExpression("/some/path", ns, XPathConstants.STRING),
+                      CompiledXPath.forExpression("/some/path", ns, XPathConstants.NODE));
+    }
+
+    public void testCanBeUsedOnSeveralThreadsAtOnce() throws Exception {
+        final Matcher<Node> shared = hasXPath("//something[2]/cheese", equalTo("Cheddar"));
+        final List<Throwable> failures = Collections.synchronizedList(new ArrayList<Throwable>());
+        final Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            final Document document = parse(""
+                    + "<root><something id='a'><cheese>Edam</cheese></something>"
+                    + "<something id='b'><cheese>Cheddar</cheese></something></root>");
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        for (int j = 0; j < 500; j++) {
+                            assertThat(document, shared);
+                        }
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    }
+                }
+            };
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(Collections.<Throwable>emptyList(), failures);
+    }
+
     private static Document parse(String xml) throws Exception {
         DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
         documentBuilderFactory.setNamespaceAware(true);
@@ -0,0 +1,153 @@
+package org.hamcrest.xml;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.xml.HasXPath.hasXPath;
+import static org.hamcrest.xml.HasXPathInStream.hasXPathInStream;
+import static org.hamcrest.xml.HasXPaths.hasXPaths;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+
+import org.hamcrest.AbstractMatcherTest;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.hamcrest.core.IsEqual;
+import org.w3c.dom.Document;
+
+public class HasXPathsTest extends AbstractMatcherTest {
+    private static final String XML = ""
+            + "<root type='food'>\n"
+            + "  <something id='a'><cheese>Edam</cheese></something>\n"
+            + "  <something id='b'><cheese>Cheddar</cheese><cheese>Brie</cheese></something>\n"
+            + "  <mixed>one<b>two</b>three<![CDATA[<four>]]></mixed>\n"
+            + "</root>\n";
+
+    @Override
+    protected Matcher<?> createMatcher() {
+        return hasXPaths(hasXPath("//irrelevant"));
+    }
+
+    public void testMatchesEveryExpressionInOnePassOverADocument() throws Exception {
+        final Matcher<Object> matcher = hasXPaths(
+                hasXPath("/root/@type", equalTo("food")),
+                hasXPath("/root/something[2]/cheese", equalTo("Cheddar")),
+                hasXPath("/root/something[2]/cheese[2]", equalTo("Brie")),
+                hasXPath("//something[@id='a']/cheese/text()", equalTo("Edam")),
+                hasXPath("/root/mixed", equalTo("onetwothree<four>")),
+                hasXPathInStream("//b"));
+
+        assertThat(dom(XML), matcher);
+        assertThat(source(XML), matcher);
+        assertMatches("stream", matcher, stream(XML));
+    }
+
+    public void testAgreesWithHasXPathOnADocument() throws Exception {
+        final Document document = dom(XML);
+        final String[] expressions = {
+            "/root/something/cheese", "//cheese", "//something[2]/cheese", "/root/*[@id='b']/cheese[2]",
+            "/root/mixed/text()", "//mixed", "/root/missing", "/root/something/@id", "//*/@type" };
+        for (String expression : expressions) {
+            final Matcher<String> value = IsEqual.equalTo(stringValueOf(expression, document));
+            assertMatches(expression, hasXPaths(hasXPath(expression, value)), document);
+            assertMatches(expression, hasXPaths(hasXPath(expression, value)), source(XML));
+        }
+
+        final String withCData = "<r><a>foo<![CDATA[bar]]></a></r>";
+        assertEquals("foobar", stringValueOf("/r/a/text()", dom(withCData)));
+        assertMatches("adjacent text and CDATA", hasXPaths(hasXPath("/r/a/text()", equalTo("foobar"))), dom(withCData));
+        assertMatches("adjacent text and CDATA", hasXPaths(hasXPath("/r/a/text()", equalTo("foobar"))), source(withCData));
+    }
+
+    public void testSharesTheStepsOfExpressionsWithTheSamePrefix() {
+        final List<StreamingXPath> paths = new ArrayList<StreamingXPath>();
+        paths.add(StreamingXPath.parse("/root/something[@id='a']/cheese", null));
+        paths.add(StreamingXPath.parse("/root/something[@id='a']/@id", null));
+        paths.add(StreamingXPath.parse("/root/something[@id='b']/cheese", null));
+        paths.add(StreamingXPath.parse("/root//cheese", null));
+
+        assertEquals(1 + 1 + 2 + 2 + 1, new XPathTrie(paths).size());
+    }
+
+    public void testStopsReadingOnceEveryExpressionHasItsValue() {
+        final String truncated = "<root><a>1</a><b x='2'/><unfinished>";
+
+        assertMatches("all found", hasXPaths(hasXPath("/root/a", equalTo("1")), hasXPath("//b/@x", equalTo("2"))), source(truncated));
+        assertDoesNotMatch("read past end", hasXPaths(hasXPath("/root/a"), hasXPath("//c")), source(truncated));
+    }
+
+    public void testDescribesEveryMismatchingExpression() throws Exception {
+        final Matcher<Object> matcher = hasXPaths(
+                hasXPath("/root/@type", equalTo("drink")),
+                hasXPath("//cheese", equalTo("Edam")),
+                hasXPath("//missing"),
+                hasXPath("//something[2]/cheese", equalTo("Brie")));
+
+        final String expected = "XPath /root/@type was \"food\""
+                              + " and XPath //missing returned no results"
+                              + " and XPath //something[2]/cheese was \"Cheddar\"";
+        assertMismatchDescription(expected, matcher, dom(XML));
+        assertMismatchDescription(expected, matcher, source(XML));
+    }
+
+    public void testDescribesTheMismatchOfAStreamThatHasBeenRead() {
+        final Matcher<Object> matcher = hasXPaths(hasXPath("//cheese", equalTo("Brie")));
+        final InputStream stream = stream(XML);
+        assertFalse(matcher.matches(stream));
+
+        final StringDescription description = new StringDescription();
+        matcher.describeMismatch(stream, description);
+        assertEquals("XPath //cheese was \"Edam\"", description.toString());
+    }
+
+    public void testDescribesItself() {
+        assertDescription("an XML document with XPath /a \"x\" and XPath //b",
+                hasXPaths(hasXPath("/a", equalTo("x")), hasXPathInStream("//b")));
+    }
+
+    public void testRejectsOtherMatchersAndExpressionsThatCannotBeStreamed() {
+        try {
+            hasXPaths(equalTo("not an XPath matcher"));
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // expected exception
+        }
+        try {
+            hasXPaths(hasXPath("count(//cheese)", equalTo("3")));
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // expected exception
+        }
+    }
+
+    public void testMatchesNoExpressionsTrivially() throws Exception {
+        assertMatches("no expressions", hasXPaths(Collections.<Matcher<?>>emptyList()), dom(XML));
+    }
+
+    private static String stringValueOf(String expression, Document document) throws Exception {
+        return javax.xml.xpath.XPathFactory.newInstance().newXPath().evaluate(expression, document);
+    }
+
+    private static Document dom(String xml) throws Exception {
+        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        return factory.newDocumentBuilder().parse(new ByteArrayInputStream(xml.getBytes("UTF-8")));
+    }
+
+    private static Source source(String xml) {
+        return new StreamSource(new StringReader(xml));
+    }
+
+    private static InputStream stream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes());
+    }
+}